@@ -3,6 +3,7 @@ package amidst;
 import java.util.prefs.Preferences;
 
 import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.world.Dimension;
@@ -34,6 +35,8 @@ public class AmidstSettings {
 	public final Setting<Boolean> showFPS;
 	public final Setting<Boolean> showScale;
 	public final Setting<Boolean> showDebug;
+	public final Setting<Integer> prefetchedFragments;
+	public final Setting<Integer> fragmentCacheBudget;
 
 	public final Setting<String> lastProfile;
 	public final Setting<String> worldType;
@@ -43,8 +46,11 @@ public class AmidstSettings {
 	 */
 	public final BiomeProfileSelection biomeProfileSelection;
 
+	private final Preferences preferences;
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public AmidstSettings(Preferences preferences) {
+		this.preferences = preferences;
 		// @formatter:off
 		dimension                  = Settings.createDimension(preferences, "dimension",            Dimension.OVERWORLD);
 		showGrid                   = Settings.createBoolean(  preferences, "grid",                 false);
@@ -66,10 +72,22 @@ public class AmidstSettings {
 		showFPS                    = Settings.createBoolean(  preferences, "showFPS",              true);
 		showScale                  = Settings.createBoolean(  preferences, "showScale",            true);
 		showDebug                  = Settings.createBoolean(  preferences, "showDebug",            false);
+		prefetchedFragments        = Settings.createInteger(  preferences, "prefetchedFragments",  2);
+		fragmentCacheBudget        = Settings.createInteger(  preferences, "fragmentCacheBudget",  256);
 	
 		lastProfile                = Settings.createString(   preferences, "profile",              "");
 		worldType                  = Settings.createString(   preferences, "worldType",            WorldType.PROMPT_EACH_TIME);
 		biomeProfileSelection = new BiomeProfileSelection(BiomeProfile.getDefaultProfile());
 		// @formatter:on
 	}
+
+	/**
+	 * The listener is called by the preference event dispatch thread whenever
+	 * a persisted setting is set. This does not include the biome profile
+	 * selection.
+	 */
+	@CalledByAny
+	public void addChangeListener(Runnable listener) {
+		preferences.addPreferenceChangeListener(e -> listener.run());
+	}
 }
@@ -26,6 +26,18 @@ public class CommandLineParameters {
 	@Option(name = "-history",                usage = "location of the seed history file",                   metaVar = "<file>")
 	public volatile String seedHistoryFile;
 
+	@Option(name = "-biome-cache",            usage = "location of the directory that persistently caches generated biome data", metaVar = "<directory>")
+	public volatile String biomeCacheDirectory;
+
+	@Option(name = "-biome-threads",          usage = "number of minecraft instances that generate biome data in parallel", metaVar = "<count>")
+	public volatile int biomeThreads = 1;
+
+	@Option(name = "-biome-workers",          usage = "number of separate processes that generate biome data, replaces -biome-threads", metaVar = "<count>")
+	public volatile int biomeWorkers = 0;
+
+	@Option(name = "-fragment-threads",       usage = "number of threads that load fragments in parallel",   metaVar = "<count>")
+	public volatile int fragmentThreads = 1;
+
 	@Option(name = "-log",                    usage = "location of the log file",                            metaVar = "<file>")
 	public volatile String logFile;
 	
@@ -27,6 +27,8 @@ import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.PlayerInformationCache;
 import amidst.mojangapi.file.PlayerInformationProvider;
 import amidst.mojangapi.file.VersionListProvider;
+import amidst.mojangapi.minecraftinterface.BiomeTileStoreDirectory;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
 import amidst.mojangapi.world.SeedHistoryLogger;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.WorldBuilder;
@@ -43,6 +45,8 @@ public class PerApplicationInjector {
 	private final MinecraftInstallation minecraftInstallation;
 	private final Optional<LauncherProfile> preferredLauncherProfile;
 	private final WorldBuilder worldBuilder;
+	private final BiomeTileStoreDirectory biomeTileStoreDirectory;
+	private final MinecraftInterfaceMetrics minecraftInterfaceMetrics;
 	private final LauncherProfileRunner launcherProfileRunner;
 	private final BiomeProfileDirectory biomeProfileDirectory;
 	private final ThreadMaster threadMaster;
@@ -67,14 +71,29 @@ public class PerApplicationInjector {
 		this.preferredLauncherProfile = minecraftInstallation
 				.tryReadLauncherProfile(parameters.minecraftJarFile, parameters.minecraftJsonFile);
 		this.worldBuilder = new WorldBuilder(playerInformationProvider, seedHistoryLogger);
-		this.launcherProfileRunner = new LauncherProfileRunner(worldBuilder);
+		this.biomeTileStoreDirectory = BiomeTileStoreDirectory.create(parameters.biomeCacheDirectory);
+		this.minecraftInterfaceMetrics = MinecraftInterfaceMetrics.createRegistered();
+		this.launcherProfileRunner = new LauncherProfileRunner(
+				worldBuilder,
+				parameters.biomeThreads,
+				parameters.biomeWorkers,
+				biomeTileStoreDirectory,
+				minecraftInterfaceMetrics);
 		this.biomeProfileDirectory = BiomeProfileDirectory.create(parameters.biomeProfilesDirectory);
-		this.threadMaster = new ThreadMaster();
+		this.threadMaster = new ThreadMaster(parameters.fragmentThreads);
+		settings.addChangeListener(threadMaster::requestFragmentLoad);
+		settings.addChangeListener(threadMaster::requestRepaint);
 		this.versionListProvider = VersionListProvider
 				.createLocalAndStartDownloadingRemote(threadMaster.getWorkerExecutor());
 		this.layerBuilder = new LayerBuilder();
 		this.zoom = new Zoom(settings.maxZoom);
-		this.fragmentManager = new FragmentManager(layerBuilder.getConstructors(), layerBuilder.getNumberOfLayers());
+		this.fragmentManager = new FragmentManager(
+				layerBuilder.getConstructors(),
+				layerBuilder.getNumberOfLayers(),
+				settings.fragmentCacheBudget,
+				threadMaster.getFragmentLoaderWorkerExecutorService(),
+				threadMaster.getNumberOfFragmentLoaderWorkers(),
+				threadMaster::requestFragmentLoad);
 		this.biomeSelection = new BiomeSelection();
 		this.application = new Application(
 				preferredLauncherProfile,
@@ -130,11 +149,12 @@ public class PerApplicationInjector {
 	private ViewerFacade createViewerFacade(World world, Actions actions) {
 		return new PerViewerFacadeInjector(
 				settings,
-				threadMaster.getWorkerExecutor(),
+				threadMaster,
 				zoom,
 				layerBuilder,
 				fragmentManager,
 				biomeSelection,
+				minecraftInterfaceMetrics,
 				world,
 				actions).getViewerFacade();
 	}
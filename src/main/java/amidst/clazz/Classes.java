@@ -31,13 +31,29 @@ public enum Classes {
 			JarFileParsingException,
 			SymbolicClassGraphCreationException,
 			ClassNotFoundException {
+		return createSymbolicClassMap(translateJarFile(jarFile, translator), classLoader);
+	}
+
+	/**
+	 * The result can be used to load the same classes into several class
+	 * loaders without reading and translating the jar file again.
+	 */
+	public static Map<SymbolicClassDeclaration, String> translateJarFile(File jarFile, ClassTranslator translator)
+			throws FileNotFoundException,
+			JarFileParsingException,
+			ClassNotFoundException {
 		AmidstLogger.info("Reading " + jarFile.getName());
 		List<RealClass> realClasses = RealClasses.fromJarFile(jarFile);
 		AmidstLogger.info("Jar load complete.");
 		AmidstLogger.info("Searching for classes...");
-		Map<SymbolicClassDeclaration, String> realClassNamesBySymbolicClassDeclaration = translator
-				.translate(realClasses);
+		Map<SymbolicClassDeclaration, String> result = translator.translate(realClasses);
 		AmidstLogger.info("Class search complete.");
+		return result;
+	}
+
+	public static Map<String, SymbolicClass> createSymbolicClassMap(
+			Map<SymbolicClassDeclaration, String> realClassNamesBySymbolicClassDeclaration,
+			URLClassLoader classLoader) throws SymbolicClassGraphCreationException {
 		AmidstLogger.info("Loading classes...");
 		Map<String, SymbolicClass> result = SymbolicClasses.from(realClassNamesBySymbolicClassDeclaration, classLoader);
 		AmidstLogger.info("Classes loaded.");
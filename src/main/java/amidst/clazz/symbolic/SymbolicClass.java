@@ -1,5 +1,7 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
@@ -59,6 +61,15 @@ public class SymbolicClass {
 		return fieldsBySymbolicName.get(symbolicName) != null;
 	}
 
+	/**
+	 * Returns the method handle of the method, adapted to the given type. This
+	 * allows the caller to use {@link MethodHandle#invokeExact(Object...)}
+	 * without boxing the parameters or the return value.
+	 */
+	public MethodHandle getMethodHandle(String symbolicName, MethodType methodType) {
+		return methodsBySymbolicName.get(symbolicName).getMethodHandle().asType(methodType);
+	}
+
 	public SymbolicObject callConstructor(String symbolicName, Object... parameters)
 			throws InstantiationException,
 			IllegalAccessException,
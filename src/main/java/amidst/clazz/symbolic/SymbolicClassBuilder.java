@@ -1,5 +1,7 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -34,6 +36,8 @@ public class SymbolicClassBuilder {
 
 	private static final Map<String, Class<?>> PRIMITIVES_MAP = createPrimitivesMap();
 
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
 	private final Map<String, SymbolicConstructor> constructorsBySymbolicName = new HashMap<>();
 	private final Map<String, SymbolicMethod> methodsBySymbolicName = new HashMap<>();
 	private final Map<String, SymbolicField> fieldsBySymbolicName = new HashMap<>();
@@ -80,7 +84,7 @@ public class SymbolicClassBuilder {
 	public void addMethod(SymbolicMethodDeclaration declaration) throws SymbolicClassGraphCreationException {
 		try {
 			methodsBySymbolicName.put(declaration.getSymbolicName(), createMethod(declaration));
-		} catch (NoSuchMethodException | ClassNotFoundException e) {
+		} catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
 			declaration.handleMissing(e, product.getSymbolicName(), product.getRealName());
 		}
 	}
@@ -104,13 +108,15 @@ public class SymbolicClassBuilder {
 
 	private SymbolicMethod createMethod(SymbolicMethodDeclaration declaration)
 			throws ClassNotFoundException,
-			NoSuchMethodException {
+			NoSuchMethodException,
+			IllegalAccessException {
 		String symbolicName = declaration.getSymbolicName();
 		String realName = declaration.getRealName();
 		Class<?>[] parameterClasses = getParameterClasses(declaration.getParameters().getDeclarations());
 		Method method = getMethod(product.getClazz(), realName, parameterClasses);
+		MethodHandle methodHandle = LOOKUP.unreflect(method);
 		SymbolicClass returnType = getType(method.getReturnType());
-		return new SymbolicMethod(product, symbolicName, realName, method, returnType);
+		return new SymbolicMethod(product, symbolicName, realName, method, methodHandle, returnType);
 	}
 
 	private SymbolicField createField(SymbolicFieldDeclaration declaration) throws NoSuchFieldException {
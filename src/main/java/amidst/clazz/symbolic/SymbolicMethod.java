@@ -1,5 +1,6 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -11,6 +12,7 @@ public class SymbolicMethod {
 	private final String symbolicName;
 	private final String realName;
 	private final Method method;
+	private final MethodHandle methodHandle;
 	private final SymbolicClass returnType;
 
 	public SymbolicMethod(
@@ -18,11 +20,13 @@ public class SymbolicMethod {
 			String symbolicName,
 			String realName,
 			Method method,
+			MethodHandle methodHandle,
 			SymbolicClass returnType) {
 		this.parent = parent;
 		this.symbolicName = symbolicName;
 		this.realName = realName;
 		this.method = method;
+		this.methodHandle = methodHandle;
 		this.returnType = returnType;
 	}
 
@@ -34,6 +38,16 @@ public class SymbolicMethod {
 		return realName;
 	}
 
+	/**
+	 * The method handle is resolved once, when the symbolic class graph is
+	 * constructed. In contrast to the call methods, invoking it neither boxes
+	 * the parameters nor wraps the return value in a {@link SymbolicObject}.
+	 * Non-static methods take the object as first parameter.
+	 */
+	public MethodHandle getMethodHandle() {
+		return methodHandle;
+	}
+
 	public Object call(SymbolicObject symbolicObject, Object... parameters)
 			throws IllegalAccessException,
 			IllegalArgumentException,
@@ -1,5 +1,7 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 
 import amidst.documentation.Immutable;
@@ -41,6 +43,17 @@ public class SymbolicObject {
 		return type.callMethod(symbolicName, this, parameters);
 	}
 
+	/**
+	 * Returns the method handle of the method, bound to the contained object
+	 * and adapted to the given type. The type must not contain the object
+	 * itself.
+	 */
+	public MethodHandle bindMethodHandle(String symbolicName, MethodType methodType) {
+		return type
+				.getMethodHandle(symbolicName, methodType.insertParameterTypes(0, type.getClazz()))
+				.bindTo(object);
+	}
+
 	public Object getFieldValue(String symbolicName) throws IllegalArgumentException, IllegalAccessException {
 		return type.getFieldValue(symbolicName, this);
 	}
@@ -32,7 +32,10 @@ public enum AmidstThread {
 	 * This thread constantly loads, reloads and recycles fragments, because it
 	 * takes to long to do this in the EDT. Since this thread and the EDT
 	 * constantly read from and write to the fragments and fragment graph, extra
-	 * care must be used in this part of the application.
+	 * care must be used in this part of the application. If multiple fragment
+	 * loader workers are configured, this thread hands the fragments to them
+	 * and waits until they are loaded. The workers count as fragment loader
+	 * threads while they load a fragment.
 	 */
 	FRAGMENT_LOADER,
 
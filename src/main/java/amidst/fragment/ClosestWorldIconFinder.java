@@ -29,10 +29,15 @@ public class ClosestWorldIconFinder {
 		find();
 	}
 
+	/**
+	 * Super-fragments have no world icons.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void find() {
-		for (FragmentGraphItem fragmentGraphItem : graph) {
-			Fragment fragment = fragmentGraphItem.getFragment();
+		if (graph.getLevelOfDetail() > 0) {
+			return;
+		}
+		for (Fragment fragment : graph) {
 			for (LayerDeclaration declaration : declarations) {
 				if (declaration.isVisible()) {
 					int layerId = declaration.getLayerId();
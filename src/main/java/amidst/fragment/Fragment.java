@@ -3,6 +3,7 @@ package amidst.fragment;
 import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import amidst.documentation.AmidstThread;
@@ -54,39 +55,55 @@ import amidst.mojangapi.world.oracle.EndIsland;
  * longer visible on the screen it will be removed from the fragment graph.
  * However, since it holds a data-structure that is quite heavy to allocate and
  * garbage-collect, the fragment will be recycled so it can be reused later.
- * This recycling is done by enqueuing the fragment to the recycle queue. The
- * recycle queue is processed by the fragment loading thread with a very high
- * priority. Even tough the fragment loading thread only calls the method
- * {@link Fragment#recycle()} and enqueues the fragment to the available queue,
- * it is important that this is done by the fragment loading queue. This is,
- * because if any other thread sets the isLoaded variable to false, it might be
- * set to true by the fragment loading thread afterwards, because the fragment
- * was not yet loaded. This problem is solved by modifying the isLoaded variable
- * only in the fragment loading thread. This issue only arises, since the
- * fragment is already used in the fragment graph, before it is loaded. As soon
- * as it is used in the fragment graph it, can be recycled. This often leads to
- * a situation where a not yet loaded fragment gets recycled. The isInitialized
- * variable is altered by the thread that requests the new fragment, which is
- * different from the fragment loading thread. This is not an issue, since all
- * fragments in the available queue have both variables isInitialized and
- * isLoaded set to false. They are also not used in the fragment graph or
- * enqueued in the recycle queue. Therefore, there cannot be a race condition
- * because the isInitialized variable will only be set to false when it is
- * recycled.
+ * A loaded fragment is first retained by the fragment manager, so it can be
+ * returned to the fragment graph without loading it again, until it is evicted
+ * from the retained fragments. Retained fragments are not reloaded when the
+ * layers change. Instead, they are marked as stale and recycled when they are
+ * claimed again. This recycling is done by enqueuing the fragment to the
+ * recycle queue. The recycle queue is processed by the fragment loading thread
+ * with a very high priority. Even tough the fragment loading thread only calls
+ * the method {@link Fragment#recycle()} and enqueues the fragment to the
+ * available queue, it is important that this is done by the fragment loading
+ * queue. This is, because if any other thread sets the isLoaded variable to
+ * false, it might be set to true by the fragment loading thread afterwards,
+ * because the fragment was not yet loaded. This problem is solved by modifying
+ * the isLoaded variable only in the fragment loading thread. This issue only
+ * arises, since the fragment is already used in the fragment graph, before it
+ * is loaded. As soon as it is used in the fragment graph it, can be recycled.
+ * This often leads to a situation where a not yet loaded fragment gets
+ * recycled. The isInitialized variable is altered by the thread that requests
+ * the new fragment, which is different from the fragment loading thread. This
+ * is not an issue, since all fragments in the available queue have both
+ * variables isInitialized and isLoaded set to false. They are also not used in
+ * the fragment graph or enqueued in the recycle queue. Therefore, there cannot
+ * be a race condition because the isInitialized variable will only be set to
+ * false when it is recycled.
+ * 
+ * The fragment loading thread can use additional workers to load multiple
+ * fragments in parallel. Each fragment is only loaded by one worker at a time
+ * and the recycle queue is not processed while the workers are loading, so the
+ * rules above still hold for each single fragment.
  */
 @NotThreadSafe
 public class Fragment {
 	public static final int SIZE = Resolution.FRAGMENT.getStep();
 
+	private static final int NOT_RETAINED = 0;
+	private static final int RETAINED = 1;
+	private static final int STALE = 2;
+
 	private volatile boolean isInitialized = false;
 	private volatile boolean isLoaded = false;
+	private volatile int epoch = 0;
 	private volatile CoordinatesInWorld corner;
+	private volatile int levelOfDetail = 0;
 
 	private volatile float alpha;
 	private volatile short[][] biomeData;
 	private volatile List<EndIsland> endIslands;
 	private final AtomicReferenceArray<BufferedImage> images;
 	private final AtomicReferenceArray<List<WorldIcon>> worldIcons;
+	private final AtomicInteger retainedState = new AtomicInteger(NOT_RETAINED);
 
 	public Fragment(int numberOfLayers) {
 		this.images = new AtomicReferenceArray<>(numberOfLayers);
@@ -107,7 +124,7 @@ public class Fragment {
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void populateBiomeData(BiomeDataOracle biomeDataOracle) {
-		biomeDataOracle.populateArray(corner, biomeData, true);
+		biomeDataOracle.populateArray(corner, biomeData, true, 1 << levelOfDetail);
 	}
 
 	public short getBiomeDataAt(int x, int y) {
@@ -122,10 +139,33 @@ public class Fragment {
 		return endIslands;
 	}
 
+	/**
+	 * An estimation of the memory that is used by the biome data and the
+	 * images of this fragment.
+	 */
+	public long getSizeInBytes() {
+		long result = 0;
+		short[][] biomeData = this.biomeData;
+		if (biomeData != null && biomeData.length > 0) {
+			result += (long) biomeData.length * biomeData[0].length * Short.BYTES;
+		}
+		for (int i = 0; i < images.length(); i++) {
+			BufferedImage image = images.get(i);
+			if (image != null) {
+				result += (long) image.getWidth() * image.getHeight() * image.getColorModel().getPixelSize() / 8;
+			}
+		}
+		return result;
+	}
+
 	public BufferedImage getAndSetImage(int layerId, BufferedImage image) {
 		return images.getAndSet(layerId, image);
 	}
 
+	public boolean compareAndSetImage(int layerId, BufferedImage expectedImage, BufferedImage image) {
+		return images.compareAndSet(layerId, expectedImage, image);
+	}
+
 	public void putImage(int layerId, BufferedImage image) {
 		images.set(layerId, image);
 	}
@@ -158,10 +198,36 @@ public class Fragment {
 		this.isLoaded = true;
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setRetained() {
+		retainedState.set(RETAINED);
+	}
+
+	/**
+	 * Returns false, if the fragment was marked as stale while it was
+	 * retained. In that case, it must not be used by the fragment graph again.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean claimRetained() {
+		return retainedState.compareAndSet(RETAINED, NOT_RETAINED);
+	}
+
+	/**
+	 * Returns true, if the fragment is retained and thus does not need to be
+	 * reloaded.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public boolean markStaleIfRetained() {
+		return retainedState.compareAndSet(RETAINED, STALE) || retainedState.get() == STALE;
+	}
+
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void recycle() {
+		// only the fragment loading thread writes the epoch
+		this.epoch++;
 		this.isLoaded = false;
 		this.isInitialized = false;
+		this.retainedState.set(NOT_RETAINED);
 	}
 
 	public boolean isInitialized() {
@@ -172,6 +238,15 @@ public class Fragment {
 		return isLoaded;
 	}
 
+	/**
+	 * The epoch is incremented each time the fragment is recycled. This
+	 * allows to detect outdated references to the fragment, e.g. in the
+	 * loading queue.
+	 */
+	public int getEpoch() {
+		return epoch;
+	}
+
 	public void setCorner(CoordinatesInWorld corner) {
 		this.corner = corner;
 	}
@@ -179,4 +254,22 @@ public class Fragment {
 	public CoordinatesInWorld getCorner() {
 		return corner;
 	}
+
+	/**
+	 * A fragment with a level of detail greater than zero is a super-fragment.
+	 * It covers 2^levelOfDetail fragments in each direction, but it only
+	 * contains the biome data and images of a single fragment. Only the layers
+	 * that support this are loaded for super-fragments.
+	 */
+	public void setLevelOfDetail(int levelOfDetail) {
+		this.levelOfDetail = levelOfDetail;
+	}
+
+	public int getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
+	public int getSize() {
+		return SIZE << levelOfDetail;
+	}
 }
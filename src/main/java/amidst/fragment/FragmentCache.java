@@ -1,54 +1,85 @@
 package amidst.fragment;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.ThreadSafe;
 import amidst.fragment.constructor.FragmentConstructor;
 import amidst.logging.AmidstLogger;
+import amidst.settings.Setting;
 
+/**
+ * The cache grows whenever no fragment is available, even if this exceeds the
+ * memory budget, because the fragment graph needs the fragment anyway.
+ * However, while the cache exceeds the memory budget it only grows by one
+ * fragment at a time and the fragment loading thread releases the fragments
+ * in the available queue to the garbage collection.
+ */
 @ThreadSafe
 public class FragmentCache {
-	private static final int NEW_FRAGMENTS_PER_REQUEST = 1024;
+	private static final int NEW_FRAGMENTS_PER_REQUEST = 64;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
 
-	private final List<Fragment> cache = new LinkedList<>();
+	private final Set<Fragment> cache = Collections.newSetFromMap(new IdentityHashMap<>());
 	private volatile int cacheSize = 0;
+	private volatile long cacheSizeInBytes = 0;
 
 	private final ConcurrentLinkedQueue<Fragment> availableQueue;
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue;
+	private final FragmentLoadingQueue loadingQueue;
 	private final Iterable<FragmentConstructor> constructors;
 	private final int numberOfLayers;
+	private final Setting<Integer> budgetInMegabytesSetting;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public FragmentCache(
 			ConcurrentLinkedQueue<Fragment> availableQueue,
-			ConcurrentLinkedQueue<Fragment> loadingQueue,
+			FragmentLoadingQueue loadingQueue,
 			Iterable<FragmentConstructor> constructors,
-			int numberOfLayers) {
+			int numberOfLayers,
+			Setting<Integer> budgetInMegabytesSetting) {
 		this.availableQueue = availableQueue;
 		this.loadingQueue = loadingQueue;
 		this.constructors = constructors;
 		this.numberOfLayers = numberOfLayers;
+		this.budgetInMegabytesSetting = budgetInMegabytesSetting;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public synchronized void increaseSize() {
+		int numberOfNewFragments = getNumberOfNewFragments();
 		AmidstLogger.info(
 				"increasing fragment cache size from " + cache.size() + " to "
-						+ (cache.size() + NEW_FRAGMENTS_PER_REQUEST));
-		requestNewFragments();
+						+ (cache.size() + numberOfNewFragments));
+		requestNewFragments(numberOfNewFragments);
 		AmidstLogger.info("fragment cache size increased to " + cache.size());
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private void requestNewFragments() {
-		for (int i = 0; i < NEW_FRAGMENTS_PER_REQUEST; i++) {
+	private int getNumberOfNewFragments() {
+		if (cache.isEmpty()) {
+			return NEW_FRAGMENTS_PER_REQUEST;
+		}
+		long bytesPerFragment = cacheSizeInBytes / cache.size();
+		long remainingBytes = getBudgetInBytes() - cacheSizeInBytes;
+		if (bytesPerFragment <= 0 || remainingBytes <= bytesPerFragment) {
+			return 1;
+		} else {
+			return (int) Math.min(NEW_FRAGMENTS_PER_REQUEST, remainingBytes / bytesPerFragment);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void requestNewFragments(int numberOfNewFragments) {
+		for (int i = 0; i < numberOfNewFragments; i++) {
 			Fragment fragment = new Fragment(numberOfLayers);
 			construct(fragment);
 			cache.add(fragment);
+			cacheSizeInBytes += fragment.getSizeInBytes();
 			availableQueue.offer(fragment);
 		}
 		cacheSize = cache.size();
@@ -61,16 +92,63 @@ public class FragmentCache {
 		}
 	}
 
+	/**
+	 * Only fragments in the available queue are released, so no fragment is
+	 * released while it is used by the fragment graph.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public void releaseIdleFragments() {
+		if (cacheSizeInBytes > getBudgetInBytes()) {
+			doReleaseIdleFragments();
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private synchronized void doReleaseIdleFragments() {
+		int previousSize = cache.size();
+		long budgetInBytes = getBudgetInBytes();
+		Fragment fragment;
+		while (cacheSizeInBytes > budgetInBytes && (fragment = availableQueue.poll()) != null) {
+			cache.remove(fragment);
+			cacheSizeInBytes -= fragment.getSizeInBytes();
+		}
+		cacheSize = cache.size();
+		if (cacheSize < previousSize) {
+			AmidstLogger.info("fragment cache size decreased from " + previousSize + " to " + cacheSize);
+		}
+	}
+
+	/**
+	 * Retained fragments are not visible, so they are only marked as stale
+	 * instead of being reloaded.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public synchronized void reloadAll() {
 		loadingQueue.clear();
 		for (Fragment fragment : cache) {
-			loadingQueue.offer(fragment);
+			if (!fragment.markStaleIfRetained()) {
+				loadingQueue.offer(fragment);
+			}
 		}
 	}
 
+	@CalledByAny
+	public long getBudgetInBytes() {
+		return budgetInMegabytesSetting.get() * BYTES_PER_MEGABYTE;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public int size() {
 		return cacheSize;
 	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getSizeInBytes() {
+		return cacheSizeInBytes;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getBudgetInMegabytes() {
+		return budgetInMegabytesSetting.get();
+	}
 }
@@ -1,6 +1,8 @@
 package amidst.fragment;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
@@ -8,16 +10,80 @@ import amidst.documentation.NotThreadSafe;
 import amidst.fragment.layer.LayerDeclaration;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.icon.WorldIcon;
-import amidst.util.Lazy;
 
+/**
+ * The fragments are stored in a two-dimensional ring buffer. The top left
+ * fragment is stored at the origin column and origin row of the buffer. Adding
+ * or removing a row or column only moves the origin and replaces the fragments
+ * of that row or column, so no memory is allocated unless the graph grows
+ * beyond the capacity of the buffer. This also allows to look up the fragment
+ * at given coordinates without searching the graph.
+ *
+ * When the level of detail is greater than zero, the graph consists of
+ * super-fragments, which cover 2^levelOfDetail fragments in each direction.
+ */
 @NotThreadSafe
-public class FragmentGraph implements Iterable<FragmentGraphItem> {
+public class FragmentGraph implements Iterable<Fragment> {
+	/**
+	 * This is an Iterator that is fail safe in the sense that it will never
+	 * throw a NullPointerException or ConcurrentModificationException when the
+	 * fragment graph is altered while the iterator is used. However, the
+	 * elements returned by this iterator will fit the old state or the new
+	 * state or something in between. This should be good enough for our use
+	 * cases.
+	 */
+	@NotThreadSafe
+	private static class FragmentGraphIterator implements Iterator<Fragment> {
+		private final Fragment[] fragments;
+		private final int capacityColumns;
+		private final int capacityRows;
+		private final int originColumn;
+		private final int originRow;
+		private final int columns;
+		private final int size;
+		private int index = 0;
+
+		public FragmentGraphIterator(FragmentGraph graph) {
+			this.fragments = graph.fragments;
+			this.capacityColumns = graph.capacityColumns;
+			this.capacityRows = graph.capacityRows;
+			this.originColumn = graph.originColumn;
+			this.originRow = graph.originRow;
+			this.columns = graph.fragmentsPerRow;
+			this.size = graph.fragmentsPerRow * graph.fragmentsPerColumn;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public Fragment next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int column = (originColumn + index % columns) % capacityColumns;
+			int row = (originRow + index / columns) % capacityRows;
+			index++;
+			return fragments[row * capacityColumns + column];
+		}
+	}
+
 	private final Iterable<LayerDeclaration> declarations;
 	private final FragmentManager fragmentManager;
 
+	private boolean isInitialized = false;
+	private int levelOfDetail = 0;
+	private int fragmentSize = Fragment.SIZE;
+	private CoordinatesInWorld corner;
 	private int fragmentsPerRow;
 	private int fragmentsPerColumn;
-	private final Lazy<FragmentGraphItem> topLeftFragment = Lazy.from(this::createOrigin);
+	private Fragment[] fragments = new Fragment[0];
+	private int capacityColumns = 0;
+	private int capacityRows = 0;
+	private int originColumn = 0;
+	private int originRow = 0;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public FragmentGraph(Iterable<LayerDeclaration> declarations, FragmentManager fragmentManager) {
@@ -27,38 +93,245 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void init(CoordinatesInWorld coordinates) {
-		topLeftFragment.setToValue(create(coordinates));
+		recycleAll();
+		ensureCapacity(1, 1);
+		corner = CoordinatesInWorld.from(toCorner(coordinates.getX()), toCorner(coordinates.getY()));
+		fragmentsPerRow = 1;
+		fragmentsPerColumn = 1;
+		request(0, 0);
+		isInitialized = true;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private FragmentGraphItem createOrigin() {
-		return create(CoordinatesInWorld.origin());
+	private long toCorner(long coordinate) {
+		return coordinate - Math.floorMod(coordinate, (long) fragmentSize);
 	}
 
+	/**
+	 * If the level of detail changes, the graph is initialized again with a
+	 * single fragment that contains the previous corner.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	private FragmentGraphItem create(CoordinatesInWorld coordinates) {
-		recycleAll();
-		fragmentsPerRow = 1;
-		fragmentsPerColumn = 1;
-		return new FragmentGraphItem(fragmentManager.requestFragment(coordinates.toFragmentCorner()));
+	public void setLevelOfDetail(int levelOfDetail) {
+		if (this.levelOfDetail != levelOfDetail) {
+			CoordinatesInWorld previousCorner = getCorner();
+			this.levelOfDetail = levelOfDetail;
+			this.fragmentSize = Fragment.SIZE << levelOfDetail;
+			init(previousCorner);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void ensureInitialized() {
+		if (!isInitialized) {
+			init(CoordinatesInWorld.origin());
+		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void adjust(int newLeft, int newAbove, int newRight, int newBelow) {
-		fragmentsPerRow = fragmentsPerRow + newLeft + newRight;
-		fragmentsPerColumn = fragmentsPerColumn + newAbove + newBelow;
-		topLeftFragment
-				.replaceWithValue(f -> f.adjustRowsAndColumns(newAbove, newBelow, newLeft, newRight, fragmentManager));
+		ensureInitialized();
+		ensureCapacity(
+				fragmentsPerRow + Math.max(0, newLeft) + Math.max(0, newRight),
+				fragmentsPerColumn + Math.max(0, newAbove) + Math.max(0, newBelow));
+		for (int i = 0; i < newAbove; i++) {
+			addRowAbove();
+		}
+		for (int i = 0; i < -newAbove; i++) {
+			removeRowAbove();
+		}
+		for (int i = 0; i < newBelow; i++) {
+			addRowBelow();
+		}
+		for (int i = 0; i < -newBelow; i++) {
+			removeRowBelow();
+		}
+		for (int i = 0; i < newLeft; i++) {
+			addColumnLeft();
+		}
+		for (int i = 0; i < -newLeft; i++) {
+			removeColumnLeft();
+		}
+		for (int i = 0; i < newRight; i++) {
+			addColumnRight();
+		}
+		for (int i = 0; i < -newRight; i++) {
+			removeColumnRight();
+		}
+	}
+
+	/**
+	 * The old buffer is not modified, so iterators that still use it stay
+	 * valid.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void ensureCapacity(int minColumns, int minRows) {
+		if (minColumns > capacityColumns || minRows > capacityRows) {
+			int newCapacityColumns = Math.max(minColumns, capacityColumns * 2);
+			int newCapacityRows = Math.max(minRows, capacityRows * 2);
+			Fragment[] newFragments = new Fragment[newCapacityColumns * newCapacityRows];
+			for (int row = 0; row < fragmentsPerColumn; row++) {
+				for (int column = 0; column < fragmentsPerRow; column++) {
+					newFragments[row * newCapacityColumns + column] = get(column, row);
+				}
+			}
+			fragments = newFragments;
+			capacityColumns = newCapacityColumns;
+			capacityRows = newCapacityRows;
+			originColumn = 0;
+			originRow = 0;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void addRowAbove() {
+		originRow = (originRow + capacityRows - 1) % capacityRows;
+		fragmentsPerColumn++;
+		corner = corner.add(0, -fragmentSize);
+		requestRow(0);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void removeRowAbove() {
+		recycleRow(0);
+		originRow = (originRow + 1) % capacityRows;
+		fragmentsPerColumn--;
+		corner = corner.add(0, fragmentSize);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void addRowBelow() {
+		fragmentsPerColumn++;
+		requestRow(fragmentsPerColumn - 1);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void removeRowBelow() {
+		recycleRow(fragmentsPerColumn - 1);
+		fragmentsPerColumn--;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void addColumnLeft() {
+		originColumn = (originColumn + capacityColumns - 1) % capacityColumns;
+		fragmentsPerRow++;
+		corner = corner.add(-fragmentSize, 0);
+		requestColumn(0);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void removeColumnLeft() {
+		recycleColumn(0);
+		originColumn = (originColumn + 1) % capacityColumns;
+		fragmentsPerRow--;
+		corner = corner.add(fragmentSize, 0);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void addColumnRight() {
+		fragmentsPerRow++;
+		requestColumn(fragmentsPerRow - 1);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void removeColumnRight() {
+		recycleColumn(fragmentsPerRow - 1);
+		fragmentsPerRow--;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void requestRow(int row) {
+		for (int column = 0; column < fragmentsPerRow; column++) {
+			request(column, row);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void requestColumn(int column) {
+		for (int row = 0; row < fragmentsPerColumn; row++) {
+			request(column, row);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void recycleRow(int row) {
+		for (int column = 0; column < fragmentsPerRow; column++) {
+			fragmentManager.recycleFragment(get(column, row));
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void recycleColumn(int column) {
+		for (int row = 0; row < fragmentsPerColumn; row++) {
+			fragmentManager.recycleFragment(get(column, row));
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void request(int column, int row) {
+		CoordinatesInWorld fragmentCorner = corner.add((long) column * fragmentSize, (long) row * fragmentSize);
+		set(column, row, fragmentManager.requestFragment(fragmentCorner, levelOfDetail));
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private Fragment get(int column, int row) {
+		return fragments[getIndex(column, row)];
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void set(int column, int row, Fragment fragment) {
+		fragments[getIndex(column, row)] = fragment;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int getIndex(int column, int row) {
+		return ((originRow + row) % capacityRows) * capacityColumns + (originColumn + column) % capacityColumns;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setLoadingFocus(CoordinatesInWorld coordinates) {
+		fragmentManager.setLoadingFocus(coordinates);
+	}
+
+	/**
+	 * Prefetches the fragments with the given corners, which should be just
+	 * outside of this graph.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void prefetch(Collection<CoordinatesInWorld> corners) {
+		fragmentManager.prefetchFragments(corners, levelOfDetail);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		recycleAll();
+		fragmentManager.recycleRetainedFragments();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void recycleAll() {
-		topLeftFragment.ifInitialized(f -> f.recycleAll(fragmentManager));
+		fragmentManager.cancelPrefetching();
+		if (isInitialized) {
+			for (int row = 0; row < fragmentsPerColumn; row++) {
+				recycleRow(row);
+			}
+			fragmentsPerRow = 0;
+			fragmentsPerColumn = 0;
+			isInitialized = false;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
+	/**
+	 * The size of each fragment of this graph in world coordinates.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getFragmentSize() {
+		return fragmentSize;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -73,13 +346,19 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public CoordinatesInWorld getCorner() {
-		return topLeftFragment.getOrCreateValue().getFragment().getCorner();
+		ensureInitialized();
+		return corner;
 	}
 
+	/**
+	 * The fragments are returned row by row, starting with the top left
+	 * fragment.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
-	public Iterator<FragmentGraphItem> iterator() {
-		return topLeftFragment.getOrCreateValue().iterator();
+	public Iterator<Fragment> iterator() {
+		ensureInitialized();
+		return new FragmentGraphIterator(this);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -89,13 +368,13 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public Fragment getFragmentAt(CoordinatesInWorld coordinates) {
-		CoordinatesInWorld corner = coordinates.toFragmentCorner();
-		for (FragmentGraphItem fragmentGraphItem : topLeftFragment.getOrCreateValue()) {
-			Fragment fragment = fragmentGraphItem.getFragment();
-			if (corner.equals(fragment.getCorner())) {
-				return fragment;
-			}
+		CoordinatesInWorld topLeft = getCorner();
+		long column = Math.floorDiv(coordinates.getX() - topLeft.getX(), (long) fragmentSize);
+		long row = Math.floorDiv(coordinates.getY() - topLeft.getY(), (long) fragmentSize);
+		if (column >= 0 && column < fragmentsPerRow && row >= 0 && row < fragmentsPerColumn) {
+			return get((int) column, (int) row);
+		} else {
+			return null;
 		}
-		return null;
 	}
 }
@@ -0,0 +1,143 @@
+package amidst.fragment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+
+/**
+ * The fragments are loaded ordered by the distance of their center to the
+ * focus, which is the center of the viewer. Fragments can be offered by any
+ * thread. They are moved to the priority queue by the fragment loading thread.
+ * The priorities are only recalculated when the focus moved by at least the
+ * size of a fragment, so scrolling does not cause a recalculation for each
+ * frame. Each entry remembers the epoch of the fragment at the time it was
+ * offered, so entries of fragments that were recycled in the meantime are
+ * skipped when they are polled, instead of being searched and removed when the
+ * fragment is recycled. Prefetched fragments are only loaded when no other
+ * fragment is waiting.
+ */
+@ThreadSafe
+public class FragmentLoadingQueue {
+	@NotThreadSafe
+	private static class Entry implements Comparable<Entry> {
+		private final Fragment fragment;
+		private final int epoch;
+		private final boolean isPrefetched;
+		private long distanceSq;
+
+		private Entry(Fragment fragment, boolean isPrefetched) {
+			this.fragment = fragment;
+			this.epoch = fragment.getEpoch();
+			this.isPrefetched = isPrefetched;
+		}
+
+		private boolean isCurrent() {
+			return fragment.getEpoch() == epoch && fragment.isInitialized();
+		}
+
+		private void updateDistance(CoordinatesInWorld focus) {
+			CoordinatesInWorld corner = fragment.getCorner();
+			int halfSize = fragment.getSize() / 2;
+			long dx = corner.getX() + halfSize - focus.getX();
+			long dy = corner.getY() + halfSize - focus.getY();
+			distanceSq = dx * dx + dy * dy;
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			if (isPrefetched != o.isPrefetched) {
+				return isPrefetched ? 1 : -1;
+			}
+			return Long.compare(distanceSq, o.distanceSq);
+		}
+	}
+
+	private final ConcurrentLinkedQueue<Entry> offered = new ConcurrentLinkedQueue<>();
+	private volatile CoordinatesInWorld focus = CoordinatesInWorld.origin();
+	private volatile int prioritizedSize = 0;
+
+	private PriorityQueue<Entry> prioritized = new PriorityQueue<>();
+	private CoordinatesInWorld prioritizedFocus = focus;
+
+	@CalledByAny
+	public void offer(Fragment fragment) {
+		offered.offer(new Entry(fragment, false));
+	}
+
+	@CalledByAny
+	public void offerPrefetched(Fragment fragment) {
+		offered.offer(new Entry(fragment, true));
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setFocus(CoordinatesInWorld focus) {
+		this.focus = focus;
+	}
+
+	/**
+	 * Returns the initialized fragment that is closest to the focus and was not
+	 * recycled since it was offered or null, if there is no such fragment.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public Fragment poll() {
+		CoordinatesInWorld currentFocus = focus;
+		reprioritizeIfNecessary(currentFocus);
+		moveOfferedEntries(currentFocus);
+		Entry entry;
+		while ((entry = prioritized.poll()) != null) {
+			if (entry.isCurrent()) {
+				prioritizedSize = prioritized.size();
+				return entry.fragment;
+			}
+		}
+		prioritizedSize = 0;
+		return null;
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void reprioritizeIfNecessary(CoordinatesInWorld currentFocus) {
+		if (Math.abs(currentFocus.getX() - prioritizedFocus.getX()) >= Fragment.SIZE
+				|| Math.abs(currentFocus.getY() - prioritizedFocus.getY()) >= Fragment.SIZE) {
+			List<Entry> entries = new ArrayList<>(prioritized.size());
+			for (Entry entry : prioritized) {
+				if (entry.isCurrent()) {
+					entry.updateDistance(currentFocus);
+					entries.add(entry);
+				}
+			}
+			prioritized = new PriorityQueue<>(entries);
+			prioritizedFocus = currentFocus;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void moveOfferedEntries(CoordinatesInWorld currentFocus) {
+		Entry entry;
+		while ((entry = offered.poll()) != null) {
+			if (entry.isCurrent()) {
+				entry.updateDistance(currentFocus);
+				prioritized.offer(entry);
+			}
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public void clear() {
+		offered.clear();
+		prioritized.clear();
+		prioritizedSize = 0;
+	}
+
+	@CalledByAny
+	public int size() {
+		return offered.size() + prioritizedSize;
+	}
+}
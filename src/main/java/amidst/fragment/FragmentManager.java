@@ -1,6 +1,12 @@
 package amidst.fragment;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
@@ -11,44 +17,257 @@ import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.settings.Setting;
 
+/**
+ * Loaded fragments that are recycled by the fragment graph are retained
+ * instead of being recycled immediately. When the fragment graph requests a
+ * retained fragment again, it is returned without being loaded again. The
+ * retained fragments are evicted in least recently used order, as soon as they
+ * use more than half of the fragment cache budget. Retained fragments that
+ * became stale, because the layers were reloaded, are recycled when they are
+ * requested again. A fragment and a super-fragment can have the same corner,
+ * so the retained fragments are identified by their corner and their level of
+ * detail.
+ */
 @NotThreadSafe
 public class FragmentManager {
+	private static final int RETAINED_BUDGET_DIVISOR = 2;
+
+	private static class RetainedKey {
+		private final CoordinatesInWorld corner;
+		private final int levelOfDetail;
+
+		public RetainedKey(CoordinatesInWorld corner, int levelOfDetail) {
+			this.corner = corner;
+			this.levelOfDetail = levelOfDetail;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * corner.hashCode() + levelOfDetail;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof RetainedKey)) {
+				return false;
+			}
+			RetainedKey other = (RetainedKey) obj;
+			return levelOfDetail == other.levelOfDetail && corner.equals(other.corner);
+		}
+	}
+
 	private final ConcurrentLinkedQueue<Fragment> availableQueue = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue = new ConcurrentLinkedQueue<>();
+	private final FragmentLoadingQueue loadingQueue = new FragmentLoadingQueue();
 	private final ConcurrentLinkedQueue<Fragment> recycleQueue = new ConcurrentLinkedQueue<>();
+	private final Map<CoordinatesInWorld, Fragment> prefetchedFragments = new HashMap<>();
+	private final LinkedHashMap<RetainedKey, Fragment> retainedFragments = new LinkedHashMap<>(16, 0.75f, true);
+	private long retainedSizeInBytes = 0;
 	private final FragmentCache cache;
+	private final ExecutorService fragmentLoaderWorkerExecutorService;
+	private final int numberOfFragmentLoaderWorkers;
+	private final Runnable requestFragmentLoad;
 
+	/**
+	 * The fragment loader only runs when it is requested, so requestFragmentLoad
+	 * is called whenever a fragment is offered to the loading queue or to the
+	 * recycle queue.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentManager(Iterable<FragmentConstructor> constructors, int numberOfLayers) {
-		this.cache = new FragmentCache(availableQueue, loadingQueue, constructors, numberOfLayers);
+	public FragmentManager(
+			Iterable<FragmentConstructor> constructors,
+			int numberOfLayers,
+			Setting<Integer> cacheBudgetInMegabytesSetting,
+			ExecutorService fragmentLoaderWorkerExecutorService,
+			int numberOfFragmentLoaderWorkers,
+			Runnable requestFragmentLoad) {
+		this.cache = new FragmentCache(
+				availableQueue,
+				loadingQueue,
+				constructors,
+				numberOfLayers,
+				cacheBudgetInMegabytesSetting);
+		this.fragmentLoaderWorkerExecutorService = fragmentLoaderWorkerExecutorService;
+		this.numberOfFragmentLoaderWorkers = numberOfFragmentLoaderWorkers;
+		this.requestFragmentLoad = requestFragmentLoad;
+	}
+
+	/**
+	 * If the fragment is retained, the retained fragment is returned without
+	 * enqueuing it. If the fragment was prefetched, the prefetched fragment is
+	 * returned. It is enqueued again, so it is loaded with the normal priority
+	 * if it is not loaded yet.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public Fragment requestFragment(CoordinatesInWorld coordinates, int levelOfDetail) {
+		Fragment fragment = claimRetainedFragment(coordinates, levelOfDetail);
+		if (fragment != null) {
+			return fragment;
+		}
+		fragment = prefetchedFragments.remove(coordinates);
+		if (fragment == null || fragment.getLevelOfDetail() != levelOfDetail) {
+			if (fragment != null) {
+				offerToRecycleQueue(fragment);
+			}
+			fragment = initializeFragment(coordinates, levelOfDetail);
+			offerToLoadingQueue(fragment);
+		} else if (!fragment.isLoaded()) {
+			offerToLoadingQueue(fragment);
+		}
+		return fragment;
 	}
 
+	/**
+	 * Requests the fragments at the given coordinates with a low priority, so
+	 * they are loaded before they are requested by the fragment graph.
+	 * Previously prefetched fragments that are not at the given coordinates
+	 * are recycled.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	public Fragment requestFragment(CoordinatesInWorld coordinates) {
+	public void prefetchFragments(Collection<CoordinatesInWorld> coordinates, int levelOfDetail) {
+		Iterator<Map.Entry<CoordinatesInWorld, Fragment>> iterator = prefetchedFragments.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<CoordinatesInWorld, Fragment> entry = iterator.next();
+			if (!coordinates.contains(entry.getKey()) || entry.getValue().getLevelOfDetail() != levelOfDetail) {
+				recycleFragment(entry.getValue());
+				iterator.remove();
+			}
+		}
+		for (CoordinatesInWorld corner : coordinates) {
+			if (!prefetchedFragments.containsKey(corner)
+					&& !retainedFragments.containsKey(new RetainedKey(corner, levelOfDetail))) {
+				Fragment fragment = initializeFragment(corner, levelOfDetail);
+				prefetchedFragments.put(corner, fragment);
+				offerPrefetchedToLoadingQueue(fragment);
+			}
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void cancelPrefetching() {
+		for (Fragment fragment : prefetchedFragments.values()) {
+			recycleFragment(fragment);
+		}
+		prefetchedFragments.clear();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private Fragment initializeFragment(CoordinatesInWorld coordinates, int levelOfDetail) {
 		Fragment fragment;
 		while ((fragment = availableQueue.poll()) == null) {
 			cache.increaseSize();
 		}
 		fragment.setCorner(coordinates);
+		fragment.setLevelOfDetail(levelOfDetail);
 		fragment.setInitialized();
-		loadingQueue.offer(fragment);
 		return fragment;
 	}
 
+	/**
+	 * The fragments that are closest to the given coordinates are loaded
+	 * first.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setLoadingFocus(CoordinatesInWorld coordinates) {
+		loadingQueue.setFocus(coordinates);
+	}
+
+	/**
+	 * Loaded fragments are retained, so they do not need to be loaded again
+	 * when the user returns to them. All other fragments are recycled.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void recycleFragment(Fragment fragment) {
+		if (fragment.isLoaded()) {
+			retainFragment(fragment);
+		} else {
+			offerToRecycleQueue(fragment);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void retainFragment(Fragment fragment) {
+		fragment.setRetained();
+		Fragment previous = retainedFragments
+				.put(new RetainedKey(fragment.getCorner(), fragment.getLevelOfDetail()), fragment);
+		retainedSizeInBytes += fragment.getSizeInBytes();
+		if (previous != null && previous != fragment) {
+			retainedSizeInBytes -= previous.getSizeInBytes();
+			offerToRecycleQueue(previous);
+		}
+		evictRetainedFragments(cache.getBudgetInBytes() / RETAINED_BUDGET_DIVISOR);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private Fragment claimRetainedFragment(CoordinatesInWorld coordinates, int levelOfDetail) {
+		Fragment fragment = retainedFragments.remove(new RetainedKey(coordinates, levelOfDetail));
+		if (fragment == null) {
+			return null;
+		}
+		retainedSizeInBytes -= fragment.getSizeInBytes();
+		if (fragment.claimRetained()) {
+			return fragment;
+		} else {
+			offerToRecycleQueue(fragment);
+			return null;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void evictRetainedFragments(long budgetInBytes) {
+		Iterator<Fragment> iterator = retainedFragments.values().iterator();
+		while (retainedSizeInBytes > budgetInBytes && iterator.hasNext()) {
+			Fragment fragment = iterator.next();
+			iterator.remove();
+			retainedSizeInBytes -= fragment.getSizeInBytes();
+			offerToRecycleQueue(fragment);
+		}
+	}
+
+	/**
+	 * This has to be called when the world is unloaded, because the retained
+	 * fragments belong to the world.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void recycleRetainedFragments() {
+		evictRetainedFragments(-1);
+		retainedSizeInBytes = 0;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void offerToLoadingQueue(Fragment fragment) {
+		loadingQueue.offer(fragment);
+		requestFragmentLoad.run();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void offerPrefetchedToLoadingQueue(Fragment fragment) {
+		loadingQueue.offerPrefetched(fragment);
+		requestFragmentLoad.run();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void offerToRecycleQueue(Fragment fragment) {
 		recycleQueue.offer(fragment);
+		requestFragmentLoad.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentQueueProcessor createQueueProcessor(LayerManager layerManager, Setting<Dimension> dimensionSetting) {
+	public FragmentQueueProcessor createQueueProcessor(
+			LayerManager layerManager,
+			Setting<Dimension> dimensionSetting,
+			Runnable requestRepaint) {
 		return new FragmentQueueProcessor(
 				availableQueue,
 				loadingQueue,
 				recycleQueue,
 				cache,
 				layerManager,
-				dimensionSetting);
+				dimensionSetting,
+				fragmentLoaderWorkerExecutorService,
+				numberOfFragmentLoaderWorkers,
+				requestRepaint);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -66,8 +285,23 @@ public class FragmentManager {
 		return recycleQueue.size();
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getRetainedFragmentsSize() {
+		return retainedFragments.size();
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public int getCacheSize() {
 		return cache.size();
 	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getCacheSizeInBytes() {
+		return cache.getSizeInBytes();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getCacheBudgetInMegabytes() {
+		return cache.getBudgetInMegabytes();
+	}
 }
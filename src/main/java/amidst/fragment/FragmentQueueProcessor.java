@@ -1,58 +1,99 @@
 package amidst.fragment;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.layer.LayerManager;
+import amidst.logging.AmidstLogger;
 import amidst.mojangapi.world.Dimension;
 import amidst.settings.Setting;
 
+/**
+ * If there is more than one fragment loader worker, the loading queue is
+ * processed in batches. All fragments of a batch are loaded in parallel by the
+ * workers, while the fragment loader thread waits for them to finish. The
+ * dimension, the layer invalidation and the recycle queue are only processed
+ * between two batches, so no fragment is recycled while it is loaded and all
+ * fragments of a batch see the same state of the layers. A repaint is requested
+ * after each batch, so the loaded fragments become visible as soon as possible,
+ * and after the queues are processed, because the layers might have changed.
+ */
 @NotThreadSafe
 public class FragmentQueueProcessor {
+	private static final int FRAGMENTS_PER_WORKER_AND_BATCH = 4;
+
 	private final ConcurrentLinkedQueue<Fragment> availableQueue;
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue;
+	private final FragmentLoadingQueue loadingQueue;
 	private final ConcurrentLinkedQueue<Fragment> recycleQueue;
 	private final FragmentCache cache;
 	private final LayerManager layerManager;
 	private final Setting<Dimension> dimensionSetting;
+	private final ExecutorService workerExecutorService;
+	private final int numberOfWorkers;
+	private final int batchSize;
+	private final Runnable requestRepaint;
 
 	@CalledByAny
 	public FragmentQueueProcessor(
 			ConcurrentLinkedQueue<Fragment> availableQueue,
-			ConcurrentLinkedQueue<Fragment> loadingQueue,
+			FragmentLoadingQueue loadingQueue,
 			ConcurrentLinkedQueue<Fragment> recycleQueue,
 			FragmentCache cache,
 			LayerManager layerManager,
-			Setting<Dimension> dimensionSetting) {
+			Setting<Dimension> dimensionSetting,
+			ExecutorService workerExecutorService,
+			int numberOfWorkers,
+			Runnable requestRepaint) {
 		this.availableQueue = availableQueue;
 		this.loadingQueue = loadingQueue;
 		this.recycleQueue = recycleQueue;
 		this.cache = cache;
 		this.layerManager = layerManager;
 		this.dimensionSetting = dimensionSetting;
+		this.workerExecutorService = workerExecutorService;
+		this.numberOfWorkers = numberOfWorkers;
+		this.batchSize = numberOfWorkers > 1 ? numberOfWorkers * FRAGMENTS_PER_WORKER_AND_BATCH : 1;
+		this.requestRepaint = requestRepaint;
 	}
 
 	/**
 	 * It is important that the dimension setting is the same while a fragment
 	 * is loaded by different fragment loaders. This is why the dimension
-	 * setting is read by the fragment loader thread.
+	 * setting is read by the fragment loader thread. If the fragment loader
+	 * thread is interrupted while it waits for a batch, this returns
+	 * immediately, because the cancelled workers might still load the
+	 * fragments of the batch, so they must not be recycled.
 	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void processQueues() {
 		Dimension dimension = dimensionSetting.get();
 		updateLayerManager(dimension);
 		processRecycleQueue();
-		Fragment fragment;
-		while ((fragment = loadingQueue.poll()) != null) {
-			loadFragment(dimension, fragment);
+		List<Fragment> batch;
+		while (!(batch = pollBatch()).isEmpty()) {
+			if (!loadFragments(dimension, batch)) {
+				return;
+			}
+			requestRepaint.run();
 			dimension = dimensionSetting.get();
 			updateLayerManager(dimension);
 			processRecycleQueue();
 		}
 		layerManager.clearInvalidatedLayers();
+		cache.releaseIdleFragments();
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -70,6 +111,67 @@ public class FragmentQueueProcessor {
 		}
 	}
 
+	/**
+	 * A fragment can be enqueued multiple times. It is only added once to the
+	 * batch, so it is never loaded by two workers at the same time.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private List<Fragment> pollBatch() {
+		List<Fragment> result = new ArrayList<>(batchSize);
+		Set<Fragment> polled = Collections.newSetFromMap(new IdentityHashMap<>());
+		Fragment fragment;
+		while (result.size() < batchSize && (fragment = loadingQueue.poll()) != null) {
+			if (polled.add(fragment)) {
+				result.add(fragment);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns false, if the fragment loader thread was interrupted.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private boolean loadFragments(Dimension dimension, List<Fragment> batch) {
+		if (numberOfWorkers > 1) {
+			return loadFragmentsInParallel(dimension, batch);
+		} else {
+			for (Fragment fragment : batch) {
+				loadFragment(dimension, fragment);
+			}
+			return true;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private boolean loadFragmentsInParallel(Dimension dimension, List<Fragment> batch) {
+		List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+		for (Fragment fragment : batch) {
+			tasks.add(() -> {
+				loadFragment(dimension, fragment);
+				return null;
+			});
+		}
+		try {
+			for (Future<Void> future : workerExecutorService.invokeAll(tasks)) {
+				waitFor(future);
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void waitFor(Future<Void> future) throws InterruptedException {
+		try {
+			future.get();
+		} catch (ExecutionException e) {
+			AmidstLogger.error(e.getCause(), "error while loading a fragment");
+		}
+	}
+
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void loadFragment(Dimension dimension, Fragment fragment) {
 		if (fragment.isInitialized()) {
@@ -82,20 +184,14 @@ public class FragmentQueueProcessor {
 		}
 	}
 
+	/**
+	 * The fragment is not removed from the loading queue. Recycling the
+	 * fragment increments its epoch, so the loading queue skips all entries
+	 * that were offered before.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void recycleFragment(Fragment fragment) {
 		fragment.recycle();
-		removeFromLoadingQueue(fragment);
 		availableQueue.offer(fragment);
 	}
-
-	// TODO: Check performance with and without this. It is not needed, since
-	// loadFragment checks for isInitialized(). It helps to keep the
-	// loadingQueue small, but it costs time to remove fragments from the queue.
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private void removeFromLoadingQueue(Object fragment) {
-		while (loadingQueue.remove(fragment)) {
-			// noop
-		}
-	}
 }
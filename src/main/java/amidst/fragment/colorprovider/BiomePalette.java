@@ -0,0 +1,78 @@
+package amidst.fragment.colorprovider;
+
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.ThreadSafe;
+import amidst.gui.main.viewer.BiomeSelection;
+import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeColor;
+import amidst.mojangapi.world.biome.UnknownBiomeIndexException;
+import amidst.settings.biomeprofile.BiomeProfileSelection;
+
+/**
+ * The biome images contain the biome index of each pixel. This palette maps
+ * the biome indexes to the colors of the current biome profile, taking the
+ * biome selection into account. When the biome selection or the biome profile
+ * changes, only the palette is updated, so the biome images do not need to be
+ * loaded again.
+ */
+@ThreadSafe
+public class BiomePalette {
+	private static final int SIZE = Biome.getBiomesLength();
+
+	private final BiomeSelection biomeSelection;
+	private final BiomeProfileSelection biomeProfileSelection;
+	private volatile IndexColorModel colorModel;
+
+	public BiomePalette(BiomeSelection biomeSelection, BiomeProfileSelection biomeProfileSelection) {
+		this.biomeSelection = biomeSelection;
+		this.biomeProfileSelection = biomeProfileSelection;
+		this.colorModel = createColorModel();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void update() {
+		colorModel = createColorModel();
+	}
+
+	@CalledByAny
+	public IndexColorModel getColorModel() {
+		return colorModel;
+	}
+
+	@CalledByAny
+	private IndexColorModel createColorModel() {
+		int[] rgbs = new int[SIZE];
+		for (int biomeIndex = 0; biomeIndex < SIZE; biomeIndex++) {
+			rgbs[biomeIndex] = getColor(biomeIndex);
+		}
+		return new IndexColorModel(8, SIZE, rgbs, 0, false, -1, DataBuffer.TYPE_BYTE);
+	}
+
+	@CalledByAny
+	private int getColor(int biomeIndex) {
+		BiomeColor biomeColor = getBiomeColor(biomeIndex);
+		if (biomeSelection.isSelected(biomeIndex)) {
+			return biomeColor.getRGB();
+		} else {
+			return biomeColor.getDeselectRGB();
+		}
+	}
+
+	/**
+	 * Most indexes do not belong to a biome, so this does not report unknown
+	 * biome indexes.
+	 */
+	@CalledByAny
+	private BiomeColor getBiomeColor(int biomeIndex) {
+		try {
+			return biomeProfileSelection.getBiomeColor(biomeIndex);
+		} catch (UnknownBiomeIndexException e) {
+			return BiomeColor.unknown();
+		}
+	}
+}
@@ -8,4 +8,24 @@ import amidst.mojangapi.world.Dimension;
 public interface ColorProvider {
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	int getColorAt(Dimension dimension, Fragment fragment, long cornerX, long cornerY, int x, int y);
+
+	/**
+	 * Fills the row-major rgbArray with the colors of the size x size pixels of
+	 * the fragment. Color providers that compute a value for several pixels at
+	 * once override this, the others are asked for each pixel.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	default void fillRegion(
+			Dimension dimension,
+			Fragment fragment,
+			long cornerX,
+			long cornerY,
+			int size,
+			int[] rgbArray) {
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				rgbArray[x + y * size] = getColorAt(dimension, fragment, cornerX, cornerY, x, y);
+			}
+		}
+	}
 }
@@ -1,6 +1,7 @@
 package amidst.fragment.colorprovider;
 
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.List;
 
 import amidst.ResourceLoader;
@@ -17,6 +18,14 @@ public class TheEndColorProvider implements ColorProvider {
 
 	private static final int TEXTURES_WIDTH = TEXTURES.getWidth();
 	private static final int TEXTURES_HEIGHT = TEXTURES.getHeight() >> 1;
+	private static final int[] END_STONE_TEXTURE = getTexture(0);
+	private static final int[] ROCKY_SHORES_TEXTURE = getTexture(TEXTURES_HEIGHT);
+
+	/**
+	 * The background layer has quarter resolution, so four pixels of a row
+	 * belong to the same chunk.
+	 */
+	private static final int PIXELS_PER_CHUNK = 4;
 
 	/**
 	 * INFLUENCE_FADE_FINISH must be lower than INFLUENCE_FADE_START, so that
@@ -26,35 +35,98 @@ public class TheEndColorProvider implements ColorProvider {
 	private static final float INFLUENCE_FADE_FINISH = -8;
 	private static final float INFLUENCE_FADE_RANGE = INFLUENCE_FADE_START - INFLUENCE_FADE_FINISH;
 
+	private static int[] getTexture(int top) {
+		return TEXTURES.getRGB(0, top, TEXTURES_WIDTH, TEXTURES_HEIGHT, null, 0, TEXTURES_WIDTH);
+	}
+
+	/**
+	 * The fragment is filled one chunk at a time. Only the islands that can
+	 * reach the chunk are considered for its pixels. If no island reaches the
+	 * chunk or one island covers all of it, its rows are copied or filled as a
+	 * whole.
+	 */
+	@Override
+	public void fillRegion(Dimension dimension, Fragment fragment, long cornerX, long cornerY, int size, int[] rgbArray) {
+		List<EndIsland> endIslands = fragment.getEndIslands();
+		EndIsland[] islandsNearChunk = new EndIsland[endIslands.size()];
+		for (int y = 0; y < size; y += PIXELS_PER_CHUNK) {
+			for (int x = 0; x < size; x += PIXELS_PER_CHUNK) {
+				fillChunk(cornerX + x, cornerY + y, x, y, size, endIslands, islandsNearChunk, rgbArray);
+			}
+		}
+	}
+
+	private void fillChunk(
+			long xAsQuarter,
+			long yAsQuarter,
+			int x,
+			int y,
+			int size,
+			List<EndIsland> endIslands,
+			EndIsland[] islandsNearChunk,
+			int[] rgbArray) {
+		int left = (int) (xAsQuarter << 2);
+		int top = (int) (yAsQuarter << 2);
+		int right = (int) ((xAsQuarter + PIXELS_PER_CHUNK - 1) << 2);
+		int bottom = (int) ((yAsQuarter + PIXELS_PER_CHUNK - 1) << 2);
+		boolean showRockyShores = showRockyShores(xAsQuarter >> 2, yAsQuarter >> 2);
+		int numberOfIslandsNearChunk = 0;
+		boolean isCoveredByIsland = false;
+		for (EndIsland island : endIslands) {
+			if (island.maxInfluenceAtBlocks(left, top, right, bottom) > INFLUENCE_FADE_FINISH) {
+				islandsNearChunk[numberOfIslandsNearChunk++] = island;
+				if (island.minInfluenceAtBlocks(left, top, right, bottom) >= INFLUENCE_FADE_START) {
+					isCoveredByIsland = true;
+					break;
+				}
+			}
+		}
+		int textureX = x % TEXTURES_WIDTH;
+		for (int i = 0; i < PIXELS_PER_CHUNK; i++) {
+			int index = x + (y + i) * size;
+			int textureY = (y + i) % TEXTURES_HEIGHT;
+			if (isCoveredByIsland) {
+				copyTextureRow(END_STONE_TEXTURE, textureX, textureY, rgbArray, index);
+			} else if (numberOfIslandsNearChunk == 0) {
+				if (showRockyShores) {
+					copyTextureRow(ROCKY_SHORES_TEXTURE, textureX, textureY, rgbArray, index);
+				} else {
+					Arrays.fill(rgbArray, index, index + PIXELS_PER_CHUNK, VOID_TRANSPARENT_BLACK);
+				}
+			} else {
+				for (int j = 0; j < PIXELS_PER_CHUNK; j++) {
+					float maxInfluence = getMaxInfluence(
+							(int) ((xAsQuarter + j) << 2),
+							(int) ((yAsQuarter + i) << 2),
+							islandsNearChunk,
+							numberOfIslandsNearChunk);
+					rgbArray[index + j] = getColorAt(maxInfluence, showRockyShores, textureX + j, textureY);
+				}
+			}
+		}
+	}
+
+	private void copyTextureRow(int[] texture, int textureX, int textureY, int[] rgbArray, int index) {
+		System.arraycopy(texture, textureX + textureY * TEXTURES_WIDTH, rgbArray, index, PIXELS_PER_CHUNK);
+	}
+
 	@Override
 	public int getColorAt(Dimension dimension, Fragment fragment, long cornerX, long cornerY, int x, int y) {
 		long xAsQuarter = cornerX + x;
 		long yAsQuarter = cornerY + y;
 		return getColorAt(
-				(int) (xAsQuarter << 2),
-				(int) (yAsQuarter << 2),
-				xAsQuarter >> 2,
-				yAsQuarter >> 2,
+				getMaxInfluence((int) (xAsQuarter << 2), (int) (yAsQuarter << 2), fragment.getEndIslands()),
+				showRockyShores(xAsQuarter >> 2, yAsQuarter >> 2),
 				(int) (x % TEXTURES_WIDTH),
-				(int) (y % TEXTURES_HEIGHT),
-				fragment.getEndIslands());
+				(int) (y % TEXTURES_HEIGHT));
 	}
 
-	private int getColorAt(
-			int x,
-			int y,
-			long chunkX,
-			long chunkY,
-			int textureX,
-			int textureY,
-			List<EndIsland> endIslands) {
-		// Determine whether this
-		float maxInfluence = getMaxInfluence(x, y, endIslands);
+	private int getColorAt(float maxInfluence, boolean showRockyShores, int textureX, int textureY) {
 		if (maxInfluence >= INFLUENCE_FADE_START) {
 			// Draw endstone island
 			return getEndStoneTextureAt(textureX, textureY);
 		} else {
-			return getFadingColorAt(chunkX, chunkY, textureX, textureY, maxInfluence);
+			return getFadingColorAt(showRockyShores, textureX, textureY, maxInfluence);
 		}
 	}
 
@@ -69,9 +141,20 @@ public class TheEndColorProvider implements ColorProvider {
 		return result;
 	}
 
-	private int getFadingColorAt(long chunkX, long chunkY, int textureX, int textureY, float maxInfluence) {
+	private float getMaxInfluence(int x, int y, EndIsland[] endIslands, int numberOfEndIslands) {
+		float result = -100.0f;
+		for (int i = 0; i < numberOfEndIslands; i++) {
+			float influence = endIslands[i].influenceAtBlock(x, y);
+			if (result < influence) {
+				result = influence;
+			}
+		}
+		return result;
+	}
+
+	private int getFadingColorAt(boolean showRockyShores, int textureX, int textureY, float maxInfluence) {
 		int result = VOID_TRANSPARENT_BLACK;
-		if (showRockyShores(chunkX, chunkY)) {
+		if (showRockyShores) {
 			result = getRockyShoresTextureAt(textureX, textureY);
 		}
 		if (maxInfluence > INFLUENCE_FADE_FINISH) {
@@ -100,7 +183,7 @@ public class TheEndColorProvider implements ColorProvider {
 	}
 
 	private int getEndStoneTextureAt(int textureX, int textureY) {
-		return TEXTURES.getRGB(textureX, textureY);
+		return END_STONE_TEXTURE[textureX + textureY * TEXTURES_WIDTH];
 	}
 
 	/**
@@ -110,7 +193,7 @@ public class TheEndColorProvider implements ColorProvider {
 	 * sad :( Let's use a symbolic texture, since we can't plot them properly.
 	 */
 	private int getRockyShoresTextureAt(int textureX, int textureY) {
-		return TEXTURES.getRGB(textureX, textureY + TEXTURES_HEIGHT);
+		return ROCKY_SHORES_TEXTURE[textureX + textureY * TEXTURES_WIDTH];
 	}
 
 	private int getFadedEndStoneTextureAt(int textureX, int textureY, int alpha) {
@@ -12,11 +12,18 @@ import amidst.mojangapi.world.coordinates.Resolution;
 public class ImageConstructor implements FragmentConstructor {
 	private final int size;
 	private final int layerId;
+	private final int imageType;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public ImageConstructor(Resolution resolution, int layerId) {
+		this(resolution, layerId, BufferedImage.TYPE_INT_ARGB);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public ImageConstructor(Resolution resolution, int layerId, int imageType) {
 		this.size = resolution.getStepsPerFragment();
 		this.layerId = layerId;
+		this.imageType = imageType;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -27,6 +34,6 @@ public class ImageConstructor implements FragmentConstructor {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private BufferedImage createBufferedImage() {
-		return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		return new BufferedImage(size, size, imageType);
 	}
 }
@@ -0,0 +1,48 @@
+package amidst.fragment.drawer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * When the biome palette changed, the biome image of the fragment is replaced
+ * by an image that shares the raster of the old image, but uses the new
+ * palette. The image is only replaced if it was not loaded again in the
+ * meantime.
+ */
+@NotThreadSafe
+public class BiomeImageDrawer extends ImageDrawer {
+	private final BiomePalette biomePalette;
+
+	public BiomeImageDrawer(
+			LayerDeclaration declaration,
+			Resolution resolution,
+			BiomePalette biomePalette,
+			Graphics2DAccelerationCounter accelerationCounter) {
+		super(declaration, resolution, accelerationCounter);
+		this.biomePalette = biomePalette;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	protected BufferedImage getImage(Fragment fragment) {
+		int layerId = declaration.getLayerId();
+		BufferedImage image = fragment.getImage(layerId);
+		IndexColorModel colorModel = biomePalette.getColorModel();
+		if (image.getColorModel() == colorModel) {
+			return image;
+		} else {
+			BufferedImage result = new BufferedImage(colorModel, image.getRaster(), false, null);
+			fragment.compareAndSetImage(layerId, image, result);
+			return result;
+		}
+	}
+}
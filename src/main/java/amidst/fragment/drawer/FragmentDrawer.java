@@ -21,6 +21,11 @@ public abstract class FragmentDrawer {
 		return declaration.isVisible();
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean supportsLevelOfDetail() {
+		return declaration.supportsLevelOfDetail();
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public boolean isDrawUnloaded() {
 		return declaration.isDrawUnloaded();
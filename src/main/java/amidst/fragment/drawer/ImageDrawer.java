@@ -34,12 +34,17 @@ public class ImageDrawer extends FragmentDrawer {
 		Object oldHint = g2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
 		Object newHint = getRenderingHint(g2d);
 		g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, newHint);
-		BufferedImage image = fragment.getImage(declaration.getLayerId());
+		BufferedImage image = getImage(fragment);
 		accelerationCounter.log(image);
 		g2d.drawImage(image, 0, 0, null);
 		g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldHint);
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	protected BufferedImage getImage(Fragment fragment) {
+		return fragment.getImage(declaration.getLayerId());
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private Object getRenderingHint(Graphics2D g2d) {
 		if (g2d.getTransform().getScaleX() < 1.0f) {
@@ -1,5 +1,6 @@
 package amidst.fragment.layer;
 
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -7,8 +8,7 @@ import java.util.List;
 import amidst.AmidstSettings;
 import amidst.documentation.Immutable;
 import amidst.fragment.Fragment;
-import amidst.fragment.colorprovider.BackgroundColorProvider;
-import amidst.fragment.colorprovider.BiomeColorProvider;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.colorprovider.SlimeColorProvider;
 import amidst.fragment.colorprovider.TheEndColorProvider;
 import amidst.fragment.constructor.BiomeDataConstructor;
@@ -16,12 +16,14 @@ import amidst.fragment.constructor.EndIslandsConstructor;
 import amidst.fragment.constructor.FragmentConstructor;
 import amidst.fragment.constructor.ImageConstructor;
 import amidst.fragment.drawer.AlphaUpdater;
+import amidst.fragment.drawer.BiomeImageDrawer;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.fragment.drawer.GridDrawer;
 import amidst.fragment.drawer.ImageDrawer;
 import amidst.fragment.drawer.WorldIconDrawer;
 import amidst.fragment.loader.AlphaInitializer;
 import amidst.fragment.loader.BiomeDataLoader;
+import amidst.fragment.loader.BiomeImageLoader;
 import amidst.fragment.loader.EndIslandsLoader;
 import amidst.fragment.loader.FragmentLoader;
 import amidst.fragment.loader.ImageLoader;
@@ -53,6 +55,7 @@ public class LayerBuilder {
 				Arrays.asList(
 						new BiomeDataConstructor(Resolution.QUARTER),
 						new EndIslandsConstructor(),
+						new ImageConstructor(Resolution.QUARTER, LayerIds.BIOME, BufferedImage.TYPE_BYTE_INDEXED),
 						new ImageConstructor(Resolution.QUARTER, LayerIds.BACKGROUND),
 						new ImageConstructor(Resolution.CHUNK, LayerIds.SLIME)));
 	}
@@ -71,34 +74,37 @@ public class LayerBuilder {
 			BiomeSelection biomeSelection,
 			WorldIconSelection worldIconSelection,
 			Zoom zoom,
-			Graphics2DAccelerationCounter accelerationCounter) {
+			Graphics2DAccelerationCounter accelerationCounter,
+			Runnable requestFragmentLoad) {
 		List<LayerDeclaration> declarations = createDeclarations(settings, world.getVersionFeatures());
+		BiomePalette biomePalette = new BiomePalette(biomeSelection, settings.biomeProfileSelection);
 		return new LayerManager(
 				declarations,
-				new LayerLoader(
-						createLoaders(declarations, world, biomeSelection, settings),
-						LayerIds.NUMBER_OF_LAYERS),
-				createDrawers(declarations, zoom, worldIconSelection, accelerationCounter));
+				new LayerLoader(createLoaders(declarations, world, biomePalette, settings), LayerIds.NUMBER_OF_LAYERS),
+				createDrawers(declarations, zoom, worldIconSelection, biomePalette, accelerationCounter),
+				biomePalette,
+				requestFragmentLoad);
 	}
 
 	private List<LayerDeclaration> createDeclarations(AmidstSettings settings, VersionFeatures versionFeatures) {
 		LayerDeclaration[] declarations = new LayerDeclaration[LayerIds.NUMBER_OF_LAYERS];
 		// @formatter:off
-		declare(settings, declarations, versionFeatures, LayerIds.ALPHA,           null,                false, Settings.createImmutable(true));
-		declare(settings, declarations, versionFeatures, LayerIds.BIOME_DATA,      Dimension.OVERWORLD, false, Settings.createImmutable(true));
-		declare(settings, declarations, versionFeatures, LayerIds.END_ISLANDS,     Dimension.END,       false, Settings.createImmutable(true));
-		declare(settings, declarations, versionFeatures, LayerIds.BACKGROUND,      null,                false, Settings.createImmutable(true));
-		declare(settings, declarations, versionFeatures, LayerIds.SLIME,           Dimension.OVERWORLD, false, settings.showSlimeChunks);
-		declare(settings, declarations, versionFeatures, LayerIds.GRID,            null,                true,  settings.showGrid);
-		declare(settings, declarations, versionFeatures, LayerIds.SPAWN,           Dimension.OVERWORLD, false, settings.showSpawn);
-		declare(settings, declarations, versionFeatures, LayerIds.STRONGHOLD,      Dimension.OVERWORLD, false, settings.showStrongholds);
-		declare(settings, declarations, versionFeatures, LayerIds.PLAYER,          null,                false, settings.showPlayers);
-		declare(settings, declarations, versionFeatures, LayerIds.VILLAGE,         Dimension.OVERWORLD, false, settings.showVillages);
-		declare(settings, declarations, versionFeatures, LayerIds.TEMPLE,          Dimension.OVERWORLD, false, settings.showTemples);
-		declare(settings, declarations, versionFeatures, LayerIds.MINESHAFT,       Dimension.OVERWORLD, false, settings.showMineshafts);
-		declare(settings, declarations, versionFeatures, LayerIds.OCEAN_MONUMENT,  Dimension.OVERWORLD, false, settings.showOceanMonuments);
-		declare(settings, declarations, versionFeatures, LayerIds.NETHER_FORTRESS, Dimension.OVERWORLD, false, settings.showNetherFortresses);
-		declare(settings, declarations, versionFeatures, LayerIds.END_CITY,        Dimension.END,       false, settings.showEndCities);
+		declare(settings, declarations, versionFeatures, LayerIds.ALPHA,           null,                false, true,  Settings.createImmutable(true));
+		declare(settings, declarations, versionFeatures, LayerIds.BIOME_DATA,      Dimension.OVERWORLD, false, true,  Settings.createImmutable(true));
+		declare(settings, declarations, versionFeatures, LayerIds.BIOME,           Dimension.OVERWORLD, false, true,  Settings.createImmutable(true));
+		declare(settings, declarations, versionFeatures, LayerIds.END_ISLANDS,     Dimension.END,       false, false, Settings.createImmutable(true));
+		declare(settings, declarations, versionFeatures, LayerIds.BACKGROUND,      Dimension.END,       false, false, Settings.createImmutable(true));
+		declare(settings, declarations, versionFeatures, LayerIds.SLIME,           Dimension.OVERWORLD, false, false, settings.showSlimeChunks);
+		declare(settings, declarations, versionFeatures, LayerIds.GRID,            null,                true,  false, settings.showGrid);
+		declare(settings, declarations, versionFeatures, LayerIds.SPAWN,           Dimension.OVERWORLD, false, false, settings.showSpawn);
+		declare(settings, declarations, versionFeatures, LayerIds.STRONGHOLD,      Dimension.OVERWORLD, false, false, settings.showStrongholds);
+		declare(settings, declarations, versionFeatures, LayerIds.PLAYER,          null,                false, false, settings.showPlayers);
+		declare(settings, declarations, versionFeatures, LayerIds.VILLAGE,         Dimension.OVERWORLD, false, false, settings.showVillages);
+		declare(settings, declarations, versionFeatures, LayerIds.TEMPLE,          Dimension.OVERWORLD, false, false, settings.showTemples);
+		declare(settings, declarations, versionFeatures, LayerIds.MINESHAFT,       Dimension.OVERWORLD, false, false, settings.showMineshafts);
+		declare(settings, declarations, versionFeatures, LayerIds.OCEAN_MONUMENT,  Dimension.OVERWORLD, false, false, settings.showOceanMonuments);
+		declare(settings, declarations, versionFeatures, LayerIds.NETHER_FORTRESS, Dimension.OVERWORLD, false, false, settings.showNetherFortresses);
+		declare(settings, declarations, versionFeatures, LayerIds.END_CITY,        Dimension.END,       false, false, settings.showEndCities);
 		// @formatter:on
 		return Collections.unmodifiableList(Arrays.asList(declarations));
 	}
@@ -110,11 +116,13 @@ public class LayerBuilder {
 			int layerId,
 			Dimension dimension,
 			boolean drawUnloaded,
+			boolean supportsLevelOfDetail,
 			Setting<Boolean> isVisibleSetting) {
 		declarations[layerId] = new LayerDeclaration(
 				layerId,
 				dimension,
 				drawUnloaded,
+				supportsLevelOfDetail,
 				versionFeatures.hasLayer(layerId),
 				isVisibleSetting,
 				settings.enableAllLayers);
@@ -126,14 +134,15 @@ public class LayerBuilder {
 	private Iterable<FragmentLoader> createLoaders(
 			List<LayerDeclaration> declarations,
 			World world,
-			BiomeSelection biomeSelection,
+			BiomePalette biomePalette,
 			AmidstSettings settings) {
 		// @formatter:off
 		return Collections.unmodifiableList(Arrays.asList(
 				new AlphaInitializer( declarations.get(LayerIds.ALPHA),           settings.fragmentFading),
 				new BiomeDataLoader(  declarations.get(LayerIds.BIOME_DATA),      world.getBiomeDataOracle()),
+				new BiomeImageLoader( declarations.get(LayerIds.BIOME),           Resolution.QUARTER, biomePalette),
 				new EndIslandsLoader( declarations.get(LayerIds.END_ISLANDS),     world.getEndIslandOracle()),
-				new ImageLoader(	  declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, new BackgroundColorProvider(new BiomeColorProvider(biomeSelection, settings.biomeProfileSelection), new TheEndColorProvider())),
+				new ImageLoader(      declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, new TheEndColorProvider()),
 				new ImageLoader(      declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   new SlimeColorProvider(world.getSlimeChunkOracle())),
 				new WorldIconLoader<>(declarations.get(LayerIds.SPAWN),           world.getSpawnProducer()),
 				new WorldIconLoader<>(declarations.get(LayerIds.STRONGHOLD),      world.getStrongholdProducer()),
@@ -155,22 +164,24 @@ public class LayerBuilder {
 			List<LayerDeclaration> declarations,
 			Zoom zoom,
 			WorldIconSelection worldIconSelection,
+			BiomePalette biomePalette,
 			Graphics2DAccelerationCounter accelerationCounter) {
 		// @formatter:off
 		return Collections.unmodifiableList(Arrays.asList(
-				new AlphaUpdater(   declarations.get(LayerIds.ALPHA)),
-				new ImageDrawer(    declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, accelerationCounter),
-				new ImageDrawer(    declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   accelerationCounter),
-				new GridDrawer(     declarations.get(LayerIds.GRID),            zoom),
-				new WorldIconDrawer(declarations.get(LayerIds.SPAWN),           zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.STRONGHOLD),      zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.PLAYER),          zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.VILLAGE),         zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.TEMPLE),          zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.MINESHAFT),       zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.OCEAN_MONUMENT),  zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.NETHER_FORTRESS), zoom, worldIconSelection),
-				new WorldIconDrawer(declarations.get(LayerIds.END_CITY),        zoom, worldIconSelection)
+				new AlphaUpdater(    declarations.get(LayerIds.ALPHA)),
+				new BiomeImageDrawer(declarations.get(LayerIds.BIOME),           Resolution.QUARTER, biomePalette, accelerationCounter),
+				new ImageDrawer(     declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, accelerationCounter),
+				new ImageDrawer(     declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   accelerationCounter),
+				new GridDrawer(      declarations.get(LayerIds.GRID),            zoom),
+				new WorldIconDrawer( declarations.get(LayerIds.SPAWN),           zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.STRONGHOLD),      zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.PLAYER),          zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.VILLAGE),         zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.TEMPLE),          zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.MINESHAFT),       zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.OCEAN_MONUMENT),  zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.NETHER_FORTRESS), zoom, worldIconSelection),
+				new WorldIconDrawer( declarations.get(LayerIds.END_CITY),        zoom, worldIconSelection)
 		));
 		// @formatter:on
 	}
@@ -12,6 +12,7 @@ public class LayerDeclaration {
 	private final int layerId;
 	private final Dimension dimension;
 	private final boolean isDrawUnloaded;
+	private final boolean supportsLevelOfDetail;
 	private final boolean isSupportedInCurrentVersion;
 	private final Setting<Boolean> isVisibleSetting;
 	private final Setting<Boolean> enableAllLayersSetting;
@@ -25,12 +26,14 @@ public class LayerDeclaration {
 			int layerId,
 			Dimension dimension,
 			boolean drawUnloaded,
+			boolean supportsLevelOfDetail,
 			boolean isSupportedInCurrentVersion,
 			Setting<Boolean> isVisibleSetting,
 			Setting<Boolean> enableAllLayersSetting) {
 		this.layerId = layerId;
 		this.dimension = dimension;
 		this.isDrawUnloaded = drawUnloaded;
+		this.supportsLevelOfDetail = supportsLevelOfDetail;
 		this.isSupportedInCurrentVersion = isSupportedInCurrentVersion;
 		this.isVisibleSetting = isVisibleSetting;
 		this.enableAllLayersSetting = enableAllLayersSetting;
@@ -44,6 +47,14 @@ public class LayerDeclaration {
 		return isDrawUnloaded;
 	}
 
+	/**
+	 * Returns whether the layer can be loaded and drawn for super-fragments,
+	 * see {@link amidst.fragment.Fragment#setLevelOfDetail(int)}.
+	 */
+	public boolean supportsLevelOfDetail() {
+		return supportsLevelOfDetail;
+	}
+
 	public boolean isVisible() {
 		return isVisible;
 	}
@@ -11,19 +11,20 @@ public class LayerIds {
 	// @formatter:off
 	public static final int ALPHA                =  0;
 	public static final int BIOME_DATA           =  1;
-	public static final int END_ISLANDS          =  2;
-	public static final int BACKGROUND           =  3;
-	public static final int SLIME                =  4;
-	public static final int GRID                 =  5;
-	public static final int SPAWN                =  6;
-	public static final int STRONGHOLD           =  7;
-	public static final int PLAYER               =  8;
-	public static final int VILLAGE              =  9;
-	public static final int TEMPLE               = 10;
-	public static final int MINESHAFT            = 11;
-	public static final int OCEAN_MONUMENT       = 12;
-	public static final int NETHER_FORTRESS      = 13;
-	public static final int END_CITY             = 14;
-	public static final int NUMBER_OF_LAYERS     = 15;
+	public static final int BIOME                =  2;
+	public static final int END_ISLANDS          =  3;
+	public static final int BACKGROUND           =  4;
+	public static final int SLIME                =  5;
+	public static final int GRID                 =  6;
+	public static final int SPAWN                =  7;
+	public static final int STRONGHOLD           =  8;
+	public static final int PLAYER               =  9;
+	public static final int VILLAGE              = 10;
+	public static final int TEMPLE               = 11;
+	public static final int MINESHAFT            = 12;
+	public static final int OCEAN_MONUMENT       = 13;
+	public static final int NETHER_FORTRESS      = 14;
+	public static final int END_CITY             = 15;
+	public static final int NUMBER_OF_LAYERS     = 16;
 	// @formatter:on
 }
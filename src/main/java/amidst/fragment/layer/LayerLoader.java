@@ -34,7 +34,7 @@ public class LayerLoader {
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void loadAll(Dimension dimension, Fragment fragment) {
 		for (FragmentLoader loader : loaders) {
-			if (loader.isEnabled()) {
+			if (isEnabled(loader, fragment)) {
 				loader.load(dimension, fragment);
 			}
 		}
@@ -43,12 +43,20 @@ public class LayerLoader {
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void reloadInvalidated(Dimension dimension, Fragment fragment) {
 		for (FragmentLoader loader : loaders) {
-			if (loader.isEnabled() && isInvalidated(loader.getLayerId())) {
+			if (isEnabled(loader, fragment) && isInvalidated(loader.getLayerId())) {
 				loader.reload(dimension, fragment);
 			}
 		}
 	}
 
+	/**
+	 * Super-fragments are only loaded by the loaders that support them.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private boolean isEnabled(FragmentLoader loader, Fragment fragment) {
+		return loader.isEnabled() && (fragment.getLevelOfDetail() == 0 || loader.supportsLevelOfDetail());
+	}
+
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private boolean isInvalidated(int layerId) {
 		return invalidatedLayers[layerId];
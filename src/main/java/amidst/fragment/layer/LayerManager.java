@@ -7,6 +7,7 @@ import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.World;
@@ -19,14 +20,20 @@ public class LayerManager {
 	private final List<LayerDeclaration> declarations;
 	private final LayerLoader layerLoader;
 	private final Iterable<FragmentDrawer> drawers;
+	private final BiomePalette biomePalette;
+	private final Runnable requestFragmentLoad;
 
 	public LayerManager(
 			List<LayerDeclaration> declarations,
 			LayerLoader layerLoader,
-			Iterable<FragmentDrawer> drawers) {
+			Iterable<FragmentDrawer> drawers,
+			BiomePalette biomePalette,
+			Runnable requestFragmentLoad) {
 		this.declarations = declarations;
 		this.layerLoader = layerLoader;
 		this.drawers = drawers;
+		this.biomePalette = biomePalette;
+		this.requestFragmentLoad = requestFragmentLoad;
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -34,17 +41,29 @@ public class LayerManager {
 		for (LayerDeclaration declaration : declarations) {
 			if (declaration.update(dimension)) {
 				int layerId = declaration.getLayerId();
-				if (layerId == LayerIds.BIOME_DATA || layerId == LayerIds.END_ISLANDS) {
-					invalidateLayer(LayerIds.BACKGROUND);
+				if (layerId == LayerIds.BIOME_DATA) {
+					enqueueInvalidation(LayerIds.BIOME);
+				} else if (layerId == LayerIds.END_ISLANDS) {
+					enqueueInvalidation(LayerIds.BACKGROUND);
 				}
-				invalidateLayer(layerId);
+				enqueueInvalidation(layerId);
 			}
 		}
 		return invalidationOperations.processTasks();
 	}
 
+	/**
+	 * The fragment loader only runs when it is requested, so it is requested
+	 * to process the invalidation.
+	 */
 	@CalledByAny
 	public void invalidateLayer(int layerId) {
+		enqueueInvalidation(layerId);
+		requestFragmentLoad.run();
+	}
+
+	@CalledByAny
+	private void enqueueInvalidation(int layerId) {
 		invalidationOperations.invoke(() -> doInvalidateLayer(layerId));
 	}
 
@@ -77,7 +96,7 @@ public class LayerManager {
 	}
 
 	public LayerReloader createLayerReloader(World world) {
-		return new LayerReloader(world, this);
+		return new LayerReloader(world, this, biomePalette);
 	}
 
 	/**
@@ -1,20 +1,30 @@
 package amidst.fragment.layer;
 
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.ThreadSafe;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.mojangapi.world.World;
 
 @ThreadSafe
 public class LayerReloader {
 	private final World world;
 	private final LayerManager layerManager;
+	private final BiomePalette biomePalette;
 
-	public LayerReloader(World world, LayerManager layerManager) {
+	public LayerReloader(World world, LayerManager layerManager, BiomePalette biomePalette) {
 		this.world = world;
 		this.layerManager = layerManager;
+		this.biomePalette = biomePalette;
 	}
 
-	public void reloadBackgroundLayer() {
-		layerManager.invalidateLayer(LayerIds.BACKGROUND);
+	/**
+	 * The biome images do not need to be reloaded, because they only contain
+	 * the biome indexes. The new palette is applied when they are drawn.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void updateBiomePalette() {
+		biomePalette.update();
 	}
 
 	public void reloadPlayerLayer() {
@@ -0,0 +1,77 @@
+package amidst.fragment.loader;
+
+import java.awt.image.BufferedImage;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * The biome image contains the biome index of each pixel, so it does not
+ * depend on the biome selection or the biome profile. The colors are defined by
+ * the {@link BiomePalette}, which is applied when the image is drawn.
+ */
+@ThreadSafe
+public class BiomeImageLoader extends FragmentLoader {
+	@NotThreadSafe
+	private static class ScratchBuffers {
+		private final byte[] biomeIndexes;
+		private BufferedImage bufferedImage;
+
+		private ScratchBuffers(int size, BiomePalette biomePalette) {
+			this.biomeIndexes = new byte[size * size];
+			this.bufferedImage = new BufferedImage(
+					size,
+					size,
+					BufferedImage.TYPE_BYTE_INDEXED,
+					biomePalette.getColorModel());
+		}
+	}
+
+	private final int size;
+	private final ThreadLocal<ScratchBuffers> scratchBuffers;
+
+	@CalledByAny
+	public BiomeImageLoader(LayerDeclaration declaration, Resolution resolution, BiomePalette biomePalette) {
+		super(declaration);
+		this.size = resolution.getStepsPerFragment();
+		this.scratchBuffers = ThreadLocal.withInitial(() -> new ScratchBuffers(size, biomePalette));
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void load(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void reload(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	/**
+	 * The raster is written with setDataElements instead of writing to its
+	 * data buffer directly, because the latter would prevent the image from
+	 * being accelerated.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void doLoad(Fragment fragment) {
+		ScratchBuffers buffers = scratchBuffers.get();
+		byte[] biomeIndexes = buffers.biomeIndexes;
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				biomeIndexes[x + y * size] = (byte) fragment.getBiomeDataAt(x, y);
+			}
+		}
+		buffers.bufferedImage.getRaster().setDataElements(0, 0, size, size, biomeIndexes);
+		buffers.bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), buffers.bufferedImage);
+	}
+}
@@ -23,6 +23,10 @@ public abstract class FragmentLoader {
 		return declaration.isVisible();
 	}
 
+	public boolean supportsLevelOfDetail() {
+		return declaration.supportsLevelOfDetail();
+	}
+
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public abstract void load(Dimension dimension, Fragment fragment);
 
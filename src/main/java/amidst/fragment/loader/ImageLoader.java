@@ -6,6 +6,7 @@ import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
 import amidst.fragment.Fragment;
 import amidst.fragment.colorprovider.ColorProvider;
 import amidst.fragment.layer.LayerDeclaration;
@@ -13,13 +14,27 @@ import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.coordinates.Resolution;
 
-@NotThreadSafe
+/**
+ * Each fragment loader thread draws to its own scratch buffers, so multiple
+ * fragments can be loaded at the same time.
+ */
+@ThreadSafe
 public class ImageLoader extends FragmentLoader {
+	@NotThreadSafe
+	private static class ScratchBuffers {
+		private final int[] rgbArray;
+		private BufferedImage bufferedImage;
+
+		private ScratchBuffers(int size) {
+			this.rgbArray = new int[size * size];
+			this.bufferedImage = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		}
+	}
+
 	private final Resolution resolution;
 	private final ColorProvider colorProvider;
 	private final int size;
-	private final int[] rgbArray;
-	private volatile BufferedImage bufferedImage;
+	private final ThreadLocal<ScratchBuffers> scratchBuffers;
 
 	@CalledByAny
 	public ImageLoader(LayerDeclaration declaration, Resolution resolution, ColorProvider colorProvider) {
@@ -27,13 +42,7 @@ public class ImageLoader extends FragmentLoader {
 		this.resolution = resolution;
 		this.colorProvider = colorProvider;
 		this.size = resolution.getStepsPerFragment();
-		this.rgbArray = new int[size * size];
-		this.bufferedImage = createBufferedImage();
-	}
-
-	@CalledByAny
-	private BufferedImage createBufferedImage() {
-		return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		this.scratchBuffers = ThreadLocal.withInitial(() -> new ScratchBuffers(size));
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -53,23 +62,10 @@ public class ImageLoader extends FragmentLoader {
 		CoordinatesInWorld corner = fragment.getCorner();
 		long cornerX = corner.getXAs(resolution);
 		long cornerY = corner.getYAs(resolution);
-		drawToCache(dimension, fragment, cornerX, cornerY);
-		bufferedImage.setRGB(0, 0, size, size, rgbArray, 0, size);
-		bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), bufferedImage);
-	}
-
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private void drawToCache(Dimension dimension, Fragment fragment, long cornerX, long cornerY) {
-		for (int y = 0; y < size; y++) {
-			for (int x = 0; x < size; x++) {
-				int index = getCacheIndex(x, y);
-				rgbArray[index] = colorProvider.getColorAt(dimension, fragment, cornerX, cornerY, x, y);
-			}
-		}
-	}
-
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private int getCacheIndex(int x, int y) {
-		return x + y * size;
+		ScratchBuffers buffers = scratchBuffers.get();
+		int[] rgbArray = buffers.rgbArray;
+		colorProvider.fillRegion(dimension, fragment, cornerX, cornerY, size, rgbArray);
+		buffers.bufferedImage.setRGB(0, 0, size, size, rgbArray, 0, size);
+		buffers.bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), buffers.bufferedImage);
 	}
 }
@@ -245,7 +245,7 @@ public class Actions {
 		biomeProfileSelection.set(profile);
 		ViewerFacade viewerFacade = viewerFacadeSupplier.get();
 		if (viewerFacade != null) {
-			viewerFacade.reloadBackgroundLayer();
+			viewerFacade.updateBiomePalette();
 		}
 	}
 
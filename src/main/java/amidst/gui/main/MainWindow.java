@@ -13,18 +13,25 @@ import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.gui.main.menu.AmidstMenu;
 import amidst.gui.seedsearcher.SeedSearcherWindow;
+import amidst.mojangapi.RunningLauncherProfile;
 
 @NotThreadSafe
 public class MainWindow {
 	private final JFrame frame;
 	private final WorldSwitcher worldSwitcher;
 	private final SeedSearcherWindow seedSearcherWindow;
+	private final RunningLauncherProfile runningLauncherProfile;
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public MainWindow(JFrame frame, WorldSwitcher worldSwitcher, SeedSearcherWindow seedSearcherWindow) {
+	public MainWindow(
+			JFrame frame,
+			WorldSwitcher worldSwitcher,
+			SeedSearcherWindow seedSearcherWindow,
+			RunningLauncherProfile runningLauncherProfile) {
 		this.frame = frame;
 		this.worldSwitcher = worldSwitcher;
 		this.seedSearcherWindow = seedSearcherWindow;
+		this.runningLauncherProfile = runningLauncherProfile;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -44,12 +51,17 @@ public class MainWindow {
 		worldSwitcher.clearWorld();
 	}
 
+	/**
+	 * The running launcher profile belongs to this window, so it is closed as
+	 * well.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		worldSwitcher.clearWorld();
 		if (FeatureToggles.SEED_SEARCH) {
 			seedSearcherWindow.dispose();
 		}
+		runningLauncherProfile.close();
 		frame.dispose();
 	}
 }
@@ -2,6 +2,7 @@ package amidst.gui.main.menu;
 
 import java.awt.event.KeyEvent;
 
+import javax.swing.ButtonGroup;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
@@ -113,6 +114,8 @@ public class AmidstMenuBuilder {
 		JMenu result = new JMenu("Settings");
 		result.setMnemonic(KeyEvent.VK_S);
 		result.add(create_Settings_DefaultWorldType());
+		result.add(create_Settings_PrefetchedFragments());
+		result.add(create_Settings_FragmentCacheBudget());
 		if (biomeProfileDirectory.isValid()) {
 			result.add(create_Settings_BiomeProfile());
 		}
@@ -136,6 +139,24 @@ public class AmidstMenuBuilder {
 		return result;
 	}
 
+	private JMenu create_Settings_PrefetchedFragments() {
+		JMenu result = new JMenu("Prefetched fragments");
+		ButtonGroup group = new ButtonGroup();
+		for (int value : new int[] { 0, 1, 2, 4 }) {
+			Menus.radio(result, settings.prefetchedFragments, group, value);
+		}
+		return result;
+	}
+
+	private JMenu create_Settings_FragmentCacheBudget() {
+		JMenu result = new JMenu("Fragment cache size");
+		ButtonGroup group = new ButtonGroup();
+		for (int value : new int[] { 128, 256, 512, 1024, 2048 }) {
+			Menus.radio(result, settings.fragmentCacheBudget, group, value, value + " MB");
+		}
+		return result;
+	}
+
 	private JMenu create_Settings_BiomeProfile() {
 		JMenu result = new JMenu("Biome profile");
 		// @formatter:off
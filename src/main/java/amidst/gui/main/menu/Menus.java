@@ -34,6 +34,16 @@ public enum Menus {
 		return radio(menu, setting, group, menuItem, value);
 	}
 
+	public static <T> JRadioButtonMenuItem radio(
+			JMenu menu,
+			Setting<T> setting,
+			ButtonGroup group,
+			T value,
+			String text) {
+		JRadioButtonMenuItem menuItem = new JRadioButtonMenuItem(text);
+		return radio(menu, setting, group, menuItem, value);
+	}
+
 	public static <T> JRadioButtonMenuItem radio(
 			JMenu menu,
 			Setting<T> setting,
@@ -18,7 +18,6 @@ import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
 import amidst.fragment.FragmentGraph;
-import amidst.fragment.FragmentGraphItem;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.gui.main.viewer.widget.Widget;
 import amidst.mojangapi.world.Dimension;
@@ -51,11 +50,13 @@ public class Drawer {
 	private final FragmentGraphToScreenTranslator translator;
 	private final Zoom zoom;
 	private final Movement movement;
+	private final FragmentPrefetcher prefetcher;
 	private final List<Widget> widgets;
 	private final Iterable<FragmentDrawer> drawers;
 	private final Setting<Dimension> dimensionSetting;
 	private final Graphics2DAccelerationCounter accelerationCounter;
 	private final TexturePaint voidTexturePaint;
+	private final Runnable requestRepaint;
 
 	private Graphics2D g2d;
 	private int viewerWidth;
@@ -72,14 +73,17 @@ public class Drawer {
 			FragmentGraphToScreenTranslator translator,
 			Zoom zoom,
 			Movement movement,
+			FragmentPrefetcher prefetcher,
 			List<Widget> widgets,
 			Iterable<FragmentDrawer> drawers,
 			Setting<Dimension> dimensionSetting,
-			Graphics2DAccelerationCounter accelerationCounter) {
+			Graphics2DAccelerationCounter accelerationCounter,
+			Runnable requestRepaint) {
 		this.graph = graph;
 		this.translator = translator;
 		this.zoom = zoom;
 		this.movement = movement;
+		this.prefetcher = prefetcher;
 		this.widgets = widgets;
 		this.drawers = drawers;
 		this.dimensionSetting = dimensionSetting;
@@ -87,6 +91,7 @@ public class Drawer {
 		this.voidTexturePaint = new TexturePaint(
 				VOID_TEXTURE,
 				new Rectangle(0, 0, VOID_TEXTURE.getWidth(), VOID_TEXTURE.getHeight()));
+		this.requestRepaint = requestRepaint;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -124,10 +129,12 @@ public class Drawer {
 		updateZoom();
 		updateMovement();
 		updateTranslator();
+		updatePrefetcher();
 		clear();
 		drawFragments();
 		drawBorder();
 		drawWidgets();
+		requestRepaintIfAnimating();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -153,6 +160,11 @@ public class Drawer {
 		translator.update(viewerWidth, viewerHeight);
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void updatePrefetcher() {
+		prefetcher.update();
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void clear() {
 		if (dimensionSetting.get().equals(Dimension.END)) {
@@ -187,16 +199,20 @@ public class Drawer {
 		double scale = zoom.getCurrentValue();
 		originalLayerMatrix.setTransform(originalGraphicsTransform);
 		originalLayerMatrix.translate(translator.getLeftOnScreen(), translator.getTopOnScreen());
-		originalLayerMatrix.scale(scale, scale);
+		// super-fragments are drawn like fragments, but scaled up
+		double fragmentScale = scale * (1 << graph.getLevelOfDetail());
+		originalLayerMatrix.scale(fragmentScale, fragmentScale);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void drawLayers() {
+		boolean isLevelOfDetail = graph.getLevelOfDetail() > 0;
 		for (FragmentDrawer drawer : drawers) {
-			if (drawer.isEnabled()) {
+			if (drawer.isEnabled() && (!isLevelOfDetail || drawer.supportsLevelOfDetail())) {
 				initLayerMatrix();
-				for (FragmentGraphItem fragmentGraphItem : graph) {
-					Fragment fragment = fragmentGraphItem.getFragment();
+				int fragmentsPerRow = graph.getFragmentsPerRow();
+				int column = 0;
+				for (Fragment fragment : graph) {
 					if (drawer.isDrawUnloaded()) {
 						setAlphaComposite(1.0f);
 						g2d.setTransform(layerMatrix);
@@ -206,7 +222,11 @@ public class Drawer {
 						g2d.setTransform(layerMatrix);
 						drawer.draw(fragment, g2d, time);
 					}
-					updateLayerMatrix(fragmentGraphItem, graph.getFragmentsPerRow());
+					column++;
+					updateLayerMatrix(column == fragmentsPerRow, fragmentsPerRow);
+					if (column == fragmentsPerRow) {
+						column = 0;
+					}
 				}
 			}
 		}
@@ -219,9 +239,9 @@ public class Drawer {
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private void updateLayerMatrix(FragmentGraphItem fragmentGraphItem, int fragmentsPerRow) {
+	private void updateLayerMatrix(boolean isEndOfLine, int fragmentsPerRow) {
 		layerMatrix.translate(Fragment.SIZE, 0);
-		if (fragmentGraphItem.isEndOfLine()) {
+		if (isEndOfLine) {
 			layerMatrix.translate(-Fragment.SIZE * fragmentsPerRow, Fragment.SIZE);
 		}
 	}
@@ -266,6 +286,37 @@ public class Drawer {
 		}
 	}
 
+	/**
+	 * The next frame is only drawn if something is still changing. Otherwise,
+	 * the next repaint is requested by whatever changes the map or the widgets.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void requestRepaintIfAnimating() {
+		if (zoom.isFading() || movement.isMoving() || isAnyFragmentFading() || isAnyWidgetFading()) {
+			requestRepaint.run();
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isAnyFragmentFading() {
+		for (Fragment fragment : graph) {
+			if (fragment.isLoaded() && fragment.getAlpha() < 1.0f) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isAnyWidgetFading() {
+		for (Widget widget : widgets) {
+			if (widget.isFading()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void setAlphaComposite(float alpha) {
 		g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
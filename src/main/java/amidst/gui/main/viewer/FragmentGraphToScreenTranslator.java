@@ -7,12 +7,25 @@ import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
 import amidst.fragment.FragmentGraph;
+import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
-
+import amidst.settings.Setting;
+
+/**
+ * When zoomed out so far that a fragment becomes smaller than
+ * MIN_FRAGMENT_SIZE_ON_SCREEN, the graph switches to super-fragments. This
+ * keeps the number of fragments bounded no matter how far the user zooms out.
+ * Only the overworld supports super-fragments, because they are made from the
+ * biome data.
+ */
 @NotThreadSafe
 public class FragmentGraphToScreenTranslator {
+	private static final int MIN_FRAGMENT_SIZE_ON_SCREEN = 32;
+	private static final int MAX_LEVEL_OF_DETAIL = 16;
+
 	private final FragmentGraph graph;
 	private final Zoom zoom;
+	private final Setting<Dimension> dimensionSetting;
 
 	private double leftOnScreen;
 	private double topOnScreen;
@@ -23,9 +36,10 @@ public class FragmentGraphToScreenTranslator {
 	private boolean isFirstUpdate = true;
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentGraphToScreenTranslator(FragmentGraph graph, Zoom zoom) {
+	public FragmentGraphToScreenTranslator(FragmentGraph graph, Zoom zoom, Setting<Dimension> dimensionSetting) {
 		this.graph = graph;
 		this.zoom = zoom;
+		this.dimensionSetting = dimensionSetting;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -33,7 +47,9 @@ public class FragmentGraphToScreenTranslator {
 		this.viewerWidth = viewerWidth;
 		this.viewerHeight = viewerHeight;
 		centerOnOriginIfNecessary();
+		updateLevelOfDetail();
 		adjustNumberOfRowsAndColumns();
+		updateLoadingFocus();
 	}
 
 	private void centerOnOriginIfNecessary() {
@@ -43,9 +59,39 @@ public class FragmentGraphToScreenTranslator {
 		}
 	}
 
+	/**
+	 * Changing the level of detail can move the corner of the graph, so the
+	 * top left corner on the screen is moved accordingly.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void updateLevelOfDetail() {
+		int levelOfDetail = calculateLevelOfDetail();
+		if (graph.getLevelOfDetail() != levelOfDetail) {
+			CoordinatesInWorld previousCorner = graph.getCorner();
+			graph.setLevelOfDetail(levelOfDetail);
+			CoordinatesInWorld corner = graph.getCorner();
+			adjustTopLeftOnScreen(
+					zoom.worldToScreen(corner.getX() - previousCorner.getX()),
+					zoom.worldToScreen(corner.getY() - previousCorner.getY()));
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int calculateLevelOfDetail() {
+		if (!dimensionSetting.get().equals(Dimension.OVERWORLD)) {
+			return 0;
+		}
+		int result = 0;
+		while (result < MAX_LEVEL_OF_DETAIL
+				&& zoom.worldToScreen(Fragment.SIZE << result) < MIN_FRAGMENT_SIZE_ON_SCREEN) {
+			result++;
+		}
+		return result;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void adjustNumberOfRowsAndColumns() {
-		double fragmentSizeOnScreen = zoom.worldToScreen(Fragment.SIZE);
+		double fragmentSizeOnScreen = zoom.worldToScreen(graph.getFragmentSize());
 		int desiredFragmentsPerRow = (int) (viewerWidth / fragmentSizeOnScreen + 2);
 		int desiredFragmentsPerColumn = (int) (viewerHeight / fragmentSizeOnScreen + 2);
 		int newColumns = desiredFragmentsPerRow - graph.getFragmentsPerRow();
@@ -58,6 +104,14 @@ public class FragmentGraphToScreenTranslator {
 		adjustTopLeftOnScreen(fragmentSizeOnScreen * -newLeft, fragmentSizeOnScreen * -newAbove);
 	}
 
+	/**
+	 * The fragments in the center of the viewer are loaded first.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void updateLoadingFocus() {
+		graph.setLoadingFocus(screenToWorld(new Point(viewerWidth >> 1, viewerHeight >> 1)));
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private int getNewLeft(double fragmentSizeOnScreen) {
 		if (leftOnScreen > 0) {
@@ -79,10 +133,11 @@ public class FragmentGraphToScreenTranslator {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void centerOn(final CoordinatesInWorld coordinates) {
 		graph.init(coordinates);
+		CoordinatesInWorld corner = graph.getCorner();
 		int xCenterOnScreen = viewerWidth >> 1;
 		int yCenterOnScreen = viewerHeight >> 1;
-		long xFragmentRelative = coordinates.getXRelativeToFragment();
-		long yFragmentRelative = coordinates.getYRelativeToFragment();
+		long xFragmentRelative = coordinates.getX() - corner.getX();
+		long yFragmentRelative = coordinates.getY() - corner.getY();
 		setTopLeftOnScreen(
 				xCenterOnScreen - zoom.worldToScreen(xFragmentRelative),
 				yCenterOnScreen - zoom.worldToScreen(yFragmentRelative));
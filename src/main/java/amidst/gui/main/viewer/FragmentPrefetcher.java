@@ -0,0 +1,92 @@
+package amidst.gui.main.viewer;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.FragmentGraph;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.settings.Setting;
+
+/**
+ * While the map is moving, this prefetches the fragments just outside of the
+ * fragment graph in the direction of travel. The number of prefetched rows and
+ * columns depends on how many fragments will scroll into the viewer during the
+ * next frames, but it is limited by the setting. When the direction changes,
+ * the fragments that are no longer ahead are recycled. When the map stops, the
+ * prefetched fragments are kept until the map moves again.
+ */
+@NotThreadSafe
+public class FragmentPrefetcher {
+	private static final double MIN_SPEED = 0.5;
+	private static final int LOOKAHEAD_FRAMES = 30;
+
+	private final FragmentGraph graph;
+	private final Movement movement;
+	private final Zoom zoom;
+	private final Setting<Integer> prefetchedFragmentsSetting;
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public FragmentPrefetcher(
+			FragmentGraph graph,
+			Movement movement,
+			Zoom zoom,
+			Setting<Integer> prefetchedFragmentsSetting) {
+		this.graph = graph;
+		this.movement = movement;
+		this.zoom = zoom;
+		this.prefetchedFragmentsSetting = prefetchedFragmentsSetting;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void update() {
+		int maxDepth = prefetchedFragmentsSetting.get();
+		if (maxDepth <= 0) {
+			graph.prefetch(Collections.emptySet());
+			return;
+		}
+		double fragmentSizeOnScreen = zoom.worldToScreen(graph.getFragmentSize());
+		// the map moves in the opposite direction of the viewer
+		double speedX = -movement.getSpeedX();
+		double speedY = -movement.getSpeedY();
+		int depthX = getDepth(Math.abs(speedX), fragmentSizeOnScreen, maxDepth);
+		int depthY = getDepth(Math.abs(speedY), fragmentSizeOnScreen, maxDepth);
+		if (depthX > 0 || depthY > 0) {
+			graph.prefetch(
+					createCorners(
+							speedX < 0 ? depthX : 0,
+							speedY < 0 ? depthY : 0,
+							speedX > 0 ? depthX : 0,
+							speedY > 0 ? depthY : 0));
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int getDepth(double speed, double fragmentSizeOnScreen, int maxDepth) {
+		if (speed < MIN_SPEED) {
+			return 0;
+		} else {
+			return Math.min((int) Math.ceil(speed * LOOKAHEAD_FRAMES / fragmentSizeOnScreen), maxDepth);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private Set<CoordinatesInWorld> createCorners(int left, int above, int right, int below) {
+		CoordinatesInWorld corner = graph.getCorner();
+		int fragmentSize = graph.getFragmentSize();
+		int columns = graph.getFragmentsPerRow();
+		int rows = graph.getFragmentsPerColumn();
+		Set<CoordinatesInWorld> result = new HashSet<>();
+		for (int row = -above; row < rows + below; row++) {
+			for (int column = -left; column < columns + right; column++) {
+				if (row < 0 || row >= rows || column < 0 || column >= columns) {
+					result.add(corner.add((long) column * fragmentSize, (long) row * fragmentSize));
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -61,4 +61,29 @@ public class Movement {
 	public void setLastMouse(Point lastMouse) {
 		this.lastMouse = lastMouse;
 	}
+
+	/**
+	 * The map only moves by whole pixels, so it stops as soon as the speed is
+	 * less than one pixel per frame.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean isMoving() {
+		return Math.abs(speedX) >= 1 || Math.abs(speedY) >= 1;
+	}
+
+	/**
+	 * The speed of the map on the screen, in pixels per frame.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public double getSpeedX() {
+		return speedX;
+	}
+
+	/**
+	 * The speed of the map on the screen, in pixels per frame.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public double getSpeedY() {
+		return speedY;
+	}
 }
@@ -28,9 +28,11 @@ import amidst.gui.main.viewer.widget.SelectedIconWidget;
 import amidst.gui.main.viewer.widget.Widget;
 import amidst.gui.main.viewer.widget.Widget.CornerAnchorPoint;
 import amidst.gui.main.viewer.widget.WidgetManager;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.export.WorldExporter;
 import amidst.mojangapi.world.export.WorldExporterConfiguration;
+import amidst.threading.ThreadMaster;
 import amidst.threading.WorkerExecutor;
 
 @NotThreadSafe
@@ -45,6 +47,7 @@ public class PerViewerFacadeInjector {
 			WorldIconSelection worldIconSelection,
 			LayerReloader layerReloader,
 			FragmentManager fragmentManager,
+			MinecraftInterfaceMetrics minecraftInterfaceMetrics,
 			Graphics2DAccelerationCounter accelerationCounter,
 			AmidstSettings settings,
 			Supplier<String> progressText) {
@@ -55,7 +58,7 @@ public class PerViewerFacadeInjector {
 				new ScaleWidget(            CornerAnchorPoint.BOTTOM_CENTER, zoom,                               settings.showScale),
 				new SeedAndWorldTypeWidget( CornerAnchorPoint.TOP_LEFT,      world.getWorldSeed(), world.getWorldType()),
 				new SelectedIconWidget(     CornerAnchorPoint.TOP_LEFT,      worldIconSelection),
-				new DebugWidget(            CornerAnchorPoint.BOTTOM_RIGHT,  graph,             fragmentManager, settings.showDebug, accelerationCounter),
+				new DebugWidget(            CornerAnchorPoint.BOTTOM_RIGHT,  graph,             fragmentManager, minecraftInterfaceMetrics, settings.showDebug, accelerationCounter),
 				new CursorInformationWidget(CornerAnchorPoint.TOP_RIGHT,     graph,             translator,      settings.dimension),
 				new BiomeToggleWidget(      CornerAnchorPoint.BOTTOM_RIGHT,  biomeSelection,    layerReloader),
 				new BiomeWidget(            CornerAnchorPoint.NONE,          biomeSelection,    layerReloader,   settings.biomeProfileSelection)
@@ -71,6 +74,7 @@ public class PerViewerFacadeInjector {
 	private final LayerManager layerManager;
 	private final FragmentGraph graph;
 	private final FragmentGraphToScreenTranslator translator;
+	private final FragmentPrefetcher prefetcher;
 	private final FragmentQueueProcessor fragmentQueueProcessor;
 	private final LayerReloader layerReloader;
 	private final ProgressMessageHolder progressMessageHolder;
@@ -84,25 +88,34 @@ public class PerViewerFacadeInjector {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public PerViewerFacadeInjector(
 			AmidstSettings settings,
-			WorkerExecutor workerExecutor,
+			ThreadMaster threadMaster,
 			Zoom zoom,
 			LayerBuilder layerBuilder,
 			FragmentManager fragmentManager,
 			BiomeSelection biomeSelection,
+			MinecraftInterfaceMetrics minecraftInterfaceMetrics,
 			World world,
 			Actions actions) {
-		this.workerExecutor = workerExecutor;
+		this.workerExecutor = threadMaster.getWorkerExecutor();
 		this.world = world;
 		this.accelerationCounter = new Graphics2DAccelerationCounter();
 		this.movement = new Movement(settings.smoothScrolling);
 		this.worldIconSelection = new WorldIconSelection();
-		this.layerManager = layerBuilder
-				.create(settings, world, biomeSelection, worldIconSelection, zoom, accelerationCounter);
+		this.layerManager = layerBuilder.create(
+				settings,
+				world,
+				biomeSelection,
+				worldIconSelection,
+				zoom,
+				accelerationCounter,
+				threadMaster::requestFragmentLoad);
 		this.graph = new FragmentGraph(layerManager.getDeclarations(), fragmentManager);
-		this.translator = new FragmentGraphToScreenTranslator(graph, zoom);
-		this.fragmentQueueProcessor = fragmentManager.createQueueProcessor(layerManager, settings.dimension);
+		this.translator = new FragmentGraphToScreenTranslator(graph, zoom, settings.dimension);
+		this.prefetcher = new FragmentPrefetcher(graph, movement, zoom, settings.prefetchedFragments);
+		this.fragmentQueueProcessor = fragmentManager
+				.createQueueProcessor(layerManager, settings.dimension, threadMaster::requestRepaint);
 		this.layerReloader = layerManager.createLayerReloader(world);
-		this.progressMessageHolder = new ProgressMessageHolder();
+		this.progressMessageHolder = new ProgressMessageHolder(threadMaster::requestRepaint);
 		this.widgets = createWidgets(
 				world,
 				graph,
@@ -112,6 +125,7 @@ public class PerViewerFacadeInjector {
 				worldIconSelection,
 				layerReloader,
 				fragmentManager,
+				minecraftInterfaceMetrics,
 				accelerationCounter,
 				settings,
 				progressMessageHolder::getProgressMessage);
@@ -120,12 +134,21 @@ public class PerViewerFacadeInjector {
 				translator,
 				zoom,
 				movement,
+				prefetcher,
 				widgets,
 				layerManager.getDrawers(),
 				settings.dimension,
-				accelerationCounter);
+				accelerationCounter,
+				threadMaster::requestRepaint);
 		this.widgetManager = new WidgetManager(widgets);
-		this.viewerMouseListener = new ViewerMouseListener(widgetManager, graph, translator, zoom, movement, actions);
+		this.viewerMouseListener = new ViewerMouseListener(
+				widgetManager,
+				graph,
+				translator,
+				zoom,
+				movement,
+				actions,
+				threadMaster::requestRepaint);
 		this.viewer = new Viewer(viewerMouseListener, drawer);
 		this.viewerFacade = new ViewerFacade(
 				world,
@@ -140,7 +163,8 @@ public class PerViewerFacadeInjector {
 				this::createWorldExporter,
 				this::onRepainterTick,
 				this::onFragmentLoaderTick,
-				this::onPlayerFinishedLoading);
+				this::onPlayerFinishedLoading,
+				threadMaster::requestRepaint);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -7,11 +7,18 @@ import amidst.documentation.NotThreadSafe;
 
 @NotThreadSafe
 public class ProgressMessageHolder {
+	private final Runnable requestRepaint;
 	private volatile String progressMessage;
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public ProgressMessageHolder(Runnable requestRepaint) {
+		this.requestRepaint = requestRepaint;
+	}
+
 	@CalledByAny
 	public void setProgressMessage(String progressMessage) {
 		this.progressMessage = progressMessage;
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
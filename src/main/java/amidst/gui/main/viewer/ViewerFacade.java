@@ -43,6 +43,7 @@ public class ViewerFacade {
 	private final Runnable onRepainterTick;
 	private final Runnable onFragmentLoaderTick;
 	private final Runnable onPlayerFinishedLoading;
+	private final Runnable requestRepaint;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public ViewerFacade(
@@ -58,7 +59,8 @@ public class ViewerFacade {
 			Factory1<WorldExporterConfiguration, WorldExporter> worldExporterFactory,
 			Runnable onRepainterTick,
 			Runnable onFragmentLoaderTick,
-			Runnable onPlayerFinishedLoading) {
+			Runnable onPlayerFinishedLoading,
+			Runnable requestRepaint) {
 		this.world = world;
 		this.graph = graph;
 		this.translator = translator;
@@ -72,6 +74,7 @@ public class ViewerFacade {
 		this.onRepainterTick = onRepainterTick;
 		this.onFragmentLoaderTick = onFragmentLoaderTick;
 		this.onPlayerFinishedLoading = onPlayerFinishedLoading;
+		this.requestRepaint = requestRepaint;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -80,8 +83,9 @@ public class ViewerFacade {
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public void reloadBackgroundLayer() {
-		layerReloader.reloadBackgroundLayer();
+	public void updateBiomePalette() {
+		layerReloader.updateBiomePalette();
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -110,12 +114,14 @@ public class ViewerFacade {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void centerOn(CoordinatesInWorld coordinates) {
 		translator.centerOn(coordinates);
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void centerOn(WorldIcon worldIcon) {
 		translator.centerOn(worldIcon.getCoordinates());
 		worldIconSelection.select(worldIcon);
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -126,16 +132,19 @@ public class ViewerFacade {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void adjustZoom(int notches) {
 		zoom.adjustZoom(viewer.getMousePositionOrCenter(), notches);
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void adjustZoom(Point mousePosition, int notches) {
 		zoom.adjustZoom(mousePosition, notches);
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void selectWorldIcon(WorldIcon worldIcon) {
 		worldIconSelection.select(worldIcon);
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -176,6 +185,7 @@ public class ViewerFacade {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void loadPlayers() {
 		worldIconSelection.clear();
+		requestRepaint.run();
 		world.getMovablePlayerList().load(workerExecutor, onPlayerFinishedLoading);
 	}
 
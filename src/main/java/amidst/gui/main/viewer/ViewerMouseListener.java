@@ -4,6 +4,7 @@ import java.awt.Component;
 import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 
@@ -14,14 +15,19 @@ import amidst.fragment.FragmentGraph;
 import amidst.gui.main.Actions;
 import amidst.gui.main.viewer.widget.WidgetManager;
 
+/**
+ * Each mouse event requests a repaint, because the widgets and the movement of
+ * the map depend on the mouse position.
+ */
 @NotThreadSafe
-public class ViewerMouseListener implements MouseListener, MouseWheelListener {
+public class ViewerMouseListener implements MouseListener, MouseMotionListener, MouseWheelListener {
 	private final WidgetManager widgetManager;
 	private final FragmentGraph graph;
 	private final FragmentGraphToScreenTranslator translator;
 	private final Zoom zoom;
 	private final Movement movement;
 	private final Actions actions;
+	private final Runnable requestRepaint;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public ViewerMouseListener(
@@ -30,18 +36,21 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 			FragmentGraphToScreenTranslator translator,
 			Zoom zoom,
 			Movement movement,
-			Actions actions) {
+			Actions actions,
+			Runnable requestRepaint) {
 		this.widgetManager = widgetManager;
 		this.graph = graph;
 		this.translator = translator;
 		this.zoom = zoom;
 		this.movement = movement;
 		this.actions = actions;
+		this.requestRepaint = requestRepaint;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseWheelMoved(MouseWheelEvent e) {
+		requestRepaint.run();
 		Point mousePosition = e.getPoint();
 		int notches = e.getWheelRotation();
 		if (!widgetManager.mouseWheelMoved(mousePosition, notches)) {
@@ -52,6 +61,7 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseClicked(MouseEvent e) {
+		requestRepaint.run();
 		Point mousePosition = e.getPoint();
 		if (isRightClick(e)) {
 			// noop
@@ -63,6 +73,7 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mousePressed(MouseEvent e) {
+		requestRepaint.run();
 		Point mousePosition = e.getPoint();
 		if (isPopup(e)) {
 			showPopupMenu(mousePosition, e.getComponent(), e.getX(), e.getY());
@@ -76,6 +87,7 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseReleased(MouseEvent e) {
+		requestRepaint.run();
 		Point mousePosition = e.getPoint();
 		if (isPopup(e)) {
 			showPopupMenu(mousePosition, e.getComponent(), e.getX(), e.getY());
@@ -87,13 +99,25 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseEntered(MouseEvent e) {
-		// noop
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseExited(MouseEvent e) {
-		// noop
+		requestRepaint.run();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	public void mouseDragged(MouseEvent e) {
+		requestRepaint.run();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	public void mouseMoved(MouseEvent e) {
+		requestRepaint.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
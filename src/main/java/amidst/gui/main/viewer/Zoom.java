@@ -64,6 +64,11 @@ public class Zoom {
 		}
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean isFading() {
+		return remainingTicks > 0;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public double getCurrentValue() {
 		return current;
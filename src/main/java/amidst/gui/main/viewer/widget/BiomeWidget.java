@@ -285,7 +285,7 @@ public class BiomeWidget extends Widget {
 		}
 		updateScrollbarParameters(mouseX, mouseY);
 		if (processClick(mouseX, mouseY)) {
-			layerReloader.reloadBackgroundLayer();
+			layerReloader.updateBiomePalette();
 		}
 		return true;
 	}
@@ -69,8 +69,10 @@ public class CursorInformationWidget extends TextWidget {
 	private String getOverworldBiomeNameAt(CoordinatesInWorld coordinates) {
 		Fragment fragment = graph.getFragmentAt(coordinates);
 		if (fragment != null && fragment.isLoaded()) {
-			long x = coordinates.getXRelativeToFragmentAs(Resolution.QUARTER);
-			long y = coordinates.getYRelativeToFragmentAs(Resolution.QUARTER);
+			// super-fragments contain one biome per stride quarters
+			int stride = Resolution.QUARTER.getStep() << fragment.getLevelOfDetail();
+			long x = (coordinates.getX() - fragment.getCorner().getX()) / stride;
+			long y = (coordinates.getY() - fragment.getCorner().getY()) / stride;
 			short biome = fragment.getBiomeDataAt((int) x, (int) y);
 			try {
 				return Biome.getByIndex(biome).getName();
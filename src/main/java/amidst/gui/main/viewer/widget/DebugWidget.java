@@ -1,5 +1,6 @@
 package amidst.gui.main.viewer.widget;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -9,12 +10,14 @@ import amidst.documentation.NotThreadSafe;
 import amidst.fragment.FragmentGraph;
 import amidst.fragment.FragmentManager;
 import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
 import amidst.settings.Setting;
 
 @NotThreadSafe
 public class DebugWidget extends TextWidget {
 	private final FragmentGraph graph;
 	private final FragmentManager fragmentManager;
+	private final MinecraftInterfaceMetrics minecraftInterfaceMetrics;
 	private final Setting<Boolean> isVisibleSetting;
 	private final Graphics2DAccelerationCounter accelerationCounter;
 
@@ -23,11 +26,13 @@ public class DebugWidget extends TextWidget {
 			CornerAnchorPoint anchor,
 			FragmentGraph graph,
 			FragmentManager fragmentManager,
+			MinecraftInterfaceMetrics minecraftInterfaceMetrics,
 			Setting<Boolean> isVisibleSetting,
 			Graphics2DAccelerationCounter accelerationCounter) {
 		super(anchor);
 		this.graph = graph;
 		this.fragmentManager = fragmentManager;
+		this.minecraftInterfaceMetrics = minecraftInterfaceMetrics;
 		this.isVisibleSetting = isVisibleSetting;
 		this.accelerationCounter = accelerationCounter;
 	}
@@ -35,21 +40,36 @@ public class DebugWidget extends TextWidget {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	protected List<String> updateTextLines() {
+		minecraftInterfaceMetrics.setWaitMeasuredByDebugWidget(isVisibleSetting.get());
 		if (isVisibleSetting.get()) {
 			int columns = graph.getFragmentsPerRow();
 			int rows = graph.getFragmentsPerColumn();
-			return Arrays.asList(
-					"Fragment Manager:",
-					"Cache Size: " + fragmentManager.getCacheSize(),
-					"Available Queue Size: " + fragmentManager.getAvailableQueueSize(),
-					"Loading Queue Size: " + fragmentManager.getLoadingQueueSize(),
-					"Recycle Queue Size: " + fragmentManager.getRecycleQueueSize(),
-					"",
-					"Viewer:",
-					"Size: " + columns + "x" + rows + " [" + (columns * rows) + "]",
-					String.format("Acceleration: %1$.1f%%", accelerationCounter.getAcceleratedPercentage()));
+			List<String> result = new ArrayList<>(
+					Arrays.asList(
+							"Fragment Manager:",
+							"Cache Size: " + fragmentManager.getCacheSize(),
+							"Cache Memory: " + toMegabytes(fragmentManager.getCacheSizeInBytes()) + " MB / "
+									+ fragmentManager.getCacheBudgetInMegabytes() + " MB",
+							"Available Queue Size: " + fragmentManager.getAvailableQueueSize(),
+							"Loading Queue Size: " + fragmentManager.getLoadingQueueSize(),
+							"Recycle Queue Size: " + fragmentManager.getRecycleQueueSize(),
+							"Retained Fragments: " + fragmentManager.getRetainedFragmentsSize(),
+							"",
+							"Viewer:",
+							"Size: " + columns + "x" + rows + " [" + (columns * rows) + "]",
+							"Level of Detail: " + graph.getLevelOfDetail(),
+							String.format("Acceleration: %1$.1f%%", accelerationCounter.getAcceleratedPercentage()),
+							"",
+							"Minecraft Interface:"));
+			result.addAll(minecraftInterfaceMetrics.createSummary());
+			return result;
 		} else {
 			return null;
 		}
 	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private long toMegabytes(long bytes) {
+		return bytes / (1024 * 1024);
+	}
 }
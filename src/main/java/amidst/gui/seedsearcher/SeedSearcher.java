@@ -51,9 +51,14 @@ public class SeedSearcher {
 		this.isStopRequested = true;
 	}
 
+	/**
+	 * The running launcher profile was created for the seed searcher, so it is
+	 * closed as well.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		stop();
+		runningLauncherProfile.close();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -72,7 +77,9 @@ public class SeedSearcher {
 			doSearch(reporter, configuration);
 		} catch (IllegalStateException | MinecraftInterfaceException e) {
 			AmidstLogger.warn(e);
-			dialogs.displayError(e);
+			if (!isStopRequested) {
+				dialogs.displayError(e);
+			}
 		} finally {
 			this.isSearching = false;
 			this.isStopRequested = false;
@@ -2,18 +2,39 @@ package amidst.mojangapi;
 
 import amidst.documentation.Immutable;
 import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.BiomeTileStoreDirectory;
 import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
 import amidst.mojangapi.world.WorldBuilder;
 
 @Immutable
 public class LauncherProfileRunner {
 	private final WorldBuilder worldBuilder;
+	private final int numberOfMinecraftInterfaces;
+	private final int numberOfBiomeWorkers;
+	private final BiomeTileStoreDirectory biomeTileStoreDirectory;
+	private final MinecraftInterfaceMetrics metrics;
 
-	public LauncherProfileRunner(WorldBuilder worldBuilder) {
+	public LauncherProfileRunner(
+			WorldBuilder worldBuilder,
+			int numberOfMinecraftInterfaces,
+			int numberOfBiomeWorkers,
+			BiomeTileStoreDirectory biomeTileStoreDirectory,
+			MinecraftInterfaceMetrics metrics) {
 		this.worldBuilder = worldBuilder;
+		this.numberOfMinecraftInterfaces = numberOfMinecraftInterfaces;
+		this.numberOfBiomeWorkers = numberOfBiomeWorkers;
+		this.biomeTileStoreDirectory = biomeTileStoreDirectory;
+		this.metrics = metrics;
 	}
 
 	public RunningLauncherProfile run(LauncherProfile launcherProfile) throws LocalMinecraftInterfaceCreationException {
-		return RunningLauncherProfile.from(worldBuilder, launcherProfile);
+		return RunningLauncherProfile.from(
+				worldBuilder,
+				launcherProfile,
+				numberOfMinecraftInterfaces,
+				numberOfBiomeWorkers,
+				biomeTileStoreDirectory,
+				metrics);
 	}
 }
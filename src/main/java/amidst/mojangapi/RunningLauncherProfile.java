@@ -1,16 +1,24 @@
 package amidst.mojangapi;
 
 import java.io.IOException;
+import java.net.URLClassLoader;
 
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.file.LauncherProfile;
 import amidst.mojangapi.file.SaveGame;
+import amidst.mojangapi.minecraftinterface.BiomeTileStoreDirectory;
+import amidst.mojangapi.minecraftinterface.CachingMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.InstrumentedMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.local.DefaultClassTranslator;
 import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterfacePool;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
+import amidst.mojangapi.minecraftinterface.remote.RemoteMinecraftInterface;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.WorldBuilder;
 import amidst.mojangapi.world.WorldSeed;
@@ -18,26 +26,114 @@ import amidst.mojangapi.world.WorldType;
 
 @ThreadSafe
 public class RunningLauncherProfile {
-	public static RunningLauncherProfile from(WorldBuilder worldBuilder, LauncherProfile launcherProfile)
-			throws LocalMinecraftInterfaceCreationException {
+	/**
+	 * If numberOfBiomeWorkers is greater than zero, the biome data is generated
+	 * by that many separate processes. Otherwise, if
+	 * numberOfMinecraftInterfaces is greater than one, the biome data is
+	 * generated in parallel by a pool of isolated minecraft interfaces. If the
+	 * biome generator of the Minecraft version was ported to Java, it replaces
+	 * these minecraft interfaces for all worlds it supports and they are only
+	 * started for the first world it does not support. In any case, the
+	 * generated biome data is cached in memory and in the given biome tile
+	 * store directory. The requests that are not answered by the cache are
+	 * recorded in the given metrics.
+	 */
+	public static RunningLauncherProfile from(
+			WorldBuilder worldBuilder,
+			LauncherProfile launcherProfile,
+			int numberOfMinecraftInterfaces,
+			int numberOfBiomeWorkers,
+			BiomeTileStoreDirectory biomeTileStoreDirectory,
+			MinecraftInterfaceMetrics metrics) throws LocalMinecraftInterfaceCreationException {
 		return new RunningLauncherProfile(
 				worldBuilder,
 				launcherProfile,
-				LocalMinecraftInterface.create(DefaultClassTranslator.INSTANCE.get(), launcherProfile));
+				new CachingMinecraftInterface(
+						new InstrumentedMinecraftInterface(
+								createMinecraftInterface(
+										launcherProfile,
+										numberOfMinecraftInterfaces,
+										numberOfBiomeWorkers),
+								metrics),
+						biomeTileStoreDirectory),
+				numberOfMinecraftInterfaces,
+				numberOfBiomeWorkers,
+				biomeTileStoreDirectory,
+				metrics);
+	}
+
+	private static MinecraftInterface createMinecraftInterface(
+			LauncherProfile launcherProfile,
+			int numberOfMinecraftInterfaces,
+			int numberOfBiomeWorkers) throws LocalMinecraftInterfaceCreationException {
+		RecognisedVersion recognisedVersion = getRecognisedVersion(launcherProfile);
+		if (GenLayerMinecraftInterface.isSupported(recognisedVersion)) {
+			return new GenLayerMinecraftInterface(recognisedVersion, () -> {
+				try {
+					return createReflectiveMinecraftInterface(
+							launcherProfile,
+							numberOfMinecraftInterfaces,
+							numberOfBiomeWorkers);
+				} catch (LocalMinecraftInterfaceCreationException e) {
+					throw new MinecraftInterfaceException("unable to create the fallback minecraft interface", e);
+				}
+			});
+		} else {
+			return createReflectiveMinecraftInterface(launcherProfile, numberOfMinecraftInterfaces, numberOfBiomeWorkers);
+		}
+	}
+
+	/**
+	 * This only loads the classes that are needed to recognise the version,
+	 * so it is much cheaper than creating a minecraft interface.
+	 */
+	private static RecognisedVersion getRecognisedVersion(LauncherProfile launcherProfile)
+			throws LocalMinecraftInterfaceCreationException {
+		try (URLClassLoader classLoader = launcherProfile.newClassLoader()) {
+			return RecognisedVersion.from(classLoader);
+		} catch (ClassNotFoundException | IOException e) {
+			throw new LocalMinecraftInterfaceCreationException("unable to recognise the minecraft version", e);
+		}
+	}
+
+	private static MinecraftInterface createReflectiveMinecraftInterface(
+			LauncherProfile launcherProfile,
+			int numberOfMinecraftInterfaces,
+			int numberOfBiomeWorkers) throws LocalMinecraftInterfaceCreationException {
+		if (numberOfBiomeWorkers > 0) {
+			return RemoteMinecraftInterface.start(launcherProfile, numberOfBiomeWorkers);
+		} else if (numberOfMinecraftInterfaces > 1) {
+			return LocalMinecraftInterfacePool
+					.create(DefaultClassTranslator.INSTANCE.get(), launcherProfile, numberOfMinecraftInterfaces);
+		} else {
+			return LocalMinecraftInterface.create(DefaultClassTranslator.INSTANCE.get(), launcherProfile);
+		}
 	}
 
 	private final WorldBuilder worldBuilder;
 	private final LauncherProfile launcherProfile;
 	private final MinecraftInterface minecraftInterface;
+	private final int numberOfMinecraftInterfaces;
+	private final int numberOfBiomeWorkers;
+	private final BiomeTileStoreDirectory biomeTileStoreDirectory;
+	private final MinecraftInterfaceMetrics metrics;
 	private volatile World currentWorld = null;
 
 	public RunningLauncherProfile(
 			WorldBuilder worldBuilder,
 			LauncherProfile launcherProfile,
-			MinecraftInterface minecraftInterface) {
+			MinecraftInterface minecraftInterface,
+			int numberOfMinecraftInterfaces,
+			int numberOfBiomeWorkers,
+			BiomeTileStoreDirectory biomeTileStoreDirectory,
+			MinecraftInterfaceMetrics metrics) {
 		this.worldBuilder = worldBuilder;
 		this.launcherProfile = launcherProfile;
 		this.minecraftInterface = minecraftInterface;
+		this.numberOfMinecraftInterfaces = numberOfMinecraftInterfaces;
+		this.numberOfBiomeWorkers = numberOfBiomeWorkers;
+		this.biomeTileStoreDirectory = biomeTileStoreDirectory;
+		this.metrics = metrics;
 	}
 
 	public LauncherProfile getLauncherProfile() {
@@ -48,9 +144,19 @@ public class RunningLauncherProfile {
 		return minecraftInterface.getRecognisedVersion();
 	}
 
+	/**
+	 * The copy does not store biome tiles on disk, because the worlds it
+	 * creates are usually only used once.
+	 */
 	public RunningLauncherProfile createSilentPlayerlessCopy() {
 		try {
-			return RunningLauncherProfile.from(WorldBuilder.createSilentPlayerless(), launcherProfile);
+			return RunningLauncherProfile.from(
+					WorldBuilder.createSilentPlayerless(),
+					launcherProfile,
+					numberOfMinecraftInterfaces,
+					numberOfBiomeWorkers,
+					BiomeTileStoreDirectory.createDisabled(),
+					metrics);
 		} catch (LocalMinecraftInterfaceCreationException e) {
 			// This will not happen normally, because we already successfully
 			// created the same LocalMinecraftInterface once before.
@@ -93,6 +199,14 @@ public class RunningLauncherProfile {
 		}
 	}
 
+	/**
+	 * Closes the minecraft interface, e.g. to terminate the biome workers. The
+	 * profile cannot be used to create worlds afterwards.
+	 */
+	public void close() {
+		minecraftInterface.close();
+	}
+
 	private synchronized void unlock(World world) throws IllegalStateException {
 		if (currentWorld == world) {
 			currentWorld = null;
@@ -69,6 +69,14 @@ public class LauncherProfile {
 		return versionDirectory.getJar();
 	}
 
+	public File getJson() {
+		return versionDirectory.getJson();
+	}
+
+	public DotMinecraftDirectory getDotMinecraftDirectory() {
+		return dotMinecraftDirectory;
+	}
+
 	public File getSaves() {
 		return profileDirectory.getSaves();
 	}
@@ -0,0 +1,38 @@
+package amidst.mojangapi.minecraftinterface;
+
+import amidst.documentation.Immutable;
+
+/**
+ * One area of a batch request for biome data. See
+ * {@link MinecraftInterface#getBiomeData(java.util.List, boolean)}.
+ */
+@Immutable
+public class BiomeDataRequest {
+	private final int x;
+	private final int y;
+	private final int width;
+	private final int height;
+
+	public BiomeDataRequest(int x, int y, int width, int height) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
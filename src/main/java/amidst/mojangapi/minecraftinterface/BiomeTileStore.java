@@ -0,0 +1,477 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+import java.util.zip.CRC32;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+
+/**
+ * Persistently stores the biome tiles of a single world in memory mapped
+ * segment files. Each biome index is stored as a single byte. There are
+ * separate segment files for each resolution. Each segment file starts with a
+ * header and is followed by a fixed number of slots. Each slot contains a
+ * header with the tile coordinates, a sequence number, a checksum and a
+ * marker, followed by the tile itself. The marker is written last, so a slot
+ * that was only written partially is ignored when the store is opened again.
+ * The index of all stored tiles is reconstructed from the slot headers when
+ * the store is opened.
+ *
+ * A new segment file is only created if the given predicate grants the space
+ * for it. Once no more segment files can be created, the slots are reused in
+ * the order they were written, so the oldest tiles are evicted. The sequence
+ * number tells which slot is written next after the store is opened again.
+ *
+ * Tiles are written by the given executor, so the caller of
+ * {@link #putAsync(boolean, int, int, short[])} does not have to wait for the
+ * disk. A store is only opened once at a time for a world directory, even
+ * across several Amidst instances. Otherwise, the store is disabled.
+ */
+@ThreadSafe
+public class BiomeTileStore {
+	@NotThreadSafe
+	private static class Segments {
+		private final File directory;
+		private final String prefix;
+		private final int tileSize;
+		private final int slotSize;
+		private final int maxNumberOfSegments;
+		private final LongPredicate reserveSpace;
+		private final List<RandomAccessFile> files = new ArrayList<>();
+		private final List<MappedByteBuffer> buffers = new ArrayList<>();
+		private final Map<Long, Integer> slotsByKey = new HashMap<>();
+		private final Set<Long> pendingKeys = new HashSet<>();
+		private int nextSlot = 0;
+		private int nextSequenceNumber = 0;
+
+		public Segments(
+				File directory,
+				String prefix,
+				int tileSize,
+				int maxNumberOfSegments,
+				LongPredicate reserveSpace) {
+			this.directory = directory;
+			this.prefix = prefix;
+			this.tileSize = tileSize;
+			this.slotSize = SLOT_HEADER_SIZE + tileSize * tileSize;
+			this.maxNumberOfSegments = maxNumberOfSegments;
+			this.reserveSpace = reserveSpace;
+		}
+
+		private File getFile(int segment) {
+			return new File(directory, prefix + "-" + segment + ".bin");
+		}
+
+		private int getFileSize() {
+			return FILE_HEADER_SIZE + SLOTS_PER_SEGMENT * slotSize;
+		}
+
+		public void open() throws IOException {
+			for (int segment = 0; segment < maxNumberOfSegments && getFile(segment).isFile(); segment++) {
+				if (!openExisting(segment)) {
+					deleteFrom(segment);
+					break;
+				}
+			}
+		}
+
+		private boolean openExisting(int segment) throws IOException {
+			RandomAccessFile file = new RandomAccessFile(getFile(segment), "rw");
+			if (file.length() != getFileSize()) {
+				file.close();
+				return false;
+			}
+			MappedByteBuffer buffer = file.getChannel().map(MapMode.READ_WRITE, 0, getFileSize());
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || buffer.getInt(8) != tileSize
+					|| buffer.getInt(12) != SLOTS_PER_SEGMENT) {
+				unmap(buffer);
+				file.close();
+				return false;
+			}
+			files.add(file);
+			buffers.add(buffer);
+			for (int slot = 0; slot < SLOTS_PER_SEGMENT; slot++) {
+				int globalSlot = segment * SLOTS_PER_SEGMENT + slot;
+				int offset = getOffset(slot);
+				if (isValid(buffer, offset)) {
+					int sequenceNumber = buffer.getInt(offset + 8);
+					if (slotsByKey.isEmpty() || sequenceNumber - nextSequenceNumber >= 0) {
+						nextSequenceNumber = sequenceNumber + 1;
+						nextSlot = globalSlot + 1;
+					}
+					slotsByKey.put(getKey(buffer.getInt(offset), buffer.getInt(offset + 4)), globalSlot);
+				}
+			}
+			return true;
+		}
+
+		private boolean isValid(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset + 16) == SLOT_MARKER && buffer.getInt(offset + 12) == getChecksum(buffer, offset);
+		}
+
+		private void deleteFrom(int segment) {
+			for (int i = segment; getFile(i).isFile(); i++) {
+				AmidstLogger.warn("Deleting corrupt biome tile store segment: " + getFile(i));
+				getFile(i).delete();
+			}
+		}
+
+		private int getOffset(int slot) {
+			return FILE_HEADER_SIZE + slot * slotSize;
+		}
+
+		private int getChecksum(ByteBuffer buffer, int offset) {
+			CRC32 crc = new CRC32();
+			ByteBuffer slot = buffer.duplicate();
+			slot.position(offset);
+			slot.limit(offset + 12);
+			crc.update(slot);
+			slot.limit(offset + slotSize);
+			slot.position(offset + SLOT_HEADER_SIZE);
+			crc.update(slot);
+			return (int) crc.getValue();
+		}
+
+		public short[] get(int tileX, int tileY) {
+			Integer globalSlot = slotsByKey.get(getKey(tileX, tileY));
+			if (globalSlot == null) {
+				return null;
+			}
+			ByteBuffer buffer = buffers.get(globalSlot / SLOTS_PER_SEGMENT).duplicate();
+			buffer.position(getOffset(globalSlot % SLOTS_PER_SEGMENT) + SLOT_HEADER_SIZE);
+			short[] result = new short[tileSize * tileSize];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = (short) (buffer.get() & 0xFF);
+			}
+			return result;
+		}
+
+		public boolean reserve(int tileX, int tileY) {
+			long key = getKey(tileX, tileY);
+			return !slotsByKey.containsKey(key) && pendingKeys.add(key);
+		}
+
+		/**
+		 * The tile is only dropped, if not even a single segment file can be
+		 * created.
+		 */
+		public void put(int tileX, int tileY, byte[] tile) throws IOException {
+			long key = getKey(tileX, tileY);
+			pendingKeys.remove(key);
+			int globalSlot = nextSlot();
+			if (globalSlot == -1) {
+				return;
+			}
+			int offset = getOffset(globalSlot % SLOTS_PER_SEGMENT);
+			MappedByteBuffer buffer = buffers.get(globalSlot / SLOTS_PER_SEGMENT);
+			evict(buffer, offset);
+			ByteBuffer slot = buffer.duplicate();
+			slot.position(offset + SLOT_HEADER_SIZE);
+			slot.put(tile);
+			buffer.putInt(offset, tileX);
+			buffer.putInt(offset + 4, tileY);
+			buffer.putInt(offset + 8, nextSequenceNumber++);
+			buffer.putInt(offset + 12, getChecksum(buffer, offset));
+			buffer.putInt(offset + 16, SLOT_MARKER);
+			slotsByKey.put(key, globalSlot);
+		}
+
+		/**
+		 * Wraps around to the first slot, if no more segment files can be
+		 * created. Returns -1, if there is no segment file at all.
+		 */
+		private int nextSlot() throws IOException {
+			int segment = nextSlot / SLOTS_PER_SEGMENT;
+			if (segment == buffers.size() && !tryCreateSegment(segment)) {
+				if (buffers.isEmpty()) {
+					return -1;
+				}
+				nextSlot = 0;
+			}
+			return nextSlot++;
+		}
+
+		/**
+		 * The marker is removed before the slot is overwritten, so the evicted
+		 * tile is not found again if the new tile is only written partially.
+		 */
+		private void evict(MappedByteBuffer buffer, int offset) {
+			if (isValid(buffer, offset)) {
+				slotsByKey.remove(getKey(buffer.getInt(offset), buffer.getInt(offset + 4)));
+			}
+			buffer.putInt(offset + 16, 0);
+		}
+
+		private boolean tryCreateSegment(int segment) throws IOException {
+			if (segment >= maxNumberOfSegments || !reserveSpace.test(getFileSize())) {
+				return false;
+			}
+			RandomAccessFile file = new RandomAccessFile(getFile(segment), "rw");
+			file.setLength(0);
+			file.setLength(getFileSize());
+			MappedByteBuffer buffer = file.getChannel().map(MapMode.READ_WRITE, 0, getFileSize());
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, FORMAT_VERSION);
+			buffer.putInt(8, tileSize);
+			buffer.putInt(12, SLOTS_PER_SEGMENT);
+			files.add(file);
+			buffers.add(buffer);
+			return true;
+		}
+
+		/**
+		 * The segment files are unmapped, so they can be deleted afterwards,
+		 * even on Windows.
+		 */
+		public void close() {
+			for (MappedByteBuffer buffer : buffers) {
+				buffer.force();
+				unmap(buffer);
+			}
+			for (RandomAccessFile file : files) {
+				try {
+					file.close();
+				} catch (IOException e) {
+					AmidstLogger.warn(e, "unable to close biome tile store segment");
+				}
+			}
+			files.clear();
+			buffers.clear();
+			slotsByKey.clear();
+			pendingKeys.clear();
+		}
+	}
+
+	private static final int MAGIC = 0x414D4254;
+	private static final int FORMAT_VERSION = 2;
+	private static final int SLOT_MARKER = 0x54494C45;
+	private static final int FILE_HEADER_SIZE = 16;
+	private static final int SLOT_HEADER_SIZE = 20;
+	private static final int SLOTS_PER_SEGMENT = 1024;
+	static final String LOCK_FILE = "lock";
+
+	public static BiomeTileStore createDisabled() {
+		return new BiomeTileStore(null, null, null, null, null);
+	}
+
+	/**
+	 * Returns a disabled store, if the store cannot be opened. The given
+	 * predicate is tested with the size of each segment file before it is
+	 * created.
+	 */
+	public static BiomeTileStore open(
+			File directory,
+			int quarterResolutionTileSize,
+			int fullResolutionTileSize,
+			long maxSizeInBytes,
+			LongPredicate reserveSpace,
+			ExecutorService writer) {
+		RandomAccessFile lockFile = null;
+		try {
+			directory.mkdirs();
+			lockFile = new RandomAccessFile(new File(directory, LOCK_FILE), "rw");
+			FileLock lock = tryLock(lockFile.getChannel());
+			if (lock == null) {
+				AmidstLogger.info("The biome tile store is already in use: " + directory);
+				lockFile.close();
+				return createDisabled();
+			}
+			Segments quarterResolutionSegments = new Segments(
+					directory,
+					"quarter",
+					quarterResolutionTileSize,
+					getMaxNumberOfSegments(quarterResolutionTileSize, maxSizeInBytes),
+					reserveSpace);
+			Segments fullResolutionSegments = new Segments(
+					directory,
+					"full",
+					fullResolutionTileSize,
+					getMaxNumberOfSegments(fullResolutionTileSize, maxSizeInBytes),
+					reserveSpace);
+			quarterResolutionSegments.open();
+			fullResolutionSegments.open();
+			return new BiomeTileStore(
+					lockFile,
+					lock,
+					quarterResolutionSegments,
+					fullResolutionSegments,
+					writer);
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "unable to open biome tile store: " + directory);
+			closeQuietly(lockFile);
+			return createDisabled();
+		}
+	}
+
+	private static FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			return null;
+		}
+	}
+
+	private static void closeQuietly(RandomAccessFile file) {
+		if (file != null) {
+			try {
+				file.close();
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "unable to close file");
+			}
+		}
+	}
+
+	/**
+	 * Each resolution gets half of the maximum size.
+	 */
+	private static int getMaxNumberOfSegments(int tileSize, long maxSizeInBytes) {
+		long segmentSize = FILE_HEADER_SIZE + (long) SLOTS_PER_SEGMENT * (SLOT_HEADER_SIZE + tileSize * tileSize);
+		return (int) Math.max(1, maxSizeInBytes / 2 / segmentSize);
+	}
+
+	/**
+	 * Java 8 does not provide a public API to unmap a buffer. If the buffer
+	 * cannot be unmapped, it stays mapped until it is garbage collected.
+	 */
+	private static void unmap(MappedByteBuffer buffer) {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Method invokeCleaner = getMethod(unsafeClass, "invokeCleaner", ByteBuffer.class);
+			if (invokeCleaner != null) {
+				Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				invokeCleaner.invoke(theUnsafe.get(null), buffer);
+			} else {
+				Method cleaner = buffer.getClass().getMethod("cleaner");
+				cleaner.setAccessible(true);
+				Object cleanerInstance = cleaner.invoke(buffer);
+				cleanerInstance.getClass().getMethod("clean").invoke(cleanerInstance);
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			AmidstLogger.warn(e, "unable to unmap biome tile store segment");
+		}
+	}
+
+	private static Method getMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+		try {
+			return clazz.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static long getKey(int tileX, int tileY) {
+		return (long) tileX << 32 | tileY & 0xFFFFFFFFL;
+	}
+
+	private final RandomAccessFile lockFile;
+	private final FileLock lock;
+	private final Segments quarterResolutionSegments;
+	private final Segments fullResolutionSegments;
+	private final ExecutorService writer;
+	private boolean isClosed;
+
+	private BiomeTileStore(
+			RandomAccessFile lockFile,
+			FileLock lock,
+			Segments quarterResolutionSegments,
+			Segments fullResolutionSegments,
+			ExecutorService writer) {
+		this.lockFile = lockFile;
+		this.lock = lock;
+		this.quarterResolutionSegments = quarterResolutionSegments;
+		this.fullResolutionSegments = fullResolutionSegments;
+		this.writer = writer;
+		this.isClosed = writer == null;
+	}
+
+	private Segments getSegments(boolean useQuarterResolution) {
+		if (useQuarterResolution) {
+			return quarterResolutionSegments;
+		} else {
+			return fullResolutionSegments;
+		}
+	}
+
+	/**
+	 * Returns null, if the tile is not stored.
+	 */
+	public synchronized short[] get(boolean useQuarterResolution, int tileX, int tileY) {
+		if (isClosed) {
+			return null;
+		} else {
+			return getSegments(useQuarterResolution).get(tileX, tileY);
+		}
+	}
+
+	/**
+	 * Tiles that contain biome indexes which do not fit into a single byte are
+	 * not stored.
+	 */
+	public synchronized void putAsync(boolean useQuarterResolution, int tileX, int tileY, short[] tile) {
+		if (!isClosed) {
+			byte[] bytes = toBytes(tile);
+			if (bytes != null && getSegments(useQuarterResolution).reserve(tileX, tileY)) {
+				writer.execute(() -> write(useQuarterResolution, tileX, tileY, bytes));
+			}
+		}
+	}
+
+	private synchronized void write(boolean useQuarterResolution, int tileX, int tileY, byte[] tile) {
+		if (!isClosed) {
+			try {
+				getSegments(useQuarterResolution).put(tileX, tileY, tile);
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "unable to write to the biome tile store, closing it");
+				close();
+			}
+		}
+	}
+
+	private byte[] toBytes(short[] tile) {
+		byte[] result = new byte[tile.length];
+		for (int i = 0; i < tile.length; i++) {
+			if (tile[i] < 0 || tile[i] > 0xFF) {
+				return null;
+			}
+			result[i] = (byte) tile[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Pending writes are discarded.
+	 */
+	public synchronized void close() {
+		if (!isClosed) {
+			isClosed = true;
+			quarterResolutionSegments.close();
+			fullResolutionSegments.close();
+			try {
+				lock.release();
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "unable to release the biome tile store lock");
+			}
+			closeQuietly(lockFile);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Contains one {@link BiomeTileStore} for each combination of recognised
+ * version, seed, world type and generator options. The maximum size applies to
+ * all stores together. Whenever a store is opened or needs another segment
+ * file, the least recently opened stores that are not in use are deleted
+ * until the total size of the directory fits into the maximum size. If that is
+ * not possible, the store evicts its own oldest tiles instead.
+ */
+@ThreadSafe
+public class BiomeTileStoreDirectory {
+	public static BiomeTileStoreDirectory create(String root) {
+		BiomeTileStoreDirectory result = new BiomeTileStoreDirectory(getRoot(root), DEFAULT_MAX_SIZE_IN_BYTES, true);
+		AmidstLogger.info("using biome tile store at: '" + result.getRoot() + "'");
+		return result;
+	}
+
+	public static BiomeTileStoreDirectory createDisabled() {
+		return new BiomeTileStoreDirectory(DEFAULT_ROOT_DIRECTORY, DEFAULT_MAX_SIZE_IN_BYTES, false);
+	}
+
+	private static File getRoot(String root) {
+		if (root != null) {
+			return new File(root);
+		} else {
+			return DEFAULT_ROOT_DIRECTORY;
+		}
+	}
+
+	private static final File DEFAULT_ROOT_DIRECTORY = new File("biome-cache");
+	private static final long DEFAULT_MAX_SIZE_IN_BYTES = 256L * 1024 * 1024;
+
+	private final File root;
+	private final long maxSizeInBytes;
+	private final boolean isEnabled;
+	private final ExecutorService writer;
+
+	public BiomeTileStoreDirectory(File root, long maxSizeInBytes, boolean isEnabled) {
+		this.root = root;
+		this.maxSizeInBytes = maxSizeInBytes;
+		this.isEnabled = isEnabled;
+		this.writer = createWriter();
+	}
+
+	private ExecutorService createWriter() {
+		return Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r);
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+	}
+
+	public File getRoot() {
+		return root;
+	}
+
+	/**
+	 * Biome data of unknown versions is never stored, because different
+	 * unknown versions might generate different biomes.
+	 */
+	public BiomeTileStore open(
+			RecognisedVersion recognisedVersion,
+			long seed,
+			WorldType worldType,
+			String generatorOptions,
+			int quarterResolutionTileSize,
+			int fullResolutionTileSize) {
+		if (!isEnabled || !recognisedVersion.isKnown()) {
+			return BiomeTileStore.createDisabled();
+		}
+		try {
+			File directory = new File(root, getDirectoryName(recognisedVersion, seed, worldType, generatorOptions));
+			BiomeTileStore result = BiomeTileStore.open(
+					directory,
+					quarterResolutionTileSize,
+					fullResolutionTileSize,
+					maxSizeInBytes,
+					bytes -> tryReserve(directory, bytes),
+					writer);
+			directory.setLastModified(System.currentTimeMillis());
+			tryReserve(directory, 0);
+			return result;
+		} catch (NoSuchAlgorithmException e) {
+			AmidstLogger.warn(e, "unable to open biome tile store");
+			return BiomeTileStore.createDisabled();
+		}
+	}
+
+	private String getDirectoryName(
+			RecognisedVersion recognisedVersion,
+			long seed,
+			WorldType worldType,
+			String generatorOptions) throws NoSuchAlgorithmException {
+		String key = recognisedVersion.getName() + "\n" + seed + "\n" + worldType.getName() + "\n" + generatorOptions;
+		byte[] hash = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+		StringBuilder result = new StringBuilder();
+		for (byte b : hash) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns true, if the given number of bytes can be added to the current
+	 * store without exceeding the maximum size.
+	 */
+	private synchronized boolean tryReserve(File current, long bytes) {
+		File[] files = root.listFiles(File::isDirectory);
+		if (files == null) {
+			return bytes <= maxSizeInBytes;
+		}
+		List<File> directories = new ArrayList<>();
+		long totalSize = bytes;
+		for (File directory : files) {
+			directories.add(directory);
+			totalSize += getSize(directory);
+		}
+		directories.sort(Comparator.comparingLong(File::lastModified));
+		for (File directory : directories) {
+			if (totalSize <= maxSizeInBytes) {
+				break;
+			} else if (!directory.equals(current)) {
+				long size = getSize(directory);
+				if (tryDelete(directory)) {
+					totalSize -= size;
+				}
+			}
+		}
+		return totalSize <= maxSizeInBytes;
+	}
+
+	private long getSize(File directory) {
+		long result = 0;
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				result += file.length();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Stores that are currently in use are not deleted.
+	 */
+	private boolean tryDelete(File directory) {
+		File lockFile = new File(directory, BiomeTileStore.LOCK_FILE);
+		try (RandomAccessFile file = new RandomAccessFile(lockFile, "rw")) {
+			FileLock lock = file.getChannel().tryLock();
+			if (lock == null) {
+				return false;
+			}
+			AmidstLogger.info("Deleting least recently used biome tile store: " + directory);
+			File[] files = directory.listFiles();
+			if (files != null) {
+				for (File f : files) {
+					if (!f.equals(lockFile)) {
+						f.delete();
+					}
+				}
+			}
+			lock.release();
+		} catch (IOException | OverlappingFileLockException e) {
+			return false;
+		}
+		lockFile.delete();
+		directory.delete();
+		return true;
+	}
+}
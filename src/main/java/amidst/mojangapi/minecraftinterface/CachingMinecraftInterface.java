@@ -0,0 +1,572 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Decorates another minecraft interface with a bounded cache of biome data.
+ * The world is split into square tiles for each resolution. Each request is
+ * answered by the tiles that intersect with the requested area. All missing
+ * tiles are requested from the decorated minecraft interface with a single
+ * call and stored in a least recently used cache. Very large requests bypass
+ * the cache, so they cannot evict everything else. The cache is flushed
+ * whenever a new world is created.
+ *
+ * Additionally, tiles can be persisted in a {@link BiomeTileStore}. Tiles that
+ * are missing in the memory cache are read from the store, if possible. Newly
+ * generated tiles are written to the store in the background.
+ */
+@ThreadSafe
+public class CachingMinecraftInterface implements MinecraftInterface {
+	@ThreadSafe
+	private static class TileCache {
+		private final int tileSize;
+		private final int maxNumberOfTiles;
+		private final Map<Long, short[]> tiles;
+		private long generation = 0;
+
+		@SuppressWarnings("serial")
+		public TileCache(int tileSize, int maxNumberOfTiles) {
+			this.tileSize = tileSize;
+			this.maxNumberOfTiles = maxNumberOfTiles;
+			this.tiles = new LinkedHashMap<Long, short[]>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, short[]> eldest) {
+					return size() > maxNumberOfTiles;
+				}
+			};
+		}
+
+		public synchronized short[] get(long key) {
+			return tiles.get(key);
+		}
+
+		public synchronized long getGeneration() {
+			return generation;
+		}
+
+		/**
+		 * The tile is discarded, if the cache was cleared after the tile was
+		 * requested.
+		 */
+		public synchronized void put(long key, short[] tile, long generation) {
+			if (this.generation == generation) {
+				tiles.put(key, tile);
+			}
+		}
+
+		public synchronized void clear() {
+			generation++;
+			tiles.clear();
+		}
+	}
+
+	private static final int QUARTER_RESOLUTION_TILE_SIZE = 64;
+	private static final int FULL_RESOLUTION_TILE_SIZE = 32;
+	private static final int DEFAULT_MAX_NUMBER_OF_TILES = 2048;
+
+	private static long getKey(int tileX, int tileY) {
+		return (long) tileX << 32 | tileY & 0xFFFFFFFFL;
+	}
+
+	private final MinecraftInterface minecraftInterface;
+	private final BiomeTileStoreDirectory tileStoreDirectory;
+	private final TileCache quarterResolutionCache;
+	private final TileCache fullResolutionCache;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong storeHits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private volatile BiomeTileStore tileStore = BiomeTileStore.createDisabled();
+
+	public CachingMinecraftInterface(MinecraftInterface minecraftInterface) {
+		this(minecraftInterface, BiomeTileStoreDirectory.createDisabled());
+	}
+
+	public CachingMinecraftInterface(
+			MinecraftInterface minecraftInterface,
+			BiomeTileStoreDirectory tileStoreDirectory) {
+		this(minecraftInterface, tileStoreDirectory, DEFAULT_MAX_NUMBER_OF_TILES);
+	}
+
+	/**
+	 * The maximum number of tiles is used for each resolution separately.
+	 */
+	public CachingMinecraftInterface(
+			MinecraftInterface minecraftInterface,
+			BiomeTileStoreDirectory tileStoreDirectory,
+			int maxNumberOfTiles) {
+		this.minecraftInterface = minecraftInterface;
+		this.tileStoreDirectory = tileStoreDirectory;
+		this.quarterResolutionCache = new TileCache(QUARTER_RESOLUTION_TILE_SIZE, maxNumberOfTiles);
+		this.fullResolutionCache = new TileCache(FULL_RESOLUTION_TILE_SIZE, maxNumberOfTiles);
+	}
+
+	/**
+	 * Collects the tiles that intersect with one requested area. The missing
+	 * tiles are requested as a single bounding box. Tiles that are already
+	 * claimed by another request of the same batch are not requested again.
+	 * If such a tile lies within the bounding box, the missing tiles are
+	 * requested one by one instead.
+	 */
+	@NotThreadSafe
+	private class TileRequest {
+		private final TileCache cache;
+		private final boolean useQuarterResolution;
+		private final int firstTileX;
+		private final int firstTileY;
+		private final int numberOfTilesX;
+		private final int numberOfTilesY;
+		private final long generation;
+		private final BiomeTileStore tileStore;
+		private final Map<Long, short[]> claimedTiles;
+		private final short[][] tiles;
+		private final boolean[] isMissing;
+		private int missingLeft = Integer.MAX_VALUE;
+		private int missingTop = Integer.MAX_VALUE;
+		private int missingRight = Integer.MIN_VALUE;
+		private int missingBottom = Integer.MIN_VALUE;
+		private boolean isBoundingBoxShared = false;
+
+		public TileRequest(
+				TileCache cache,
+				boolean useQuarterResolution,
+				int firstTileX,
+				int firstTileY,
+				int numberOfTilesX,
+				int numberOfTilesY,
+				Map<Long, short[]> claimedTiles) {
+			this.cache = cache;
+			this.useQuarterResolution = useQuarterResolution;
+			this.firstTileX = firstTileX;
+			this.firstTileY = firstTileY;
+			this.numberOfTilesX = numberOfTilesX;
+			this.numberOfTilesY = numberOfTilesY;
+			this.generation = cache.getGeneration();
+			this.tileStore = CachingMinecraftInterface.this.tileStore;
+			this.claimedTiles = claimedTiles;
+			this.tiles = new short[numberOfTilesX * numberOfTilesY][];
+			this.isMissing = new boolean[numberOfTilesX * numberOfTilesY];
+			lookupTiles();
+			isBoundingBoxShared = isBoundingBoxShared();
+		}
+
+		private void lookupTiles() {
+			for (int tileRow = 0; tileRow < numberOfTilesY; tileRow++) {
+				for (int tileColumn = 0; tileColumn < numberOfTilesX; tileColumn++) {
+					int tileX = firstTileX + tileColumn;
+					int tileY = firstTileY + tileRow;
+					short[] tile = cache.get(getKey(tileX, tileY));
+					if (tile != null) {
+						hits.incrementAndGet();
+					} else if ((tile = tileStore.get(useQuarterResolution, tileX, tileY)) != null) {
+						storeHits.incrementAndGet();
+						cache.put(getKey(tileX, tileY), tile, generation);
+					} else if (claimedTiles.containsKey(getKey(tileX, tileY))) {
+						hits.incrementAndGet();
+					} else {
+						misses.incrementAndGet();
+						claimedTiles.put(getKey(tileX, tileY), null);
+						isMissing[tileColumn + tileRow * numberOfTilesX] = true;
+						missingLeft = Math.min(missingLeft, tileColumn);
+						missingTop = Math.min(missingTop, tileRow);
+						missingRight = Math.max(missingRight, tileColumn);
+						missingBottom = Math.max(missingBottom, tileRow);
+					}
+					tiles[tileColumn + tileRow * numberOfTilesX] = tile;
+				}
+			}
+		}
+
+		private boolean isBoundingBoxShared() {
+			for (int tileRow = missingTop; tileRow <= missingBottom; tileRow++) {
+				for (int tileColumn = missingLeft; tileColumn <= missingRight; tileColumn++) {
+					int index = tileColumn + tileRow * numberOfTilesX;
+					if (tiles[index] == null && !isMissing[index]) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		public boolean hasMissingTiles() {
+			return missingLeft != Integer.MAX_VALUE;
+		}
+
+		public List<BiomeDataRequest> getMissingTiles() {
+			int tileSize = cache.tileSize;
+			if (!hasMissingTiles()) {
+				return Collections.emptyList();
+			} else if (!isBoundingBoxShared) {
+				return Collections.singletonList(
+						new BiomeDataRequest(
+								(firstTileX + missingLeft) * tileSize,
+								(firstTileY + missingTop) * tileSize,
+								(missingRight - missingLeft + 1) * tileSize,
+								(missingBottom - missingTop + 1) * tileSize));
+			} else {
+				List<BiomeDataRequest> result = new ArrayList<>();
+				for (int tileRow = missingTop; tileRow <= missingBottom; tileRow++) {
+					for (int tileColumn = missingLeft; tileColumn <= missingRight; tileColumn++) {
+						if (isMissing[tileColumn + tileRow * numberOfTilesX]) {
+							result.add(
+									new BiomeDataRequest(
+											(firstTileX + tileColumn) * tileSize,
+											(firstTileY + tileRow) * tileSize,
+											tileSize,
+											tileSize));
+						}
+					}
+				}
+				return result;
+			}
+		}
+
+		/**
+		 * Consumes one array of biome data for each request returned by
+		 * {@link #getMissingTiles()}.
+		 */
+		public void setMissingTiles(Iterator<int[]> biomeData) {
+			int tileSize = cache.tileSize;
+			if (!hasMissingTiles()) {
+				return;
+			} else if (!isBoundingBoxShared) {
+				int[] boundingBox = biomeData.next();
+				int missingWidth = (missingRight - missingLeft + 1) * tileSize;
+				for (int tileRow = missingTop; tileRow <= missingBottom; tileRow++) {
+					for (int tileColumn = missingLeft; tileColumn <= missingRight; tileColumn++) {
+						setTile(
+								tileColumn,
+								tileRow,
+								extractTile(
+										boundingBox,
+										(tileColumn - missingLeft) * tileSize,
+										(tileRow - missingTop) * tileSize,
+										missingWidth,
+										tileSize));
+					}
+				}
+			} else {
+				for (int tileRow = missingTop; tileRow <= missingBottom; tileRow++) {
+					for (int tileColumn = missingLeft; tileColumn <= missingRight; tileColumn++) {
+						if (isMissing[tileColumn + tileRow * numberOfTilesX]) {
+							setTile(tileColumn, tileRow, extractTile(biomeData.next(), 0, 0, tileSize, tileSize));
+						}
+					}
+				}
+			}
+		}
+
+		private void setTile(int tileColumn, int tileRow, short[] tile) {
+			int tileX = firstTileX + tileColumn;
+			int tileY = firstTileY + tileRow;
+			cache.put(getKey(tileX, tileY), tile, generation);
+			tileStore.putAsync(useQuarterResolution, tileX, tileY, tile);
+			claimedTiles.put(getKey(tileX, tileY), tile);
+			tiles[tileColumn + tileRow * numberOfTilesX] = tile;
+		}
+
+		/**
+		 * Must be called after all requests of the batch have set their
+		 * missing tiles.
+		 */
+		public void setClaimedTiles() {
+			for (int tileRow = 0; tileRow < numberOfTilesY; tileRow++) {
+				for (int tileColumn = 0; tileColumn < numberOfTilesX; tileColumn++) {
+					int index = tileColumn + tileRow * numberOfTilesX;
+					if (tiles[index] == null) {
+						tiles[index] = claimedTiles.get(getKey(firstTileX + tileColumn, firstTileY + tileRow));
+					}
+				}
+			}
+		}
+
+		public int[] getBiomeData(int x, int y, int width, int height) {
+			int[] result = new int[width * height];
+			getBiomeData(x, y, width, height, result);
+			return result;
+		}
+
+		public void getBiomeData(int x, int y, int width, int height, int[] result) {
+			int tileSize = cache.tileSize;
+			for (int tileRow = 0; tileRow < numberOfTilesY; tileRow++) {
+				for (int tileColumn = 0; tileColumn < numberOfTilesX; tileColumn++) {
+					copyIntersection(
+							tiles[tileColumn + tileRow * numberOfTilesX],
+							(firstTileX + tileColumn) * tileSize,
+							(firstTileY + tileRow) * tileSize,
+							tileSize,
+							result,
+							x,
+							y,
+							width,
+							height);
+				}
+			}
+		}
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		TileRequest tileRequest = createTileRequest(x, y, width, height, useQuarterResolution, new HashMap<>());
+		if (tileRequest == null) {
+			return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+		} else {
+			loadMissingTiles(tileRequest, useQuarterResolution);
+			return tileRequest.getBiomeData(x, y, width, height);
+		}
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		TileRequest tileRequest = createTileRequest(x, y, width, height, useQuarterResolution, new HashMap<>());
+		if (tileRequest == null) {
+			minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, result);
+		} else {
+			loadMissingTiles(tileRequest, useQuarterResolution);
+			tileRequest.getBiomeData(x, y, width, height, result);
+		}
+	}
+
+	/**
+	 * The biome data is written to an array that is owned by the cache. An
+	 * array returned by the decorated minecraft interface might still be
+	 * reused by it after the call, e.g. by the int cache of Minecraft.
+	 */
+	private void loadMissingTiles(TileRequest tileRequest, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		List<int[]> biomeData = new ArrayList<>(1);
+		for (BiomeDataRequest missingTiles : tileRequest.getMissingTiles()) {
+			int[] missingBiomeData = new int[missingTiles.getWidth() * missingTiles.getHeight()];
+			minecraftInterface.getBiomeData(
+					missingTiles.getX(),
+					missingTiles.getY(),
+					missingTiles.getWidth(),
+					missingTiles.getHeight(),
+					useQuarterResolution,
+					missingBiomeData);
+			biomeData.add(missingBiomeData);
+		}
+		tileRequest.setMissingTiles(biomeData.iterator());
+	}
+
+	/**
+	 * The missing tiles of all requests and the requests that bypass the cache
+	 * are passed on to the decorated minecraft interface as a single batch.
+	 * Each missing tile is only requested once, even if it is shared by
+	 * several requests of the batch.
+	 */
+	@Override
+	public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		Map<Long, short[]> claimedTiles = new HashMap<>();
+		List<TileRequest> tileRequests = new ArrayList<>(requests.size());
+		List<BiomeDataRequest> forwardedRequests = new ArrayList<>();
+		for (BiomeDataRequest request : requests) {
+			TileRequest tileRequest = createTileRequest(
+					request.getX(),
+					request.getY(),
+					request.getWidth(),
+					request.getHeight(),
+					useQuarterResolution,
+					claimedTiles);
+			if (tileRequest == null) {
+				forwardedRequests.add(request);
+			} else {
+				forwardedRequests.addAll(tileRequest.getMissingTiles());
+			}
+			tileRequests.add(tileRequest);
+		}
+		Iterator<int[]> forwardedBiomeData = getForwardedBiomeData(forwardedRequests, useQuarterResolution);
+		List<int[]> result = new ArrayList<>(requests.size());
+		for (TileRequest tileRequest : tileRequests) {
+			if (tileRequest == null) {
+				result.add(forwardedBiomeData.next());
+			} else {
+				tileRequest.setMissingTiles(forwardedBiomeData);
+				result.add(null);
+			}
+		}
+		for (int i = 0; i < requests.size(); i++) {
+			BiomeDataRequest request = requests.get(i);
+			TileRequest tileRequest = tileRequests.get(i);
+			if (tileRequest != null) {
+				tileRequest.setClaimedTiles();
+				result.set(
+						i,
+						tileRequest
+								.getBiomeData(request.getX(), request.getY(), request.getWidth(), request.getHeight()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Sampled biome data bypasses the cache, because each sample would load a
+	 * whole tile.
+	 */
+	@Override
+	public void getSampledBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		minecraftInterface.getSampledBiomeData(x, y, width, height, stride, useQuarterResolution, result);
+	}
+
+	private Iterator<int[]> getForwardedBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		if (requests.isEmpty()) {
+			return Collections.emptyIterator();
+		} else {
+			return minecraftInterface.getBiomeData(requests, useQuarterResolution).iterator();
+		}
+	}
+
+	/**
+	 * Returns null, if the request should bypass the cache. The claimed tiles
+	 * are shared by all requests of a batch.
+	 */
+	private TileRequest createTileRequest(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			Map<Long, short[]> claimedTiles) {
+		TileCache cache = getCache(useQuarterResolution);
+		int tileSize = cache.tileSize;
+		int firstTileX = Math.floorDiv(x, tileSize);
+		int firstTileY = Math.floorDiv(y, tileSize);
+		int numberOfTilesX = Math.floorDiv(x + width - 1, tileSize) - firstTileX + 1;
+		int numberOfTilesY = Math.floorDiv(y + height - 1, tileSize) - firstTileY + 1;
+		if (width <= 0 || height <= 0 || numberOfTilesX * numberOfTilesY > cache.maxNumberOfTiles / 4) {
+			return null;
+		} else {
+			return new TileRequest(
+					cache,
+					useQuarterResolution,
+					firstTileX,
+					firstTileY,
+					numberOfTilesX,
+					numberOfTilesY,
+					claimedTiles);
+		}
+	}
+
+	private short[] extractTile(int[] biomeData, int offsetX, int offsetY, int biomeDataWidth, int tileSize) {
+		short[] result = new short[tileSize * tileSize];
+		for (int y = 0; y < tileSize; y++) {
+			int biomeDataOffset = offsetX + (offsetY + y) * biomeDataWidth;
+			for (int x = 0; x < tileSize; x++) {
+				result[x + y * tileSize] = (short) biomeData[biomeDataOffset + x];
+			}
+		}
+		return result;
+	}
+
+	private void copyIntersection(
+			short[] tile,
+			int tileLeft,
+			int tileTop,
+			int tileSize,
+			int[] result,
+			int x,
+			int y,
+			int width,
+			int height) {
+		int left = Math.max(x, tileLeft);
+		int top = Math.max(y, tileTop);
+		int right = Math.min(x + width, tileLeft + tileSize);
+		int bottom = Math.min(y + height, tileTop + tileSize);
+		for (int currentY = top; currentY < bottom; currentY++) {
+			int tileOffset = (currentY - tileTop) * tileSize - tileLeft;
+			int resultOffset = (currentY - y) * width - x;
+			for (int currentX = left; currentX < right; currentX++) {
+				result[resultOffset + currentX] = tile[tileOffset + currentX];
+			}
+		}
+	}
+
+	private TileCache getCache(boolean useQuarterResolution) {
+		if (useQuarterResolution) {
+			return quarterResolutionCache;
+		} else {
+			return fullResolutionCache;
+		}
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		tileStore.close();
+		tileStore = BiomeTileStore.createDisabled();
+		try {
+			minecraftInterface.createWorld(seed, worldType, generatorOptions);
+		} finally {
+			quarterResolutionCache.clear();
+			fullResolutionCache.clear();
+		}
+		tileStore = tileStoreDirectory.open(
+				getRecognisedVersion(),
+				seed,
+				worldType,
+				generatorOptions,
+				QUARTER_RESOLUTION_TILE_SIZE,
+				FULL_RESOLUTION_TILE_SIZE);
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return minecraftInterface.getRecognisedVersion();
+	}
+
+	@Override
+	public void close() {
+		tileStore.close();
+		tileStore = BiomeTileStore.createDisabled();
+		minecraftInterface.close();
+	}
+
+	/**
+	 * The number of tiles that were found in the cache.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * The number of tiles that were read from the persistent tile store.
+	 */
+	public long getStoreHits() {
+		return storeHits.get();
+	}
+
+	/**
+	 * The number of tiles that had to be requested from the decorated
+	 * minecraft interface.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+}
@@ -0,0 +1,144 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Decorates another minecraft interface and records the latency of each call
+ * to get biome data, split by resolution and requested area, as well as the
+ * number of generated cells.
+ *
+ * While the metrics request it, the time the calling thread spends blocked or
+ * waiting is recorded as well. This includes waiting for a monitor, e.g. the
+ * lock of the local minecraft interface, for an idle instance of a pool and
+ * for the response of a biome worker. It is only measured in milliseconds and
+ * it is not available on every JVM.
+ */
+@ThreadSafe
+public class InstrumentedMinecraftInterface implements MinecraftInterface {
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+	private static final long NOT_MEASURED = -1;
+
+	private final MinecraftInterface minecraftInterface;
+	private final MinecraftInterfaceMetrics metrics;
+
+	public InstrumentedMinecraftInterface(MinecraftInterface minecraftInterface, MinecraftInterfaceMetrics metrics) {
+		this.minecraftInterface = minecraftInterface;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		long waitMillis = getWaitMillis();
+		long start = System.nanoTime();
+		try {
+			return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+		} finally {
+			record(useQuarterResolution, width * height, start, waitMillis);
+		}
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		long waitMillis = getWaitMillis();
+		long start = System.nanoTime();
+		try {
+			minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, result);
+		} finally {
+			record(useQuarterResolution, width * height, start, waitMillis);
+		}
+	}
+
+	/**
+	 * The whole batch is recorded as a single call.
+	 */
+	@Override
+	public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int numberOfCells = 0;
+		for (BiomeDataRequest request : requests) {
+			numberOfCells += request.getWidth() * request.getHeight();
+		}
+		long waitMillis = getWaitMillis();
+		long start = System.nanoTime();
+		try {
+			return minecraftInterface.getBiomeData(requests, useQuarterResolution);
+		} finally {
+			record(useQuarterResolution, numberOfCells, start, waitMillis);
+		}
+	}
+
+	/**
+	 * Only the samples are counted as generated cells.
+	 */
+	@Override
+	public void getSampledBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		long waitMillis = getWaitMillis();
+		long start = System.nanoTime();
+		try {
+			minecraftInterface.getSampledBiomeData(x, y, width, height, stride, useQuarterResolution, result);
+		} finally {
+			record(useQuarterResolution, width * height, start, waitMillis);
+		}
+	}
+
+	private void record(boolean useQuarterResolution, int numberOfCells, long start, long waitMillis) {
+		metrics.recordBiomeData(useQuarterResolution, numberOfCells, System.nanoTime() - start);
+		if (waitMillis != NOT_MEASURED) {
+			long currentWaitMillis = getWaitMillis();
+			if (currentWaitMillis != NOT_MEASURED) {
+				metrics.recordWait(Math.max(0, currentWaitMillis - waitMillis));
+			}
+		}
+	}
+
+	/**
+	 * Returns NOT_MEASURED, if the wait time is not requested by the metrics
+	 * or if the JVM does not provide it.
+	 */
+	private long getWaitMillis() {
+		if (metrics.isWaitMeasured()) {
+			ThreadInfo threadInfo = THREAD_MX_BEAN.getThreadInfo(Thread.currentThread().getId());
+			if (threadInfo != null && threadInfo.getBlockedTime() >= 0 && threadInfo.getWaitedTime() >= 0) {
+				return threadInfo.getBlockedTime() + threadInfo.getWaitedTime();
+			}
+		}
+		return NOT_MEASURED;
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		minecraftInterface.createWorld(seed, worldType, generatorOptions);
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return minecraftInterface.getRecognisedVersion();
+	}
+
+	@Override
+	public void close() {
+		minecraftInterface.close();
+	}
+}
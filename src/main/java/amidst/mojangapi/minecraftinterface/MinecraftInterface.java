@@ -1,5 +1,8 @@
 package amidst.mojangapi.minecraftinterface;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.world.WorldType;
 
@@ -34,7 +37,82 @@ public interface MinecraftInterface {
 	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException;
 
+	/**
+	 * Works like {@link #getBiomeData(int, int, int, int, boolean)}, but
+	 * writes the biome data to the given array instead of allocating a new
+	 * one. The array has to have at least the length width * height.
+	 */
+	public default void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		System.arraycopy(biomeData, 0, result, 0, width * height);
+	}
+
+	/**
+	 * Gets the biome data for several areas with the same resolution at once.
+	 * The result contains the biome data of each requested area in the order
+	 * of the requests. Implementations can override this to avoid the overhead
+	 * of a single call per area, e.g. acquiring a lock.
+	 */
+	public default List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		List<int[]> result = new ArrayList<>(requests.size());
+		for (BiomeDataRequest request : requests) {
+			result.add(
+					getBiomeData(
+							request.getX(),
+							request.getY(),
+							request.getWidth(),
+							request.getHeight(),
+							useQuarterResolution));
+		}
+		return result;
+	}
+
+	/**
+	 * Works like {@link #getBiomeData(int, int, int, int, boolean, int[])},
+	 * but only every stride-th biome is returned in both directions, so the
+	 * result covers an area that is stride times larger in each direction.
+	 * The biomes in between are not generated, but each sample is still
+	 * generated as an area of its own. The default implementation requests
+	 * one row of samples per batch request, so only the biome data of a
+	 * single row is held at a time. Implementations can override this to
+	 * avoid allocating an array per sample.
+	 */
+	public default void getSampledBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		List<BiomeDataRequest> requests = new ArrayList<>(width);
+		for (int sampleY = 0; sampleY < height; sampleY++) {
+			requests.clear();
+			for (int sampleX = 0; sampleX < width; sampleX++) {
+				requests.add(new BiomeDataRequest(x + sampleX * stride, y + sampleY * stride, 1, 1));
+			}
+			List<int[]> biomeData = getBiomeData(requests, useQuarterResolution);
+			for (int sampleX = 0; sampleX < width; sampleX++) {
+				result[sampleX + sampleY * width] = biomeData.get(sampleX)[0];
+			}
+		}
+	}
+
 	public void createWorld(long seed, WorldType worldType, String generatorOptions) throws MinecraftInterfaceException;
 
 	public RecognisedVersion getRecognisedVersion();
+
+	/**
+	 * Releases the resources that are held by this minecraft interface, e.g.
+	 * worker processes. The minecraft interface cannot be used afterwards.
+	 */
+	public default void close() {
+	}
 }
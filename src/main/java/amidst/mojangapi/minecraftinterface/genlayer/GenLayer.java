@@ -0,0 +1,49 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * A Java port of one layer of the biome generator of Minecraft 1.8 and 1.9.
+ * In contrast to Minecraft, the layers do not store the random state of the
+ * current position in a field, but in a {@link LayerRandom} that is local to
+ * each call of getInts. Together with the {@link IntArrayCache} of the
+ * current thread, this allows many threads to use the same layers at once.
+ * 
+ * The layers are only initialized by {@link #initWorldGenSeed(long)}, so
+ * they have to be published safely after that.
+ */
+@NotThreadSafe
+abstract class GenLayer {
+	private static final long MULTIPLIER = 6364136223846793005L;
+	private static final long INCREMENT = 1442695040888963407L;
+
+	static long nextSeed(long seed, long salt) {
+		return seed * (seed * MULTIPLIER + INCREMENT) + salt;
+	}
+
+	protected final GenLayer parent;
+	private final long baseSeed;
+	private long worldGenSeed;
+
+	protected GenLayer(long baseSeed, GenLayer parent) {
+		this.parent = parent;
+		this.baseSeed = nextSeed(nextSeed(nextSeed(baseSeed, baseSeed), baseSeed), baseSeed);
+	}
+
+	public void initWorldGenSeed(long seed) {
+		if (parent != null) {
+			parent.initWorldGenSeed(seed);
+		}
+		worldGenSeed = nextSeed(nextSeed(nextSeed(seed, baseSeed), baseSeed), baseSeed);
+	}
+
+	protected LayerRandom createRandom() {
+		return new LayerRandom(worldGenSeed);
+	}
+
+	/**
+	 * The returned array belongs to the given cache. It might be longer than
+	 * areaWidth * areaHeight and it stays valid until the cache is reset.
+	 */
+	public abstract int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight);
+}
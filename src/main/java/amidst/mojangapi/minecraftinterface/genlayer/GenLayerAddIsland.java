@@ -0,0 +1,57 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+class GenLayerAddIsland extends GenLayer {
+	public GenLayerAddIsland(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int topLeft = parentInts[x + y * parentWidth];
+				int topRight = parentInts[x + 2 + y * parentWidth];
+				int bottomLeft = parentInts[x + (y + 2) * parentWidth];
+				int bottomRight = parentInts[x + 2 + (y + 2) * parentWidth];
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				random.setPosition(x + areaX, y + areaY);
+				if (center != 0 || topLeft == 0 && topRight == 0 && bottomLeft == 0 && bottomRight == 0) {
+					if (center > 0 && (topLeft == 0 || topRight == 0 || bottomLeft == 0 || bottomRight == 0)
+							&& random.nextInt(5) == 0) {
+						result[x + y * areaWidth] = center == 4 ? 4 : 0;
+					} else {
+						result[x + y * areaWidth] = center;
+					}
+				} else {
+					int bound = 1;
+					int land = 1;
+					if (topLeft != 0 && random.nextInt(bound++) == 0) {
+						land = topLeft;
+					}
+					if (topRight != 0 && random.nextInt(bound++) == 0) {
+						land = topRight;
+					}
+					if (bottomLeft != 0 && random.nextInt(bound++) == 0) {
+						land = bottomLeft;
+					}
+					if (bottomRight != 0 && random.nextInt(bound++) == 0) {
+						land = bottomRight;
+					}
+					if (random.nextInt(3) == 0) {
+						result[x + y * areaWidth] = land;
+					} else {
+						result[x + y * areaWidth] = land == 4 ? 4 : 0;
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
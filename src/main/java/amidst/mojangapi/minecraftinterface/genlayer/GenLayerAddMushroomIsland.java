@@ -0,0 +1,35 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+class GenLayerAddMushroomIsland extends GenLayer {
+	public GenLayerAddMushroomIsland(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int topLeft = parentInts[x + y * parentWidth];
+				int topRight = parentInts[x + 2 + y * parentWidth];
+				int bottomLeft = parentInts[x + (y + 2) * parentWidth];
+				int bottomRight = parentInts[x + 2 + (y + 2) * parentWidth];
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				random.setPosition(x + areaX, y + areaY);
+				if (center == 0 && topLeft == 0 && topRight == 0 && bottomLeft == 0 && bottomRight == 0
+						&& random.nextInt(100) == 0) {
+					result[x + y * areaWidth] = LayerBiomes.MUSHROOM_ISLAND;
+				} else {
+					result[x + y * areaWidth] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
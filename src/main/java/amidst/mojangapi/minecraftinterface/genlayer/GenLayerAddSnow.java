@@ -0,0 +1,37 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+class GenLayerAddSnow extends GenLayer {
+	public GenLayerAddSnow(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				random.setPosition(x + areaX, y + areaY);
+				if (center == 0) {
+					result[x + y * areaWidth] = 0;
+				} else {
+					int climate = random.nextInt(6);
+					if (climate == 0) {
+						result[x + y * areaWidth] = 4;
+					} else if (climate <= 1) {
+						result[x + y * areaWidth] = 3;
+					} else {
+						result[x + y * areaWidth] = 1;
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,72 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import static amidst.mojangapi.minecraftinterface.genlayer.LayerBiomes.*;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Turns the climates into biomes. The special bits that were added by
+ * {@link GenLayerEdge} select the rare biome of each climate.
+ */
+@NotThreadSafe
+class GenLayerBiome extends GenLayer {
+	private static final int[] WARM_BIOMES = { DESERT, DESERT, DESERT, SAVANNA, SAVANNA, PLAINS };
+	private static final int[] MEDIUM_BIOMES = {
+			FOREST,
+			ROOFED_FOREST,
+			EXTREME_HILLS,
+			PLAINS,
+			BIRCH_FOREST,
+			SWAMPLAND };
+	private static final int[] COLD_BIOMES = { FOREST, EXTREME_HILLS, TAIGA, PLAINS };
+	private static final int[] ICE_BIOMES = { ICE_PLAINS, ICE_PLAINS, ICE_PLAINS, COLD_TAIGA };
+
+	public GenLayerBiome(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int[] parentInts = parent.getInts(cache, areaX, areaY, areaWidth, areaHeight);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				random.setPosition(x + areaX, y + areaY);
+				int climate = parentInts[x + y * areaWidth];
+				boolean isSpecial = (climate & 0xF00) >> 8 > 0;
+				climate &= ~0xF00;
+				result[x + y * areaWidth] = getBiome(random, climate, isSpecial);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(LayerRandom random, int climate, boolean isSpecial) {
+		if (isOceanic(climate) || climate == MUSHROOM_ISLAND) {
+			return climate;
+		} else if (climate == 1) {
+			if (isSpecial) {
+				return random.nextInt(3) == 0 ? MESA_PLATEAU : MESA_PLATEAU_F;
+			} else {
+				return WARM_BIOMES[random.nextInt(WARM_BIOMES.length)];
+			}
+		} else if (climate == 2) {
+			if (isSpecial) {
+				return JUNGLE;
+			} else {
+				return MEDIUM_BIOMES[random.nextInt(MEDIUM_BIOMES.length)];
+			}
+		} else if (climate == 3) {
+			if (isSpecial) {
+				return MEGA_TAIGA;
+			} else {
+				return COLD_BIOMES[random.nextInt(COLD_BIOMES.length)];
+			}
+		} else if (climate == 4) {
+			return ICE_BIOMES[random.nextInt(ICE_BIOMES.length)];
+		} else {
+			return MUSHROOM_ISLAND;
+		}
+	}
+}
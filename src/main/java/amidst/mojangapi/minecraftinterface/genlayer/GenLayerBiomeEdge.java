@@ -0,0 +1,94 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import static amidst.mojangapi.minecraftinterface.genlayer.LayerBiomes.*;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Adds the transition biomes between biomes that do not fit together. This
+ * layer does not use any random numbers.
+ */
+@NotThreadSafe
+class GenLayerBiomeEdge extends GenLayer {
+	public GenLayerBiomeEdge(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int north = parentInts[x + 1 + y * parentWidth];
+				int east = parentInts[x + 2 + (y + 1) * parentWidth];
+				int west = parentInts[x + (y + 1) * parentWidth];
+				int south = parentInts[x + 1 + (y + 2) * parentWidth];
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				result[x + y * areaWidth] = getBiome(center, north, east, west, south);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int center, int north, int east, int west, int south) {
+		if (isEqualOrMesaPlateau(center, EXTREME_HILLS)) {
+			return replaceIfAnyNeighborCannotBeNextToExtremeHills(center, north, east, west, south);
+		} else if (center == MESA_PLATEAU_F || center == MESA_PLATEAU) {
+			return replaceIfAnyNeighborIsDifferent(center, north, east, west, south, MESA);
+		} else if (center == MEGA_TAIGA) {
+			return replaceIfAnyNeighborIsDifferent(center, north, east, west, south, TAIGA);
+		} else if (center == DESERT) {
+			if (north == ICE_PLAINS || east == ICE_PLAINS || west == ICE_PLAINS || south == ICE_PLAINS) {
+				return EXTREME_HILLS_PLUS;
+			} else {
+				return center;
+			}
+		} else if (center == SWAMPLAND) {
+			if (isAny(DESERT, north, east, west, south) || isAny(COLD_TAIGA, north, east, west, south)
+					|| isAny(ICE_PLAINS, north, east, west, south)) {
+				return PLAINS;
+			} else if (isAny(JUNGLE, north, east, west, south)) {
+				return JUNGLE_EDGE;
+			} else {
+				return center;
+			}
+		} else {
+			return center;
+		}
+	}
+
+	/**
+	 * Minecraft compares the temperature categories of the biomes. However,
+	 * extreme hills have the medium temperature category, which can be next
+	 * to any other temperature category. So only non-existing biomes are
+	 * replaced.
+	 */
+	private int replaceIfAnyNeighborCannotBeNextToExtremeHills(int center, int north, int east, int west, int south) {
+		if (exists(north) && exists(east) && exists(west) && exists(south)) {
+			return center;
+		} else {
+			return EXTREME_HILLS_EDGE;
+		}
+	}
+
+	private int replaceIfAnyNeighborIsDifferent(
+			int center,
+			int north,
+			int east,
+			int west,
+			int south,
+			int replacement) {
+		if (isEqualOrMesaPlateau(north, center) && isEqualOrMesaPlateau(east, center)
+				&& isEqualOrMesaPlateau(west, center) && isEqualOrMesaPlateau(south, center)) {
+			return center;
+		} else {
+			return replacement;
+		}
+	}
+
+	private boolean isAny(int biome, int north, int east, int west, int south) {
+		return north == biome || east == biome || west == biome || south == biome;
+	}
+}
@@ -0,0 +1,87 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Separates warm from cold and freezing climates and adds the special
+ * climates that become jungles, mega taigas and mesa plateaus.
+ */
+@NotThreadSafe
+class GenLayerEdge extends GenLayer {
+	public static enum Mode {
+		COOL_WARM,
+		HEAT_ICE,
+		SPECIAL;
+	}
+
+	private final Mode mode;
+
+	public GenLayerEdge(long baseSeed, GenLayer parent, Mode mode) {
+		super(baseSeed, parent);
+		this.mode = mode;
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		switch (mode) {
+		case COOL_WARM:
+			return getIntsReplacingEdges(cache, areaX, areaY, areaWidth, areaHeight, 1, 3, 4, 2);
+		case HEAT_ICE:
+			return getIntsReplacingEdges(cache, areaX, areaY, areaWidth, areaHeight, 4, 1, 2, 3);
+		default:
+			return getIntsSpecial(cache, areaX, areaY, areaWidth, areaHeight);
+		}
+	}
+
+	/**
+	 * These modes do not use any random numbers.
+	 */
+	private int[] getIntsReplacingEdges(
+			IntArrayCache cache,
+			int areaX,
+			int areaY,
+			int areaWidth,
+			int areaHeight,
+			int climate,
+			int neighbor1,
+			int neighbor2,
+			int replacement) {
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				if (center == climate) {
+					int north = parentInts[x + 1 + y * parentWidth];
+					int east = parentInts[x + 2 + (y + 1) * parentWidth];
+					int west = parentInts[x + (y + 1) * parentWidth];
+					int south = parentInts[x + 1 + (y + 2) * parentWidth];
+					if (north == neighbor1 || east == neighbor1 || west == neighbor1 || south == neighbor1
+							|| north == neighbor2 || east == neighbor2 || west == neighbor2 || south == neighbor2) {
+						center = replacement;
+					}
+				}
+				result[x + y * areaWidth] = center;
+			}
+		}
+		return result;
+	}
+
+	private int[] getIntsSpecial(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int[] parentInts = parent.getInts(cache, areaX, areaY, areaWidth, areaHeight);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				random.setPosition(x + areaX, y + areaY);
+				int climate = parentInts[x + y * areaWidth];
+				if (climate != 0 && random.nextInt(13) == 0) {
+					climate |= 1 + random.nextInt(15) << 8 & 0xF00;
+				}
+				result[x + y * areaWidth] = climate;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,118 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import static amidst.mojangapi.minecraftinterface.genlayer.LayerBiomes.*;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Adds hills and mutated biomes, based on the noise of the river layer.
+ * 
+ * Like in Minecraft, this does not pass the world seed on to the river layer.
+ * The layer below it is initialized by the rivers, but the zoom layers in
+ * between keep the world gen seed 0.
+ */
+@NotThreadSafe
+class GenLayerHills extends GenLayer {
+	private final GenLayer riverLayer;
+	private final int[] mutations;
+
+	public GenLayerHills(long baseSeed, GenLayer parent, GenLayer riverLayer, int[] mutations) {
+		super(baseSeed, parent);
+		this.riverLayer = riverLayer;
+		this.mutations = mutations;
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] riverInts = riverLayer.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				random.setPosition(x + areaX, y + areaY);
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				int river = riverInts[x + 1 + (y + 1) * parentWidth];
+				boolean isMutated = (river - 2) % 29 == 0;
+				if (center != 0 && river >= 2 && (river - 2) % 29 == 1 && center < MUTATION_OFFSET) {
+					result[x + y * areaWidth] = getMutationOrDefault(center, center);
+				} else if (random.nextInt(3) != 0 && !isMutated) {
+					result[x + y * areaWidth] = center;
+				} else {
+					int hills = getHills(random, center);
+					if (isMutated && hills != center) {
+						hills = getMutationOrDefault(hills, center);
+					}
+					if (hills != center && countEqualNeighbors(parentInts, parentWidth, x, y, center) >= 3) {
+						result[x + y * areaWidth] = hills;
+					} else {
+						result[x + y * areaWidth] = center;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private int getMutationOrDefault(int biome, int defaultBiome) {
+		if (biome >= 0 && biome < mutations.length && mutations[biome] != -1) {
+			return mutations[biome];
+		} else {
+			return defaultBiome;
+		}
+	}
+
+	private int getHills(LayerRandom random, int biome) {
+		if (biome == DESERT) {
+			return DESERT_HILLS;
+		} else if (biome == FOREST) {
+			return FOREST_HILLS;
+		} else if (biome == BIRCH_FOREST) {
+			return BIRCH_FOREST_HILLS;
+		} else if (biome == ROOFED_FOREST) {
+			return PLAINS;
+		} else if (biome == TAIGA) {
+			return TAIGA_HILLS;
+		} else if (biome == MEGA_TAIGA) {
+			return MEGA_TAIGA_HILLS;
+		} else if (biome == COLD_TAIGA) {
+			return COLD_TAIGA_HILLS;
+		} else if (biome == PLAINS) {
+			return random.nextInt(3) == 0 ? FOREST_HILLS : FOREST;
+		} else if (biome == ICE_PLAINS) {
+			return ICE_MOUNTAINS;
+		} else if (biome == JUNGLE) {
+			return JUNGLE_HILLS;
+		} else if (biome == OCEAN) {
+			return DEEP_OCEAN;
+		} else if (biome == EXTREME_HILLS) {
+			return EXTREME_HILLS_PLUS;
+		} else if (biome == SAVANNA) {
+			return SAVANNA_PLATEAU;
+		} else if (isEqualOrMesaPlateau(biome, MESA_PLATEAU_F)) {
+			return MESA;
+		} else if (biome == DEEP_OCEAN && random.nextInt(3) == 0) {
+			return random.nextInt(2) == 0 ? PLAINS : FOREST;
+		} else {
+			return biome;
+		}
+	}
+
+	private int countEqualNeighbors(int[] parentInts, int parentWidth, int x, int y, int biome) {
+		int result = 0;
+		if (isEqualOrMesaPlateau(parentInts[x + 1 + y * parentWidth], biome)) {
+			result++;
+		}
+		if (isEqualOrMesaPlateau(parentInts[x + 2 + (y + 1) * parentWidth], biome)) {
+			result++;
+		}
+		if (isEqualOrMesaPlateau(parentInts[x + (y + 1) * parentWidth], biome)) {
+			result++;
+		}
+		if (isEqualOrMesaPlateau(parentInts[x + 1 + (y + 2) * parentWidth], biome)) {
+			result++;
+		}
+		return result;
+	}
+}
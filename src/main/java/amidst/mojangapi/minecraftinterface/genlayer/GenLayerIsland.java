@@ -0,0 +1,26 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+class GenLayerIsland extends GenLayer {
+	public GenLayerIsland(long baseSeed) {
+		super(baseSeed, null);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				random.setPosition(areaX + x, areaY + y);
+				result[x + y * areaWidth] = random.nextInt(10) == 0 ? 1 : 0;
+			}
+		}
+		if (areaX > -areaWidth && areaX <= 0 && areaY > -areaHeight && areaY <= 0) {
+			result[-areaX + -areaY * areaWidth] = 1;
+		}
+		return result;
+	}
+}
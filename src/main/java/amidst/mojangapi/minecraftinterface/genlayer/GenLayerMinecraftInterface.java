@@ -0,0 +1,166 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import java.util.List;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Generates the biome data of Minecraft 1.8 and 1.9 with a Java port of the
+ * biome generator, instead of calling the loaded Minecraft jar file. The
+ * layers do not share any mutable state between threads, so this does not
+ * need a lock and many threads can generate biome data at the same time.
+ * 
+ * Worlds that are not supported by the port, like customized worlds with
+ * generator options, are passed to the fallback minecraft interface. It is
+ * only created when it is needed for the first time, because starting it can
+ * be expensive, e.g. a pool of minecraft interfaces or biome worker processes.
+ */
+@ThreadSafe
+public class GenLayerMinecraftInterface implements MinecraftInterface {
+	/**
+	 * Creates the fallback minecraft interface.
+	 */
+	@FunctionalInterface
+	public static interface FallbackFactory {
+		MinecraftInterface create() throws MinecraftInterfaceException;
+	}
+
+	/**
+	 * The result is tested against the stored biome data of the test worlds.
+	 * There are only test worlds for 1.8.9, 15w51b and 1.9-pre2, so all other
+	 * versions are not supported.
+	 */
+	public static boolean isSupported(RecognisedVersion recognisedVersion) {
+		return recognisedVersion == RecognisedVersion._1_8_9
+				|| recognisedVersion == RecognisedVersion._15w51b
+				|| recognisedVersion == RecognisedVersion._1_9_pre2;
+	}
+
+	private final RecognisedVersion recognisedVersion;
+	private final FallbackFactory fallbackFactory;
+	private final boolean isBiomeRegistry;
+	private MinecraftInterface fallback;
+	private boolean isClosed = false;
+
+	/**
+	 * This is null, if the fallback minecraft interface is used for the
+	 * current world.
+	 */
+	private volatile GenLayerStack genLayerStack;
+
+	public GenLayerMinecraftInterface(MinecraftInterface fallback) {
+		this(fallback.getRecognisedVersion(), () -> fallback);
+	}
+
+	public GenLayerMinecraftInterface(RecognisedVersion recognisedVersion, FallbackFactory fallbackFactory) {
+		this.recognisedVersion = recognisedVersion;
+		this.fallbackFactory = fallbackFactory;
+		this.isBiomeRegistry = RecognisedVersion.isNewerOrEqualTo(recognisedVersion, RecognisedVersion._1_9_pre2);
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		GenLayerStack genLayerStack = this.genLayerStack;
+		if (genLayerStack != null) {
+			int[] result = new int[width * height];
+			genLayerStack.getBiomeData(x, y, width, height, useQuarterResolution, result);
+			return result;
+		} else {
+			return getFallback().getBiomeData(x, y, width, height, useQuarterResolution);
+		}
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		GenLayerStack genLayerStack = this.genLayerStack;
+		if (genLayerStack != null) {
+			genLayerStack.getBiomeData(x, y, width, height, useQuarterResolution, result);
+		} else {
+			getFallback().getBiomeData(x, y, width, height, useQuarterResolution, result);
+		}
+	}
+
+	@Override
+	public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		if (genLayerStack != null) {
+			return MinecraftInterface.super.getBiomeData(requests, useQuarterResolution);
+		} else {
+			return getFallback().getBiomeData(requests, useQuarterResolution);
+		}
+	}
+
+	@Override
+	public void getSampledBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		GenLayerStack genLayerStack = this.genLayerStack;
+		if (genLayerStack != null) {
+			int[] biomeData = new int[1];
+			for (int sampleY = 0; sampleY < height; sampleY++) {
+				for (int sampleX = 0; sampleX < width; sampleX++) {
+					int sampleXInWorld = x + sampleX * stride;
+					int sampleYInWorld = y + sampleY * stride;
+					genLayerStack.getBiomeData(sampleXInWorld, sampleYInWorld, 1, 1, useQuarterResolution, biomeData);
+					result[sampleX + sampleY * width] = biomeData[0];
+				}
+			}
+		} else {
+			getFallback().getSampledBiomeData(x, y, width, height, stride, useQuarterResolution, result);
+		}
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		if (GenLayerStack.isSupported(worldType, generatorOptions)) {
+			AmidstLogger.info(
+					"Creating world with seed '" + seed + "' and type '" + worldType.getName()
+							+ "' using the built-in biome generator");
+			genLayerStack = GenLayerStack.create(seed, worldType, isBiomeRegistry);
+		} else {
+			genLayerStack = null;
+			getFallback().createWorld(seed, worldType, generatorOptions);
+		}
+	}
+
+	private synchronized MinecraftInterface getFallback() throws MinecraftInterfaceException {
+		if (isClosed) {
+			throw new MinecraftInterfaceException("the minecraft interface is closed");
+		} else if (fallback == null) {
+			fallback = fallbackFactory.create();
+		}
+		return fallback;
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+
+	@Override
+	public synchronized void close() {
+		isClosed = true;
+		if (fallback != null) {
+			fallback.close();
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Turns a few plains into sunflower plains.
+ */
+@NotThreadSafe
+class GenLayerRareBiome extends GenLayer {
+	public GenLayerRareBiome(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				random.setPosition(x + areaX, y + areaY);
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				if (random.nextInt(57) == 0 && center == LayerBiomes.PLAINS) {
+					result[x + y * areaWidth] = LayerBiomes.PLAINS + LayerBiomes.MUTATION_OFFSET;
+				} else {
+					result[x + y * areaWidth] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
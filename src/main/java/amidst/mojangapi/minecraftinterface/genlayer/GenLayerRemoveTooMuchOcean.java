@@ -0,0 +1,33 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+class GenLayerRemoveTooMuchOcean extends GenLayer {
+	public GenLayerRemoveTooMuchOcean(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int north = parentInts[x + 1 + y * parentWidth];
+				int east = parentInts[x + 2 + (y + 1) * parentWidth];
+				int west = parentInts[x + (y + 1) * parentWidth];
+				int south = parentInts[x + 1 + (y + 2) * parentWidth];
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				result[x + y * areaWidth] = center;
+				random.setPosition(x + areaX, y + areaY);
+				if (center == 0 && north == 0 && east == 0 && west == 0 && south == 0 && random.nextInt(2) == 0) {
+					result[x + y * areaWidth] = 1;
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,40 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Places rivers at the borders of the noise of {@link GenLayerRiverInit}. All
+ * other positions are set to -1. This layer does not use any random numbers.
+ */
+@NotThreadSafe
+class GenLayerRiver extends GenLayer {
+	public GenLayerRiver(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int west = reduce(parentInts[x + (y + 1) * parentWidth]);
+				int east = reduce(parentInts[x + 2 + (y + 1) * parentWidth]);
+				int north = reduce(parentInts[x + 1 + y * parentWidth]);
+				int south = reduce(parentInts[x + 1 + (y + 2) * parentWidth]);
+				int center = reduce(parentInts[x + 1 + (y + 1) * parentWidth]);
+				if (center == west && center == north && center == east && center == south) {
+					result[x + y * areaWidth] = -1;
+				} else {
+					result[x + y * areaWidth] = LayerBiomes.RIVER;
+				}
+			}
+		}
+		return result;
+	}
+
+	private int reduce(int noise) {
+		return noise >= 2 ? 2 + (noise & 1) : noise;
+	}
+}
@@ -0,0 +1,29 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Assigns random noise to the land. The rivers are placed between different
+ * noise values and the hills layer uses it to decide where to put hills and
+ * mutated biomes.
+ */
+@NotThreadSafe
+class GenLayerRiverInit extends GenLayer {
+	public GenLayerRiverInit(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int[] parentInts = parent.getInts(cache, areaX, areaY, areaWidth, areaHeight);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				random.setPosition(x + areaX, y + areaY);
+				result[x + y * areaWidth] = parentInts[x + y * areaWidth] > 0 ? random.nextInt(299999) + 2 : 0;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,48 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import static amidst.mojangapi.minecraftinterface.genlayer.LayerBiomes.*;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Combines the biomes with the rivers. This is the quarter resolution biome
+ * layer.
+ */
+@NotThreadSafe
+class GenLayerRiverMix extends GenLayer {
+	private final GenLayer biomeLayer;
+	private final GenLayer riverLayer;
+
+	public GenLayerRiverMix(long baseSeed, GenLayer biomeLayer, GenLayer riverLayer) {
+		super(baseSeed, null);
+		this.biomeLayer = biomeLayer;
+		this.riverLayer = riverLayer;
+	}
+
+	@Override
+	public void initWorldGenSeed(long seed) {
+		biomeLayer.initWorldGenSeed(seed);
+		riverLayer.initWorldGenSeed(seed);
+		super.initWorldGenSeed(seed);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		int[] biomeInts = biomeLayer.getInts(cache, areaX, areaY, areaWidth, areaHeight);
+		int[] riverInts = riverLayer.getInts(cache, areaX, areaY, areaWidth, areaHeight);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int i = 0; i < areaWidth * areaHeight; i++) {
+			int biome = biomeInts[i];
+			if (biome == OCEAN || biome == DEEP_OCEAN || riverInts[i] != RIVER) {
+				result[i] = biome;
+			} else if (biome == ICE_PLAINS) {
+				result[i] = FROZEN_RIVER;
+			} else if (biome == MUSHROOM_ISLAND || biome == MUSHROOM_ISLAND_SHORE) {
+				result[i] = MUSHROOM_ISLAND_SHORE;
+			} else {
+				result[i] = riverInts[i] & 0xFF;
+			}
+		}
+		return result;
+	}
+}
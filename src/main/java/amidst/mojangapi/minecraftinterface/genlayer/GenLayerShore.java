@@ -0,0 +1,94 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import static amidst.mojangapi.minecraftinterface.genlayer.LayerBiomes.*;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Adds beaches, mushroom island shores and jungle edges. This layer does not
+ * use any random numbers.
+ */
+@NotThreadSafe
+class GenLayerShore extends GenLayer {
+	public GenLayerShore(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int north = parentInts[x + 1 + y * parentWidth];
+				int east = parentInts[x + 2 + (y + 1) * parentWidth];
+				int west = parentInts[x + (y + 1) * parentWidth];
+				int south = parentInts[x + 1 + (y + 2) * parentWidth];
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				result[x + y * areaWidth] = getBiome(center, north, east, west, south);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int center, int north, int east, int west, int south) {
+		if (center == MUSHROOM_ISLAND) {
+			if (north != OCEAN && east != OCEAN && west != OCEAN && south != OCEAN) {
+				return center;
+			} else {
+				return MUSHROOM_ISLAND_SHORE;
+			}
+		} else if (isJungle(center)) {
+			if (!isJungleCompatible(north) || !isJungleCompatible(east) || !isJungleCompatible(west)
+					|| !isJungleCompatible(south)) {
+				return JUNGLE_EDGE;
+			} else {
+				return replaceIfAnyNeighborIsOceanic(center, north, east, west, south, BEACH);
+			}
+		} else if (center == EXTREME_HILLS || center == EXTREME_HILLS_PLUS || center == EXTREME_HILLS_EDGE) {
+			return replaceIfNotOceanicAndAnyNeighborIsOceanic(center, north, east, west, south, STONE_BEACH);
+		} else if (isSnowy(center)) {
+			return replaceIfNotOceanicAndAnyNeighborIsOceanic(center, north, east, west, south, COLD_BEACH);
+		} else if (center == MESA || center == MESA_PLATEAU_F) {
+			if (isOceanic(north) || isOceanic(east) || isOceanic(west) || isOceanic(south)) {
+				return center;
+			} else if (isMesa(north) && isMesa(east) && isMesa(west) && isMesa(south)) {
+				return center;
+			} else {
+				return DESERT;
+			}
+		} else if (center != OCEAN && center != DEEP_OCEAN && center != RIVER && center != SWAMPLAND) {
+			return replaceIfAnyNeighborIsOceanic(center, north, east, west, south, BEACH);
+		} else {
+			return center;
+		}
+	}
+
+	private boolean isJungleCompatible(int biome) {
+		return isJungle(biome) || biome == JUNGLE_EDGE || biome == JUNGLE || biome == JUNGLE_HILLS || biome == FOREST
+				|| biome == TAIGA || isOceanic(biome);
+	}
+
+	private int replaceIfNotOceanicAndAnyNeighborIsOceanic(
+			int center,
+			int north,
+			int east,
+			int west,
+			int south,
+			int replacement) {
+		if (isOceanic(center)) {
+			return center;
+		} else {
+			return replaceIfAnyNeighborIsOceanic(center, north, east, west, south, replacement);
+		}
+	}
+
+	private int replaceIfAnyNeighborIsOceanic(int center, int north, int east, int west, int south, int replacement) {
+		if (isOceanic(north) || isOceanic(east) || isOceanic(west) || isOceanic(south)) {
+			return replacement;
+		} else {
+			return center;
+		}
+	}
+}
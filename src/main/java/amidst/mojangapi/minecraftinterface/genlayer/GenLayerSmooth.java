@@ -0,0 +1,40 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+class GenLayerSmooth extends GenLayer {
+	public GenLayerSmooth(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentWidth = areaWidth + 2;
+		int[] parentInts = parent.getInts(cache, areaX - 1, areaY - 1, parentWidth, areaHeight + 2);
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			for (int x = 0; x < areaWidth; x++) {
+				int west = parentInts[x + (y + 1) * parentWidth];
+				int east = parentInts[x + 2 + (y + 1) * parentWidth];
+				int north = parentInts[x + 1 + y * parentWidth];
+				int south = parentInts[x + 1 + (y + 2) * parentWidth];
+				int center = parentInts[x + 1 + (y + 1) * parentWidth];
+				if (west == east && north == south) {
+					random.setPosition(x + areaX, y + areaY);
+					center = random.select(west, north);
+				} else {
+					if (west == east) {
+						center = west;
+					}
+					if (north == south) {
+						center = north;
+					}
+				}
+				result[x + y * areaWidth] = center;
+			}
+		}
+		return result;
+	}
+}
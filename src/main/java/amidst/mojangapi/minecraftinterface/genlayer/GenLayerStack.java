@@ -0,0 +1,93 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * The biome generator of one world. This creates the same layers as the
+ * method initializeAllBiomeGenerators of Minecraft 1.8 and 1.9. The only
+ * difference between the versions is how the mutated biomes are looked up,
+ * see {@link LayerBiomes#createMutations(boolean)}.
+ */
+@ThreadSafe
+class GenLayerStack {
+	/**
+	 * Customized worlds can change the biome size, the river size and can
+	 * consist of a single biome, so we only support them without generator
+	 * options.
+	 */
+	public static boolean isSupported(WorldType worldType, String generatorOptions) {
+		return worldType != WorldType.CUSTOMIZED || generatorOptions.isEmpty();
+	}
+
+	public static GenLayerStack create(long seed, WorldType worldType, boolean isBiomeRegistry) {
+		GenLayer layer = new GenLayerIsland(1L);
+		layer = new GenLayerZoom(2000L, layer, true);
+		layer = new GenLayerAddIsland(1L, layer);
+		layer = new GenLayerZoom(2001L, layer, false);
+		layer = new GenLayerAddIsland(2L, layer);
+		layer = new GenLayerAddIsland(50L, layer);
+		layer = new GenLayerAddIsland(70L, layer);
+		layer = new GenLayerRemoveTooMuchOcean(2L, layer);
+		layer = new GenLayerAddSnow(2L, layer);
+		layer = new GenLayerAddIsland(3L, layer);
+		layer = new GenLayerEdge(2L, layer, GenLayerEdge.Mode.COOL_WARM);
+		layer = new GenLayerEdge(2L, layer, GenLayerEdge.Mode.HEAT_ICE);
+		layer = new GenLayerEdge(3L, layer, GenLayerEdge.Mode.SPECIAL);
+		layer = new GenLayerZoom(2002L, layer, false);
+		layer = new GenLayerZoom(2003L, layer, false);
+		layer = new GenLayerAddIsland(4L, layer);
+		layer = new GenLayerAddMushroomIsland(5L, layer);
+		layer = new GenLayerDeepOcean(4L, layer);
+		GenLayer continents = layer;
+
+		int biomeSize = worldType == WorldType.LARGE_BIOMES ? 6 : 4;
+		int riverSize = 4;
+
+		GenLayer riverInit = new GenLayerRiverInit(100L, continents);
+		GenLayer biomes = GenLayerZoom.magnify(1000L, new GenLayerBiome(200L, continents), 2);
+		biomes = new GenLayerBiomeEdge(1000L, biomes);
+		GenLayer hills = new GenLayerHills(
+				1000L,
+				biomes,
+				GenLayerZoom.magnify(1000L, riverInit, 2),
+				LayerBiomes.createMutations(isBiomeRegistry));
+
+		GenLayer rivers = GenLayerZoom.magnify(1000L, riverInit, 2);
+		rivers = GenLayerZoom.magnify(1000L, rivers, riverSize);
+		rivers = new GenLayerRiver(1L, rivers);
+		rivers = new GenLayerSmooth(1000L, rivers);
+
+		hills = new GenLayerRareBiome(1001L, hills);
+		for (int i = 0; i < biomeSize; i++) {
+			hills = new GenLayerZoom(1000L + i, hills, false);
+			if (i == 0) {
+				hills = new GenLayerAddIsland(3L, hills);
+			}
+			if (i == 1) {
+				hills = new GenLayerShore(1000L, hills);
+			}
+		}
+		hills = new GenLayerSmooth(1000L, hills);
+
+		GenLayer quarterResolution = new GenLayerRiverMix(100L, hills, rivers);
+		GenLayer fullResolution = new GenLayerVoronoiZoom(10L, quarterResolution);
+		quarterResolution.initWorldGenSeed(seed);
+		fullResolution.initWorldGenSeed(seed);
+		return new GenLayerStack(quarterResolution, fullResolution);
+	}
+
+	private final GenLayer quarterResolution;
+	private final GenLayer fullResolution;
+
+	private GenLayerStack(GenLayer quarterResolution, GenLayer fullResolution) {
+		this.quarterResolution = quarterResolution;
+		this.fullResolution = fullResolution;
+	}
+
+	public void getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution, int[] result) {
+		GenLayer layer = useQuarterResolution ? quarterResolution : fullResolution;
+		int[] biomeData = layer.getInts(IntArrayCache.resetForCurrentThread(), x, y, width, height);
+		System.arraycopy(biomeData, 0, result, 0, width * height);
+	}
+}
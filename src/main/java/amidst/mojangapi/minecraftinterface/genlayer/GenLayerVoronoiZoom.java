@@ -0,0 +1,85 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Scales the quarter resolution biome layer up to full resolution. Each block
+ * gets the biome of the nearest of four randomly displaced points.
+ */
+@NotThreadSafe
+class GenLayerVoronoiZoom extends GenLayer {
+	public GenLayerVoronoiZoom(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		areaX -= 2;
+		areaY -= 2;
+		int parentX = areaX >> 2;
+		int parentY = areaY >> 2;
+		int parentWidth = (areaWidth >> 2) + 2;
+		int parentHeight = (areaHeight >> 2) + 2;
+		int[] parentInts = parent.getInts(cache, parentX, parentY, parentWidth, parentHeight);
+		int zoomedWidth = parentWidth - 1 << 2;
+		int zoomedHeight = parentHeight - 1 << 2;
+		int[] zoomed = cache.get(zoomedWidth * zoomedHeight);
+		for (int y = 0; y < parentHeight - 1; y++) {
+			int topLeft = parentInts[y * parentWidth];
+			int bottomLeft = parentInts[(y + 1) * parentWidth];
+			for (int x = 0; x < parentWidth - 1; x++) {
+				random.setPosition(x + parentX << 2, y + parentY << 2);
+				double topLeftX = nextOffset(random);
+				double topLeftY = nextOffset(random);
+				random.setPosition(x + parentX + 1 << 2, y + parentY << 2);
+				double topRightX = nextOffset(random) + 4.0D;
+				double topRightY = nextOffset(random);
+				random.setPosition(x + parentX << 2, y + parentY + 1 << 2);
+				double bottomLeftX = nextOffset(random);
+				double bottomLeftY = nextOffset(random) + 4.0D;
+				random.setPosition(x + parentX + 1 << 2, y + parentY + 1 << 2);
+				double bottomRightX = nextOffset(random) + 4.0D;
+				double bottomRightY = nextOffset(random) + 4.0D;
+				int topRight = parentInts[x + 1 + y * parentWidth] & 0xFF;
+				int bottomRight = parentInts[x + 1 + (y + 1) * parentWidth] & 0xFF;
+				for (int j = 0; j < 4; j++) {
+					int index = ((y << 2) + j) * zoomedWidth + (x << 2);
+					for (int i = 0; i < 4; i++) {
+						double topLeftDistance = square(j - topLeftY) + square(i - topLeftX);
+						double topRightDistance = square(j - topRightY) + square(i - topRightX);
+						double bottomLeftDistance = square(j - bottomLeftY) + square(i - bottomLeftX);
+						double bottomRightDistance = square(j - bottomRightY) + square(i - bottomRightX);
+						if (topLeftDistance < topRightDistance && topLeftDistance < bottomLeftDistance
+								&& topLeftDistance < bottomRightDistance) {
+							zoomed[index++] = topLeft;
+						} else if (topRightDistance < topLeftDistance && topRightDistance < bottomLeftDistance
+								&& topRightDistance < bottomRightDistance) {
+							zoomed[index++] = topRight;
+						} else if (bottomLeftDistance < topLeftDistance && bottomLeftDistance < topRightDistance
+								&& bottomLeftDistance < bottomRightDistance) {
+							zoomed[index++] = bottomLeft;
+						} else {
+							zoomed[index++] = bottomRight;
+						}
+					}
+				}
+				topLeft = topRight;
+				bottomLeft = bottomRight;
+			}
+		}
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			System.arraycopy(zoomed, (y + (areaY & 3)) * zoomedWidth + (areaX & 3), result, y * areaWidth, areaWidth);
+		}
+		return result;
+	}
+
+	private double nextOffset(LayerRandom random) {
+		return (random.nextInt(1024) / 1024.0D - 0.5D) * 3.6D;
+	}
+
+	private double square(double value) {
+		return value * value;
+	}
+}
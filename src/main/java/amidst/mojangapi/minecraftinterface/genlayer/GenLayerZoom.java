@@ -0,0 +1,95 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Doubles the resolution. The fuzzy variant picks a random corner instead of
+ * the most common one.
+ */
+@NotThreadSafe
+class GenLayerZoom extends GenLayer {
+	public static GenLayer magnify(long baseSeed, GenLayer parent, int times) {
+		GenLayer result = parent;
+		for (int i = 0; i < times; i++) {
+			result = new GenLayerZoom(baseSeed + i, result, false);
+		}
+		return result;
+	}
+
+	private final boolean isFuzzy;
+
+	public GenLayerZoom(long baseSeed, GenLayer parent, boolean isFuzzy) {
+		super(baseSeed, parent);
+		this.isFuzzy = isFuzzy;
+	}
+
+	@Override
+	public int[] getInts(IntArrayCache cache, int areaX, int areaY, int areaWidth, int areaHeight) {
+		LayerRandom random = createRandom();
+		int parentX = areaX >> 1;
+		int parentY = areaY >> 1;
+		int parentWidth = (areaWidth >> 1) + 2;
+		int parentHeight = (areaHeight >> 1) + 2;
+		int[] parentInts = parent.getInts(cache, parentX, parentY, parentWidth, parentHeight);
+		int zoomedWidth = parentWidth - 1 << 1;
+		int zoomedHeight = parentHeight - 1 << 1;
+		int[] zoomed = cache.get(zoomedWidth * zoomedHeight);
+		for (int y = 0; y < parentHeight - 1; y++) {
+			int index = (y << 1) * zoomedWidth;
+			int topLeft = parentInts[y * parentWidth];
+			int bottomLeft = parentInts[(y + 1) * parentWidth];
+			for (int x = 0; x < parentWidth - 1; x++) {
+				random.setPosition(x + parentX << 1, y + parentY << 1);
+				int topRight = parentInts[x + 1 + y * parentWidth];
+				int bottomRight = parentInts[x + 1 + (y + 1) * parentWidth];
+				zoomed[index] = topLeft;
+				zoomed[index + zoomedWidth] = random.select(topLeft, bottomLeft);
+				index++;
+				zoomed[index] = random.select(topLeft, topRight);
+				zoomed[index + zoomedWidth] = selectCorner(random, topLeft, topRight, bottomLeft, bottomRight);
+				index++;
+				topLeft = topRight;
+				bottomLeft = bottomRight;
+			}
+		}
+		int[] result = cache.get(areaWidth * areaHeight);
+		for (int y = 0; y < areaHeight; y++) {
+			System.arraycopy(zoomed, (y + (areaY & 1)) * zoomedWidth + (areaX & 1), result, y * areaWidth, areaWidth);
+		}
+		return result;
+	}
+
+	private int selectCorner(LayerRandom random, int a, int b, int c, int d) {
+		if (isFuzzy) {
+			return random.select(a, b, c, d);
+		} else {
+			return selectModeOrRandom(random, a, b, c, d);
+		}
+	}
+
+	private int selectModeOrRandom(LayerRandom random, int a, int b, int c, int d) {
+		if (b == c && c == d) {
+			return b;
+		} else if (a == b && a == c) {
+			return a;
+		} else if (a == b && a == d) {
+			return a;
+		} else if (a == c && a == d) {
+			return a;
+		} else if (a == b && c != d) {
+			return a;
+		} else if (a == c && b != d) {
+			return a;
+		} else if (a == d && b != c) {
+			return a;
+		} else if (b == c && a != d) {
+			return b;
+		} else if (b == d && a != c) {
+			return b;
+		} else if (c == d && a != b) {
+			return c;
+		} else {
+			return random.select(a, b, c, d);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Replaces the IntCache of Minecraft. Each thread has its own instance, so no
+ * lock is needed. All arrays that were handed out since the last reset are
+ * in use. A reset makes them available again, so the cache only allocates
+ * new arrays if a request needs more or larger arrays than any request
+ * before.
+ */
+@NotThreadSafe
+final class IntArrayCache {
+	private static final ThreadLocal<IntArrayCache> CACHE_OF_CURRENT_THREAD = ThreadLocal
+			.withInitial(IntArrayCache::new);
+
+	/**
+	 * All arrays that were previously handed out by the returned cache might
+	 * be reused.
+	 */
+	public static IntArrayCache resetForCurrentThread() {
+		IntArrayCache result = CACHE_OF_CURRENT_THREAD.get();
+		result.reset();
+		return result;
+	}
+
+	private final List<int[]> available = new ArrayList<>();
+	private final List<int[]> inUse = new ArrayList<>();
+
+	private IntArrayCache() {
+	}
+
+	public int[] get(int length) {
+		int[] result = removeSmallestAvailable(length);
+		if (result == null) {
+			// Replace a smaller array, so the number of cached arrays does not
+			// grow beyond the number of arrays needed by a single request.
+			if (!available.isEmpty()) {
+				available.remove(available.size() - 1);
+			}
+			result = new int[length];
+		}
+		inUse.add(result);
+		return result;
+	}
+
+	private int[] removeSmallestAvailable(int length) {
+		int bestIndex = -1;
+		for (int i = 0; i < available.size(); i++) {
+			int[] array = available.get(i);
+			if (array.length >= length && (bestIndex == -1 || array.length < available.get(bestIndex).length)) {
+				bestIndex = i;
+			}
+		}
+		if (bestIndex == -1) {
+			return null;
+		} else {
+			return available.remove(bestIndex);
+		}
+	}
+
+	private void reset() {
+		available.addAll(inUse);
+		inUse.clear();
+	}
+}
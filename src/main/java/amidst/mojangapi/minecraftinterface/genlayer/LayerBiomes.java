@@ -0,0 +1,182 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import java.util.Arrays;
+
+import amidst.documentation.Immutable;
+
+/**
+ * The properties of the Minecraft 1.8 and 1.9 biomes the layers depend on.
+ * Minecraft compares the Java classes of two biomes to decide whether they
+ * are similar, so each biome has the index of its class here.
+ */
+@Immutable
+enum LayerBiomes {
+	;
+
+	// @formatter:off
+	public static final int OCEAN                 =   0;
+	public static final int PLAINS                =   1;
+	public static final int DESERT                =   2;
+	public static final int EXTREME_HILLS         =   3;
+	public static final int FOREST                =   4;
+	public static final int TAIGA                 =   5;
+	public static final int SWAMPLAND             =   6;
+	public static final int RIVER                 =   7;
+	public static final int FROZEN_OCEAN          =  10;
+	public static final int FROZEN_RIVER          =  11;
+	public static final int ICE_PLAINS            =  12;
+	public static final int ICE_MOUNTAINS         =  13;
+	public static final int MUSHROOM_ISLAND       =  14;
+	public static final int MUSHROOM_ISLAND_SHORE =  15;
+	public static final int BEACH                 =  16;
+	public static final int DESERT_HILLS          =  17;
+	public static final int FOREST_HILLS          =  18;
+	public static final int TAIGA_HILLS           =  19;
+	public static final int EXTREME_HILLS_EDGE    =  20;
+	public static final int JUNGLE                =  21;
+	public static final int JUNGLE_HILLS          =  22;
+	public static final int JUNGLE_EDGE           =  23;
+	public static final int DEEP_OCEAN            =  24;
+	public static final int STONE_BEACH           =  25;
+	public static final int COLD_BEACH            =  26;
+	public static final int BIRCH_FOREST          =  27;
+	public static final int BIRCH_FOREST_HILLS    =  28;
+	public static final int ROOFED_FOREST         =  29;
+	public static final int COLD_TAIGA            =  30;
+	public static final int COLD_TAIGA_HILLS      =  31;
+	public static final int MEGA_TAIGA            =  32;
+	public static final int MEGA_TAIGA_HILLS      =  33;
+	public static final int EXTREME_HILLS_PLUS    =  34;
+	public static final int SAVANNA               =  35;
+	public static final int SAVANNA_PLATEAU       =  36;
+	public static final int MESA                  =  37;
+	public static final int MESA_PLATEAU_F        =  38;
+	public static final int MESA_PLATEAU          =  39;
+	public static final int MUTATION_OFFSET       = 128;
+
+	private static final int NO_BIOME          = -1;
+	private static final int OCEAN_CLASS       =  0;
+	private static final int PLAINS_CLASS      =  1;
+	private static final int DESERT_CLASS      =  2;
+	private static final int HILLS_CLASS       =  3;
+	private static final int FOREST_CLASS      =  4;
+	private static final int TAIGA_CLASS       =  5;
+	private static final int SWAMP_CLASS       =  6;
+	private static final int RIVER_CLASS       =  7;
+	private static final int HELL_CLASS        =  8;
+	private static final int END_CLASS         =  9;
+	private static final int SNOW_CLASS        = 10;
+	private static final int MUSHROOM_CLASS    = 11;
+	private static final int BEACH_CLASS       = 12;
+	private static final int JUNGLE_CLASS      = 13;
+	private static final int STONE_BEACH_CLASS = 14;
+	private static final int SAVANNA_CLASS     = 15;
+	private static final int MESA_CLASS        = 16;
+	private static final int VOID_CLASS        = 17;
+
+	private static final int[] MUTATED_BIOMES = {
+			PLAINS,            DESERT,             EXTREME_HILLS,      FOREST,             TAIGA,
+			SWAMPLAND,         ICE_PLAINS,         JUNGLE,             JUNGLE_EDGE,        BIRCH_FOREST,
+			BIRCH_FOREST_HILLS, ROOFED_FOREST,     COLD_TAIGA,         MEGA_TAIGA,         MEGA_TAIGA_HILLS,
+			EXTREME_HILLS_PLUS, SAVANNA,           SAVANNA_PLATEAU,    MESA,               MESA_PLATEAU_F,
+			MESA_PLATEAU };
+
+	private static final int[] SNOWY_BIOMES = {
+			FROZEN_OCEAN,      FROZEN_RIVER,       ICE_PLAINS,         ICE_MOUNTAINS,      COLD_BEACH,
+			COLD_TAIGA,        COLD_TAIGA_HILLS,   ICE_PLAINS + MUTATION_OFFSET,
+			COLD_TAIGA + MUTATION_OFFSET };
+
+	private static final int[] BIOME_CLASSES = createBiomeClasses(
+			OCEAN_CLASS,       PLAINS_CLASS,       DESERT_CLASS,       HILLS_CLASS,        FOREST_CLASS,
+			TAIGA_CLASS,       SWAMP_CLASS,        RIVER_CLASS,        HELL_CLASS,         END_CLASS,
+			OCEAN_CLASS,       RIVER_CLASS,        SNOW_CLASS,         SNOW_CLASS,         MUSHROOM_CLASS,
+			MUSHROOM_CLASS,    BEACH_CLASS,        DESERT_CLASS,       FOREST_CLASS,       TAIGA_CLASS,
+			HILLS_CLASS,       JUNGLE_CLASS,       JUNGLE_CLASS,       JUNGLE_CLASS,       OCEAN_CLASS,
+			STONE_BEACH_CLASS, BEACH_CLASS,        FOREST_CLASS,       FOREST_CLASS,       FOREST_CLASS,
+			TAIGA_CLASS,       TAIGA_CLASS,        TAIGA_CLASS,        TAIGA_CLASS,        HILLS_CLASS,
+			SAVANNA_CLASS,     SAVANNA_CLASS,      MESA_CLASS,         MESA_CLASS,         MESA_CLASS);
+	// @formatter:on
+
+	private static final boolean[] IS_SNOWY = createIsSnowy();
+
+	/**
+	 * The void biome only exists since Minecraft 1.9, however the layers never
+	 * generate it.
+	 */
+	private static int[] createBiomeClasses(int... baseBiomeClasses) {
+		int[] result = new int[256];
+		Arrays.fill(result, NO_BIOME);
+		System.arraycopy(baseBiomeClasses, 0, result, 0, baseBiomeClasses.length);
+		result[127] = VOID_CLASS;
+		for (int biome : MUTATED_BIOMES) {
+			result[biome + MUTATION_OFFSET] = result[biome];
+		}
+		return result;
+	}
+
+	private static boolean[] createIsSnowy() {
+		boolean[] result = new boolean[256];
+		for (int biome : SNOWY_BIOMES) {
+			result[biome] = true;
+		}
+		return result;
+	}
+
+	private static int getBiomeClass(int biome) {
+		if (biome >= 0 && biome < BIOME_CLASSES.length) {
+			return BIOME_CLASSES[biome];
+		} else {
+			return NO_BIOME;
+		}
+	}
+
+	/**
+	 * Returns the mutated biome of each biome or -1, if it has no mutation.
+	 * Minecraft 1.9-pre2 looks up the mutations in the biome registry. There, the
+	 * mutated birch forest hills are registered as the mutation of the birch
+	 * forest, so the birch forest hills have no mutation.
+	 */
+	public static int[] createMutations(boolean isBiomeRegistry) {
+		int[] result = new int[256];
+		Arrays.fill(result, NO_BIOME);
+		for (int biome : MUTATED_BIOMES) {
+			result[biome] = biome + MUTATION_OFFSET;
+		}
+		if (isBiomeRegistry) {
+			result[BIRCH_FOREST] = BIRCH_FOREST_HILLS + MUTATION_OFFSET;
+			result[BIRCH_FOREST_HILLS] = NO_BIOME;
+		}
+		return result;
+	}
+
+	public static boolean exists(int biome) {
+		return getBiomeClass(biome) != NO_BIOME;
+	}
+
+	public static boolean isOceanic(int biome) {
+		return biome == OCEAN || biome == DEEP_OCEAN || biome == FROZEN_OCEAN;
+	}
+
+	public static boolean isSnowy(int biome) {
+		return biome >= 0 && biome < IS_SNOWY.length && IS_SNOWY[biome];
+	}
+
+	public static boolean isJungle(int biome) {
+		return getBiomeClass(biome) == JUNGLE_CLASS;
+	}
+
+	public static boolean isMesa(int biome) {
+		return getBiomeClass(biome) == MESA_CLASS;
+	}
+
+	public static boolean isEqualOrMesaPlateau(int biome1, int biome2) {
+		if (biome1 == biome2) {
+			return true;
+		} else if (biome1 == MESA_PLATEAU_F || biome1 == MESA_PLATEAU) {
+			return biome2 == MESA_PLATEAU_F || biome2 == MESA_PLATEAU;
+		} else {
+			int biomeClass = getBiomeClass(biome1);
+			return biomeClass != NO_BIOME && biomeClass == getBiomeClass(biome2);
+		}
+	}
+}
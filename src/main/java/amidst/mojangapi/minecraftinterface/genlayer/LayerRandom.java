@@ -0,0 +1,40 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * The random state of a {@link GenLayer} at one position. Minecraft calls this
+ * the chunk seed, even though the position is not necessarily a chunk.
+ */
+@NotThreadSafe
+final class LayerRandom {
+	private final long worldGenSeed;
+	private long chunkSeed;
+
+	LayerRandom(long worldGenSeed) {
+		this.worldGenSeed = worldGenSeed;
+	}
+
+	public void setPosition(long x, long z) {
+		chunkSeed = GenLayer.nextSeed(GenLayer.nextSeed(worldGenSeed, x), z);
+		chunkSeed = GenLayer.nextSeed(GenLayer.nextSeed(chunkSeed, x), z);
+	}
+
+	public int nextInt(int bound) {
+		int result = (int) ((chunkSeed >> 24) % bound);
+		if (result < 0) {
+			result += bound;
+		}
+		chunkSeed = GenLayer.nextSeed(chunkSeed, worldGenSeed);
+		return result;
+	}
+
+	public int select(int a, int b) {
+		return nextInt(2) == 0 ? a : b;
+	}
+
+	public int select(int a, int b, int c, int d) {
+		int index = nextInt(4);
+		return index == 0 ? a : index == 1 ? b : index == 2 ? c : d;
+	}
+}
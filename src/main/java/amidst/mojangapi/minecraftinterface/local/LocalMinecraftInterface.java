@@ -1,6 +1,12 @@
 package amidst.mojangapi.minecraftinterface.local;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import amidst.clazz.symbolic.SymbolicClass;
 import amidst.clazz.symbolic.SymbolicObject;
@@ -8,6 +14,7 @@ import amidst.clazz.translator.ClassTranslator;
 import amidst.documentation.ThreadSafe;
 import amidst.logging.AmidstLogger;
 import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
@@ -20,21 +27,33 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 		return new LocalMinecraftInterfaceBuilder(translator).create(launcherProfile);
 	}
 
+	private static final MethodType RESET_INT_CACHE_TYPE = MethodType.methodType(void.class);
+	private static final MethodType GET_INTS_TYPE = MethodType
+			.methodType(int[].class, int.class, int.class, int.class, int.class);
+
 	/**
-	 * A GenLayer instance, at quarter scale to the final biome layer (i.e. both
-	 * axis are divided by 4). Minecraft calculates biomes at
-	 * quarter-resolution, then noisily interpolates the biome-map up to 1:1
-	 * resolution when needed, this is the biome GenLayer before it is
+	 * The getInts method of a GenLayer instance, at quarter scale to the final
+	 * biome layer (i.e. both axis are divided by 4). Minecraft calculates
+	 * biomes at quarter-resolution, then noisily interpolates the biome-map up
+	 * to 1:1 resolution when needed, this is the biome GenLayer before it is
 	 * interpolated.
 	 */
-	private volatile SymbolicObject quarterResolutionBiomeGenerator;
+	private volatile MethodHandle quarterResolutionBiomeGenerator;
 
 	/**
-	 * A GenLayer instance, the biome layer. (1:1 scale) Minecraft calculates
-	 * biomes at quarter-resolution, then noisily interpolates the biome-map up
-	 * to 1:1 resolution when needed, this is the interpolated biome GenLayer.
+	 * The getInts method of a GenLayer instance, the biome layer. (1:1 scale)
+	 * Minecraft calculates biomes at quarter-resolution, then noisily
+	 * interpolates the biome-map up to 1:1 resolution when needed, this is the
+	 * interpolated biome GenLayer.
 	 */
-	private volatile SymbolicObject fullResolutionBiomeGenerator;
+	private volatile MethodHandle fullResolutionBiomeGenerator;
+
+	/**
+	 * The biome data is requested very often, so we call the static method
+	 * resetIntCache and the method getInts via method handles. This avoids
+	 * the boxing of the parameters and the reflective access checks.
+	 */
+	private final MethodHandle resetIntCache;
 
 	private final SymbolicClass intCacheClass;
 	private final SymbolicClass blockInitClass;
@@ -56,21 +75,96 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 		this.worldTypeClass = worldTypeClass;
 		this.genOptionsFactoryClass = genOptionsFactoryClass;
 		this.recognisedVersion = recognisedVersion;
+		this.resetIntCache = intCacheClass
+				.getMethodHandle(SymbolicNames.METHOD_INT_CACHE_RESET_INT_CACHE, RESET_INT_CACHE_TYPE);
 	}
 
 	@Override
 	public synchronized int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
 		try {
-			intCacheClass.callStaticMethod(SymbolicNames.METHOD_INT_CACHE_RESET_INT_CACHE);
-			return (int[]) getBiomeGenerator(useQuarterResolution)
-					.callMethod(SymbolicNames.METHOD_GEN_LAYER_GET_INTS, x, y, width, height);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			resetIntCache.invokeExact();
+			return (int[]) getBiomeGenerator(useQuarterResolution).invokeExact(x, y, width, height);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new MinecraftInterfaceException("unable to get biome data", e);
+		}
+	}
+
+	/**
+	 * The array returned by Minecraft is owned by the int cache, so it is
+	 * copied before the lock is released.
+	 */
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		System.arraycopy(biomeData, 0, result, 0, width * height);
+	}
+
+	/**
+	 * The int cache is reset before each request of the batch and the result
+	 * is copied before the next request, so the int cache does not grow with
+	 * the size of the batch and the returned arrays are owned by the caller.
+	 */
+	@Override
+	public synchronized List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		try {
+			MethodHandle biomeGenerator = getBiomeGenerator(useQuarterResolution);
+			List<int[]> result = new ArrayList<>(requests.size());
+			for (BiomeDataRequest request : requests) {
+				resetIntCache.invokeExact();
+				int[] biomeData = (int[]) biomeGenerator
+						.invokeExact(request.getX(), request.getY(), request.getWidth(), request.getHeight());
+				result.add(Arrays.copyOf(biomeData, request.getWidth() * request.getHeight()));
+			}
+			return result;
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new MinecraftInterfaceException("unable to get biome data", e);
+		}
+	}
+
+	/**
+	 * Each sample is generated as an area of a single biome. The int cache is
+	 * reset before each sample and the biome is read before the next one, so
+	 * no array is allocated per sample.
+	 */
+	@Override
+	public synchronized void getSampledBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		try {
+			MethodHandle biomeGenerator = getBiomeGenerator(useQuarterResolution);
+			for (int sampleY = 0; sampleY < height; sampleY++) {
+				for (int sampleX = 0; sampleX < width; sampleX++) {
+					resetIntCache.invokeExact();
+					int[] biomeData = (int[]) biomeGenerator
+							.invokeExact(x + sampleX * stride, y + sampleY * stride, 1, 1);
+					result[sampleX + sampleY * width] = biomeData[0];
+				}
+			}
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			throw new MinecraftInterfaceException("unable to get biome data", e);
 		}
 	}
 
-	private SymbolicObject getBiomeGenerator(boolean useQuarterResolution) {
+	private MethodHandle getBiomeGenerator(boolean useQuarterResolution) {
 		if (useQuarterResolution) {
 			return quarterResolutionBiomeGenerator;
 		} else {
@@ -86,9 +180,15 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 			AmidstLogger.info("Using the following generator options: " + generatorOptions);
 			initializeBlock();
 			Object[] genLayers = getGenLayers(seed, worldType, generatorOptions);
-			quarterResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[0]);
-			fullResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[1]);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			quarterResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[0])
+					.bindMethodHandle(SymbolicNames.METHOD_GEN_LAYER_GET_INTS, GET_INTS_TYPE);
+			fullResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[1])
+					.bindMethodHandle(SymbolicNames.METHOD_GEN_LAYER_GET_INTS, GET_INTS_TYPE);
+		} catch (
+				IllegalAccessException
+				| IllegalArgumentException
+				| InvocationTargetException
+				| WrongMethodTypeException e) {
 			throw new MinecraftInterfaceException("unable to create world", e);
 		}
 	}
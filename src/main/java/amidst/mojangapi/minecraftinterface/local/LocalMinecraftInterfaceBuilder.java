@@ -2,12 +2,15 @@ package amidst.mojangapi.minecraftinterface.local;
 
 import java.io.IOException;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import amidst.clazz.Classes;
 import amidst.clazz.real.JarFileParsingException;
 import amidst.clazz.symbolic.SymbolicClass;
 import amidst.clazz.symbolic.SymbolicClassGraphCreationException;
+import amidst.clazz.symbolic.declaration.SymbolicClassDeclaration;
 import amidst.clazz.translator.ClassTranslator;
 import amidst.documentation.Immutable;
 import amidst.documentation.NotNull;
@@ -32,13 +35,7 @@ public class LocalMinecraftInterfaceBuilder {
 			Map<String, SymbolicClass> symbolicClassMap = Classes
 					.createSymbolicClassMap(launcherProfile.getJar(), classLoader, translator);
 			AmidstLogger.info("Minecraft load complete.");
-			return new LocalMinecraftInterface(
-					symbolicClassMap.get(SymbolicNames.CLASS_INT_CACHE),
-					symbolicClassMap.get(SymbolicNames.CLASS_BLOCK_INIT),
-					symbolicClassMap.get(SymbolicNames.CLASS_GEN_LAYER),
-					symbolicClassMap.get(SymbolicNames.CLASS_WORLD_TYPE),
-					symbolicClassMap.get(SymbolicNames.CLASS_GEN_OPTIONS_FACTORY),
-					recognisedVersion);
+			return create(symbolicClassMap, recognisedVersion);
 		} catch (
 				ClassNotFoundException
 				| JarFileParsingException
@@ -47,4 +44,46 @@ public class LocalMinecraftInterfaceBuilder {
 			throw new LocalMinecraftInterfaceCreationException("unable to create local minecraft interface", e);
 		}
 	}
+
+	/**
+	 * The jar file is only read and translated once. However, each instance in
+	 * the pool loads the Minecraft classes with its own class loader, so they
+	 * do not share any static state.
+	 */
+	@NotNull
+	public LocalMinecraftInterfacePool createPool(LauncherProfile launcherProfile, int size)
+			throws LocalMinecraftInterfaceCreationException {
+		try {
+			Map<SymbolicClassDeclaration, String> realClassNamesBySymbolicClassDeclaration = Classes
+					.translateJarFile(launcherProfile.getJar(), translator);
+			List<LocalMinecraftInterface> minecraftInterfaces = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				URLClassLoader classLoader = launcherProfile.newClassLoader();
+				RecognisedVersion recognisedVersion = RecognisedVersion.from(classLoader);
+				Map<String, SymbolicClass> symbolicClassMap = Classes
+						.createSymbolicClassMap(realClassNamesBySymbolicClassDeclaration, classLoader);
+				minecraftInterfaces.add(create(symbolicClassMap, recognisedVersion));
+			}
+			AmidstLogger.info("Minecraft load complete. Pool size: " + size);
+			return new LocalMinecraftInterfacePool(minecraftInterfaces);
+		} catch (
+				ClassNotFoundException
+				| JarFileParsingException
+				| SymbolicClassGraphCreationException
+				| IOException e) {
+			throw new LocalMinecraftInterfaceCreationException("unable to create local minecraft interface pool", e);
+		}
+	}
+
+	private LocalMinecraftInterface create(
+			Map<String, SymbolicClass> symbolicClassMap,
+			RecognisedVersion recognisedVersion) {
+		return new LocalMinecraftInterface(
+				symbolicClassMap.get(SymbolicNames.CLASS_INT_CACHE),
+				symbolicClassMap.get(SymbolicNames.CLASS_BLOCK_INIT),
+				symbolicClassMap.get(SymbolicNames.CLASS_GEN_LAYER),
+				symbolicClassMap.get(SymbolicNames.CLASS_WORLD_TYPE),
+				symbolicClassMap.get(SymbolicNames.CLASS_GEN_OPTIONS_FACTORY),
+				recognisedVersion);
+	}
 }
@@ -0,0 +1,155 @@
+package amidst.mojangapi.minecraftinterface.local;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import amidst.clazz.translator.ClassTranslator;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Holds several instances of the {@link LocalMinecraftInterface}, each of them
+ * with the Minecraft classes loaded by a separate class loader. Since the
+ * biome generation of Minecraft uses the static state of the class IntCache,
+ * this is the only way to generate biome data in parallel. Each call to
+ * {@link #getBiomeData(int, int, int, int, boolean)} borrows an idle instance
+ * and returns it afterwards, while {@link #createWorld(long, WorldType, String)}
+ * waits for all instances to become idle and creates the world in each of
+ * them. The arrays returned by Minecraft are owned by the IntCache of an
+ * instance, so they are copied before the instance is returned to the pool.
+ * Otherwise another thread could borrow the instance and overwrite them.
+ * If the world cannot be created in every instance, the instances might
+ * belong to different worlds, so the pool refuses to generate biome data until
+ * the next world is created successfully.
+ */
+@ThreadSafe
+public class LocalMinecraftInterfacePool implements MinecraftInterface {
+	public static LocalMinecraftInterfacePool create(
+			ClassTranslator translator,
+			LauncherProfile launcherProfile,
+			int size) throws LocalMinecraftInterfaceCreationException {
+		return new LocalMinecraftInterfaceBuilder(translator).createPool(launcherProfile, size);
+	}
+
+	private final List<LocalMinecraftInterface> minecraftInterfaces;
+	private final BlockingQueue<LocalMinecraftInterface> idleMinecraftInterfaces;
+	private final RecognisedVersion recognisedVersion;
+	private volatile boolean isWorldInconsistent = false;
+
+	LocalMinecraftInterfacePool(List<LocalMinecraftInterface> minecraftInterfaces) {
+		if (minecraftInterfaces.isEmpty()) {
+			throw new IllegalArgumentException("the pool needs at least one minecraft interface");
+		}
+		this.minecraftInterfaces = new ArrayList<>(minecraftInterfaces);
+		this.idleMinecraftInterfaces = new ArrayBlockingQueue<>(minecraftInterfaces.size(), false, minecraftInterfaces);
+		this.recognisedVersion = minecraftInterfaces.get(0).getRecognisedVersion();
+	}
+
+	public int getSize() {
+		return minecraftInterfaces.size();
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result);
+		return result;
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		LocalMinecraftInterface minecraftInterface = borrow();
+		try {
+			minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, result);
+		} finally {
+			idleMinecraftInterfaces.add(minecraftInterface);
+		}
+	}
+
+	@Override
+	public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		LocalMinecraftInterface minecraftInterface = borrow();
+		try {
+			return minecraftInterface.getBiomeData(requests, useQuarterResolution);
+		} finally {
+			idleMinecraftInterfaces.add(minecraftInterface);
+		}
+	}
+
+	@Override
+	public void getSampledBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution,
+			int[] result) throws MinecraftInterfaceException {
+		LocalMinecraftInterface minecraftInterface = borrow();
+		try {
+			minecraftInterface.getSampledBiomeData(x, y, width, height, stride, useQuarterResolution, result);
+		} finally {
+			idleMinecraftInterfaces.add(minecraftInterface);
+		}
+	}
+
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		List<LocalMinecraftInterface> borrowed = new ArrayList<>(minecraftInterfaces.size());
+		try {
+			while (borrowed.size() < minecraftInterfaces.size()) {
+				borrowed.add(takeIdle());
+			}
+			isWorldInconsistent = true;
+			for (LocalMinecraftInterface minecraftInterface : borrowed) {
+				minecraftInterface.createWorld(seed, worldType, generatorOptions);
+			}
+			isWorldInconsistent = false;
+		} finally {
+			idleMinecraftInterfaces.addAll(borrowed);
+		}
+	}
+
+	/**
+	 * The flag is checked after the instance is taken, because a call to
+	 * createWorld might have failed while this thread was waiting.
+	 */
+	private LocalMinecraftInterface borrow() throws MinecraftInterfaceException {
+		LocalMinecraftInterface result = takeIdle();
+		if (isWorldInconsistent) {
+			idleMinecraftInterfaces.add(result);
+			throw new MinecraftInterfaceException("the world could not be created in every minecraft interface");
+		}
+		return result;
+	}
+
+	private LocalMinecraftInterface takeIdle() throws MinecraftInterfaceException {
+		try {
+			return idleMinecraftInterfaces.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MinecraftInterfaceException("interrupted while waiting for an idle minecraft interface", e);
+		}
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+}
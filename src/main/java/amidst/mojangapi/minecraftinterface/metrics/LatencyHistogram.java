@@ -0,0 +1,78 @@
+package amidst.mojangapi.minecraftinterface.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import amidst.documentation.ThreadSafe;
+
+/**
+ * Counts latencies in buckets that double in size. Bucket i contains the
+ * latencies from 2^i to 2^(i+1) microseconds, so the percentiles are only
+ * accurate up to a factor of two. This is good enough to tell a millisecond
+ * from a second, without any locking on the recording threads.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+	private static final int NUMBER_OF_BUCKETS = 32;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+
+	public void record(long nanos) {
+		buckets.incrementAndGet(getBucket(nanos / 1000));
+		count.increment();
+		totalNanos.add(nanos);
+	}
+
+	private int getBucket(long micros) {
+		if (micros <= 0) {
+			return 0;
+		} else {
+			return Math.min(NUMBER_OF_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public double getMeanMillis() {
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		} else {
+			return totalNanos.sum() / 1e6 / count;
+		}
+	}
+
+	/**
+	 * Returns the upper bound of the bucket that contains the given
+	 * percentile, e.g. 0.99 for the 99th percentile.
+	 */
+	public double getPercentileMillis(double percentile) {
+		long[] counts = new long[NUMBER_OF_BUCKETS];
+		long total = 0;
+		for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		long threshold = (long) Math.ceil(total * percentile);
+		long sum = 0;
+		for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			sum += counts[i];
+			if (sum >= threshold && sum > 0) {
+				return (1L << (i + 1)) / 1000.0;
+			}
+		}
+		return 0;
+	}
+
+	public void reset() {
+		for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			buckets.set(i, 0);
+		}
+		count.reset();
+		totalNanos.reset();
+	}
+}
@@ -0,0 +1,236 @@
+package amidst.mojangapi.minecraftinterface.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+
+/**
+ * Collects the metrics that are recorded by the
+ * {@link amidst.mojangapi.minecraftinterface.InstrumentedMinecraftInterface}.
+ * This is read by the debug widget and by JMX tools.
+ *
+ * The wait time is taken from the thread contention monitoring of the JVM.
+ * Enabling it slows down every thread, so it is only enabled while the debug
+ * widget is visible or while it is requested via JMX.
+ */
+@ThreadSafe
+public class MinecraftInterfaceMetrics implements MinecraftInterfaceMetricsMXBean {
+	private static final String OBJECT_NAME = "amidst:type=MinecraftInterfaceMetrics";
+	private static final long CELLS_PER_SECOND_INTERVAL_NANOS = 1_000_000_000L;
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	/**
+	 * Creates the metrics and registers them at the platform MBean server.
+	 * Only the first registration succeeds, because the name is fixed.
+	 */
+	public static MinecraftInterfaceMetrics createRegistered() {
+		MinecraftInterfaceMetrics result = new MinecraftInterfaceMetrics();
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(result, new ObjectName(OBJECT_NAME));
+		} catch (JMException e) {
+			AmidstLogger.warn(e, "unable to register the minecraft interface metrics");
+		}
+		return result;
+	}
+
+	private final LatencyHistogram[][] histograms = createHistograms();
+	private final LongAdder numberOfCells = new LongAdder();
+	private final LongAdder waitMillis = new LongAdder();
+	private volatile boolean isWaitMeasured = false;
+	private boolean isWaitRequestedByJmx = false;
+	private boolean isWaitRequestedByDebugWidget = false;
+
+	private long cellsPerSecondTimestamp = System.nanoTime();
+	private long cellsPerSecondNumberOfCells = 0;
+	private double cellsPerSecond = 0;
+
+	private static LatencyHistogram[][] createHistograms() {
+		LatencyHistogram[][] result = new LatencyHistogram[2][RequestArea.values().length];
+		for (int i = 0; i < result.length; i++) {
+			for (int j = 0; j < result[i].length; j++) {
+				result[i][j] = new LatencyHistogram();
+			}
+		}
+		return result;
+	}
+
+	public void recordBiomeData(boolean useQuarterResolution, int numberOfCells, long nanos) {
+		getHistogram(useQuarterResolution, RequestArea.from(numberOfCells)).record(nanos);
+		this.numberOfCells.add(numberOfCells);
+	}
+
+	public void recordWait(long millis) {
+		waitMillis.add(millis);
+	}
+
+	@Override
+	public boolean isWaitMeasured() {
+		return isWaitMeasured;
+	}
+
+	@Override
+	public synchronized void setWaitMeasured(boolean isWaitMeasured) {
+		if (isWaitRequestedByJmx != isWaitMeasured) {
+			isWaitRequestedByJmx = isWaitMeasured;
+			updateWaitMeasured();
+		}
+	}
+
+	public synchronized void setWaitMeasuredByDebugWidget(boolean isWaitMeasured) {
+		if (isWaitRequestedByDebugWidget != isWaitMeasured) {
+			isWaitRequestedByDebugWidget = isWaitMeasured;
+			updateWaitMeasured();
+		}
+	}
+
+	private void updateWaitMeasured() {
+		boolean isRequested = isWaitRequestedByJmx || isWaitRequestedByDebugWidget;
+		if (isRequested != isWaitMeasured) {
+			isWaitMeasured = setThreadContentionMonitoringEnabled(isRequested) && isRequested;
+		}
+	}
+
+	private boolean setThreadContentionMonitoringEnabled(boolean isEnabled) {
+		try {
+			if (THREAD_MX_BEAN.isThreadContentionMonitoringSupported()) {
+				THREAD_MX_BEAN.setThreadContentionMonitoringEnabled(isEnabled);
+				return true;
+			}
+		} catch (SecurityException e) {
+			AmidstLogger.warn(e, "unable to change the thread contention monitoring");
+		}
+		return false;
+	}
+
+	public LatencyHistogram getHistogram(boolean useQuarterResolution, RequestArea area) {
+		return histograms[useQuarterResolution ? 0 : 1][area.ordinal()];
+	}
+
+	@Override
+	public long getNumberOfCalls() {
+		long result = 0;
+		for (LatencyHistogram[] histogramsOfResolution : histograms) {
+			for (LatencyHistogram histogram : histogramsOfResolution) {
+				result += histogram.getCount();
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public long getNumberOfCells() {
+		return numberOfCells.sum();
+	}
+
+	/**
+	 * This is the average of the last completed interval of one second.
+	 */
+	@Override
+	public synchronized double getCellsPerSecond() {
+		long now = System.nanoTime();
+		long elapsed = now - cellsPerSecondTimestamp;
+		if (elapsed >= CELLS_PER_SECOND_INTERVAL_NANOS) {
+			long cells = getNumberOfCells();
+			cellsPerSecond = (cells - cellsPerSecondNumberOfCells) * 1e9 / elapsed;
+			cellsPerSecondTimestamp = now;
+			cellsPerSecondNumberOfCells = cells;
+		}
+		return cellsPerSecond;
+	}
+
+	@Override
+	public long getWaitMillis() {
+		return waitMillis.sum();
+	}
+
+	@Override
+	public Map<String, Long> getCallsByRequest() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		forEachHistogram((name, histogram) -> result.put(name, histogram.getCount()));
+		return result;
+	}
+
+	@Override
+	public Map<String, Double> getMeanLatencyMillisByRequest() {
+		return getLatencyByRequest(LatencyHistogram::getMeanMillis);
+	}
+
+	@Override
+	public Map<String, Double> getMedianLatencyMillisByRequest() {
+		return getLatencyByRequest(histogram -> histogram.getPercentileMillis(0.5));
+	}
+
+	@Override
+	public Map<String, Double> get99thPercentileLatencyMillisByRequest() {
+		return getLatencyByRequest(histogram -> histogram.getPercentileMillis(0.99));
+	}
+
+	private Map<String, Double> getLatencyByRequest(ToDoubleFunction<LatencyHistogram> function) {
+		Map<String, Double> result = new LinkedHashMap<>();
+		forEachHistogram((name, histogram) -> result.put(name, function.applyAsDouble(histogram)));
+		return result;
+	}
+
+	private void forEachHistogram(BiConsumer<String, LatencyHistogram> consumer) {
+		for (boolean useQuarterResolution : new boolean[] { true, false }) {
+			for (RequestArea area : RequestArea.values()) {
+				consumer.accept(
+						getResolutionName(useQuarterResolution) + "/" + area.getName(),
+						getHistogram(useQuarterResolution, area));
+			}
+		}
+	}
+
+	private String getResolutionName(boolean useQuarterResolution) {
+		return useQuarterResolution ? "quarter" : "full";
+	}
+
+	/**
+	 * One line for the overall numbers and one line for each request type
+	 * that was used at least once.
+	 */
+	public List<String> createSummary() {
+		List<String> result = new ArrayList<>();
+		result.add(
+				String.format(
+						"Calls: %d, Cells/s: %.0f, Wait: %d ms",
+						getNumberOfCalls(),
+						getCellsPerSecond(),
+						getWaitMillis()));
+		forEachHistogram((name, histogram) -> {
+			if (histogram.getCount() > 0) {
+				result.add(
+						String.format(
+								"%s: %d calls, mean %.2f ms, p50 %.2f ms, p99 %.2f ms",
+								name,
+								histogram.getCount(),
+								histogram.getMeanMillis(),
+								histogram.getPercentileMillis(0.5),
+								histogram.getPercentileMillis(0.99)));
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public synchronized void reset() {
+		forEachHistogram((name, histogram) -> histogram.reset());
+		numberOfCells.reset();
+		waitMillis.reset();
+		cellsPerSecondTimestamp = System.nanoTime();
+		cellsPerSecondNumberOfCells = 0;
+		cellsPerSecond = 0;
+	}
+}
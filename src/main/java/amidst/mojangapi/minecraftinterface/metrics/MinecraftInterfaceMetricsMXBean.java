@@ -0,0 +1,36 @@
+package amidst.mojangapi.minecraftinterface.metrics;
+
+import java.util.Map;
+
+/**
+ * The metrics of the minecraft interfaces as seen by JMX tools like
+ * jconsole. The keys of the maps consist of the resolution and the
+ * {@link RequestArea}, e.g. "quarter/small".
+ */
+public interface MinecraftInterfaceMetricsMXBean {
+	long getNumberOfCalls();
+
+	long getNumberOfCells();
+
+	double getCellsPerSecond();
+
+	long getWaitMillis();
+
+	/**
+	 * True, if the wait time is currently measured, because it was requested
+	 * via JMX or by the debug widget.
+	 */
+	boolean isWaitMeasured();
+
+	void setWaitMeasured(boolean isWaitMeasured);
+
+	Map<String, Long> getCallsByRequest();
+
+	Map<String, Double> getMeanLatencyMillisByRequest();
+
+	Map<String, Double> getMedianLatencyMillisByRequest();
+
+	Map<String, Double> get99thPercentileLatencyMillisByRequest();
+
+	void reset();
+}
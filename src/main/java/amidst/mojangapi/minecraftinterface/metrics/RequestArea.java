@@ -0,0 +1,38 @@
+package amidst.mojangapi.minecraftinterface.metrics;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Groups biome data requests by the number of requested cells. A single
+ * structure check requests a few cells, a cache tile requests a few
+ * thousand.
+ */
+@Immutable
+public enum RequestArea {
+	// @formatter:off
+	SMALL ("small",  256),
+	MEDIUM("medium", 4096),
+	LARGE ("large",  Integer.MAX_VALUE);
+	// @formatter:on
+
+	public static RequestArea from(int numberOfCells) {
+		for (RequestArea area : values()) {
+			if (numberOfCells <= area.maxNumberOfCells) {
+				return area;
+			}
+		}
+		return LARGE;
+	}
+
+	private final String name;
+	private final int maxNumberOfCells;
+
+	private RequestArea(String name, int maxNumberOfCells) {
+		this.name = name;
+		this.maxNumberOfCells = maxNumberOfCells;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
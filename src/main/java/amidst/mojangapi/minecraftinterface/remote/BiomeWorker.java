@@ -0,0 +1,136 @@
+package amidst.mojangapi.minecraftinterface.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.file.MinecraftInstallation;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.local.DefaultClassTranslator;
+import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterfaceCreationException;
+import amidst.mojangapi.world.WorldType;
+import amidst.parsing.FormatException;
+
+/**
+ * Answers the requests of a {@link RemoteMinecraftInterface} by passing them
+ * to a minecraft interface. Usually, this runs in a separate process that is
+ * started by the {@link BiomeWorkerProcessLauncher}. The requests are answered
+ * one after another. The worker terminates when the connection is closed.
+ */
+@NotThreadSafe
+public class BiomeWorker {
+	/**
+	 * Expects the port, the token, the '.minecraft' directory, the jar file
+	 * and the json file of the Minecraft version.
+	 */
+	public static void main(String[] args) {
+		try {
+			int port = Integer.parseInt(args[0]);
+			long token = Long.parseLong(args[1]);
+			LauncherProfile launcherProfile = MinecraftInstallation
+					.newLocalMinecraftInstallation(args[2])
+					.newLauncherProfile(new File(args[3]), new File(args[4]));
+			MinecraftInterface minecraftInterface = LocalMinecraftInterface
+					.create(DefaultClassTranslator.INSTANCE.get(), launcherProfile);
+			try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+				new BiomeWorker(minecraftInterface, socket, token).run();
+			}
+			System.exit(0);
+		} catch (
+				FormatException
+				| IOException
+				| LocalMinecraftInterfaceCreationException
+				| RuntimeException e) {
+			AmidstLogger.crash(e, "biome worker terminated unexpectedly");
+			System.exit(1);
+		}
+	}
+
+	private final MinecraftInterface minecraftInterface;
+	private final long token;
+	private final DataInputStream in;
+	private final DataOutputStream out;
+
+	public BiomeWorker(MinecraftInterface minecraftInterface, Socket socket, long token) throws IOException {
+		this.minecraftInterface = minecraftInterface;
+		this.token = token;
+		socket.setTcpNoDelay(true);
+		this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+	}
+
+	public void run() throws IOException {
+		out.writeInt(BiomeWorkerProtocol.MAGIC_NUMBER);
+		out.writeLong(token);
+		out.writeUTF(minecraftInterface.getRecognisedVersion().name());
+		out.flush();
+		while (processRequest()) {
+			// The output is only flushed when there are no pipelined requests
+			// left, so several responses can be sent at once.
+			if (in.available() == 0) {
+				out.flush();
+			}
+		}
+		out.flush();
+	}
+
+	private boolean processRequest() throws IOException {
+		int requestId;
+		try {
+			requestId = in.readInt();
+		} catch (EOFException e) {
+			return false;
+		}
+		byte requestType = in.readByte();
+		if (requestType == BiomeWorkerProtocol.REQUEST_CREATE_WORLD) {
+			createWorld(requestId, in.readLong(), WorldType.valueOf(in.readUTF()), in.readUTF());
+		} else if (requestType == BiomeWorkerProtocol.REQUEST_GET_BIOME_DATA) {
+			getBiomeData(requestId, in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readBoolean());
+		} else {
+			throw new IOException("unknown request type: " + requestType);
+		}
+		return true;
+	}
+
+	private void createWorld(int requestId, long seed, WorldType worldType, String generatorOptions)
+			throws IOException {
+		try {
+			minecraftInterface.createWorld(seed, worldType, generatorOptions);
+			out.writeInt(requestId);
+			out.writeByte(BiomeWorkerProtocol.STATUS_OK);
+			BiomeWorkerProtocol.writeEmptyBiomeData(out);
+		} catch (MinecraftInterfaceException | RuntimeException e) {
+			writeError(requestId, e);
+		}
+	}
+
+	private void getBiomeData(int requestId, int x, int y, int width, int height, boolean useQuarterResolution)
+			throws IOException {
+		try {
+			int[] biomeData = minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+			out.writeInt(requestId);
+			out.writeByte(BiomeWorkerProtocol.STATUS_OK);
+			BiomeWorkerProtocol.writeBiomeData(out, biomeData, width * height);
+		} catch (MinecraftInterfaceException | RuntimeException e) {
+			writeError(requestId, e);
+		}
+	}
+
+	private void writeError(int requestId, Exception e) throws IOException {
+		AmidstLogger.warn(e, "biome worker is unable to answer request " + requestId);
+		out.writeInt(requestId);
+		out.writeByte(BiomeWorkerProtocol.STATUS_ERROR);
+		out.writeUTF(String.valueOf(e.getMessage()));
+	}
+}
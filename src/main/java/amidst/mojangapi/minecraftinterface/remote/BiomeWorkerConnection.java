@@ -0,0 +1,191 @@
+package amidst.mojangapi.minecraftinterface.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * The connection to a single {@link BiomeWorker}. Requests can be sent from
+ * any thread. The responses are read by a separate thread, which completes
+ * the future of the corresponding request. When the worker terminates, all
+ * pending requests fail with an {@link IOException}. Errors that are reported
+ * by the worker cause a {@link MinecraftInterfaceException}.
+ */
+@ThreadSafe
+public class BiomeWorkerConnection {
+	public static BiomeWorkerConnection accept(ServerSocket serverSocket, long token) throws IOException {
+		Socket socket = serverSocket.accept();
+		try {
+			socket.setTcpNoDelay(true);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			if (in.readInt() != BiomeWorkerProtocol.MAGIC_NUMBER || in.readLong() != token) {
+				throw new IOException("unexpected connection from " + socket.getRemoteSocketAddress());
+			}
+			RecognisedVersion recognisedVersion = RecognisedVersion.valueOf(in.readUTF());
+			BiomeWorkerConnection result = new BiomeWorkerConnection(socket, in, out, recognisedVersion);
+			result.startReader();
+			return result;
+		} catch (IOException | IllegalArgumentException e) {
+			socket.close();
+			throw new IOException("unable to connect to biome worker", e);
+		}
+	}
+
+	private final Socket socket;
+	private final DataInputStream in;
+	private final DataOutputStream out;
+	private final RecognisedVersion recognisedVersion;
+	private final Map<Integer, CompletableFuture<int[]>> pendingRequests = new ConcurrentHashMap<>();
+	private int nextRequestId = 0;
+	private volatile boolean isClosed = false;
+
+	private BiomeWorkerConnection(
+			Socket socket,
+			DataInputStream in,
+			DataOutputStream out,
+			RecognisedVersion recognisedVersion) {
+		this.socket = socket;
+		this.in = in;
+		this.out = out;
+		this.recognisedVersion = recognisedVersion;
+	}
+
+	private void startReader() {
+		Thread thread = new Thread(this::readResponses, "biome-worker-reader");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void readResponses() {
+		try {
+			while (true) {
+				int requestId = in.readInt();
+				byte status = in.readByte();
+				CompletableFuture<int[]> future = pendingRequests.remove(requestId);
+				if (future == null) {
+					throw new IOException("unexpected response for request " + requestId);
+				} else if (status == BiomeWorkerProtocol.STATUS_OK) {
+					future.complete(BiomeWorkerProtocol.readBiomeData(in));
+				} else {
+					future.completeExceptionally(new MinecraftInterfaceException(in.readUTF()));
+				}
+			}
+		} catch (IOException e) {
+			if (!isClosed) {
+				AmidstLogger.warn(e, "lost connection to biome worker");
+			}
+		} finally {
+			close();
+		}
+	}
+
+	public CompletableFuture<int[]> createWorld(long seed, WorldType worldType, String generatorOptions) {
+		return send(out -> {
+			out.writeByte(BiomeWorkerProtocol.REQUEST_CREATE_WORLD);
+			out.writeLong(seed);
+			out.writeUTF(worldType.name());
+			out.writeUTF(generatorOptions);
+		}, true);
+	}
+
+	/**
+	 * If flush is false, the request is only sent after the next call to
+	 * {@link #flush()} or to a method that sends a request with flush = true.
+	 * This allows to send several requests at once.
+	 */
+	public CompletableFuture<int[]> getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			boolean flush) {
+		return send(out -> {
+			out.writeByte(BiomeWorkerProtocol.REQUEST_GET_BIOME_DATA);
+			out.writeInt(x);
+			out.writeInt(y);
+			out.writeInt(width);
+			out.writeInt(height);
+			out.writeBoolean(useQuarterResolution);
+		}, flush);
+	}
+
+	@FunctionalInterface
+	private static interface RequestWriter {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private synchronized CompletableFuture<int[]> send(RequestWriter requestWriter, boolean flush) {
+		CompletableFuture<int[]> result = new CompletableFuture<>();
+		int requestId = nextRequestId++;
+		pendingRequests.put(requestId, result);
+		try {
+			if (isClosed) {
+				throw new IOException("the biome worker has terminated");
+			}
+			out.writeInt(requestId);
+			requestWriter.write(out);
+			if (flush) {
+				out.flush();
+			}
+		} catch (IOException e) {
+			pendingRequests.remove(requestId);
+			result.completeExceptionally(e);
+			close();
+		}
+		return result;
+	}
+
+	public synchronized void flush() {
+		try {
+			out.flush();
+		} catch (IOException e) {
+			close();
+		}
+	}
+
+	public int getNumberOfPendingRequests() {
+		return pendingRequests.size();
+	}
+
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+
+	public boolean isClosed() {
+		return isClosed;
+	}
+
+	/**
+	 * The worker terminates, when the connection is closed.
+	 */
+	public void close() {
+		isClosed = true;
+		try {
+			socket.close();
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "unable to close connection to biome worker");
+		}
+		IOException exception = new IOException("the biome worker has terminated");
+		for (Integer requestId : pendingRequests.keySet()) {
+			CompletableFuture<int[]> future = pendingRequests.remove(requestId);
+			if (future != null) {
+				future.completeExceptionally(exception);
+			}
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package amidst.mojangapi.minecraftinterface.remote;
+
+import java.io.IOException;
+
+import amidst.documentation.ThreadSafe;
+
+/**
+ * Starts a {@link BiomeWorker} that connects to the given port on the
+ * loopback address and identifies itself with the given token.
+ */
+@ThreadSafe
+@FunctionalInterface
+public interface BiomeWorkerLauncher {
+	void launch(int port, long token) throws IOException;
+
+	/**
+	 * Terminates all workers that were started by this launcher and releases
+	 * the resources that are held by it.
+	 */
+	default void close() {
+	}
+}
@@ -0,0 +1,65 @@
+package amidst.mojangapi.minecraftinterface.remote;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.file.LauncherProfile;
+
+/**
+ * Starts each {@link BiomeWorker} in a separate Java process with the same
+ * class path as this process. The processes are destroyed when the launcher
+ * is closed or when this process terminates. However, the workers terminate
+ * on their own as soon as the connection is closed. Processes that have exited
+ * are forgotten when the next worker is launched.
+ */
+@ThreadSafe
+public class BiomeWorkerProcessLauncher implements BiomeWorkerLauncher {
+	private final LauncherProfile launcherProfile;
+	private final List<Process> processes = new CopyOnWriteArrayList<>();
+	private final Thread shutdownHook = new Thread(this::destroyAll);
+
+	public BiomeWorkerProcessLauncher(LauncherProfile launcherProfile) {
+		this.launcherProfile = launcherProfile;
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	@Override
+	public void launch(int port, long token) throws IOException {
+		ProcessBuilder processBuilder = new ProcessBuilder(
+				getJavaExecutable(),
+				"-cp",
+				System.getProperty("java.class.path"),
+				BiomeWorker.class.getName(),
+				Integer.toString(port),
+				Long.toString(token),
+				launcherProfile.getDotMinecraftDirectory().getRoot().getAbsolutePath(),
+				launcherProfile.getJar().getAbsolutePath(),
+				launcherProfile.getJson().getAbsolutePath());
+		processes.removeIf(process -> !process.isAlive());
+		processes.add(processBuilder.inheritIO().start());
+	}
+
+	private String getJavaExecutable() {
+		return new File(new File(System.getProperty("java.home"), "bin"), "java").getAbsolutePath();
+	}
+
+	@Override
+	public void close() {
+		destroyAll();
+		processes.clear();
+		try {
+			Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		} catch (IllegalStateException e) {
+			// this process is already terminating, so the hook runs anyway
+		}
+	}
+
+	private void destroyAll() {
+		for (Process process : processes) {
+			process.destroy();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package amidst.mojangapi.minecraftinterface.remote;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import amidst.documentation.Immutable;
+
+/**
+ * The binary protocol between the {@link RemoteMinecraftInterface} and the
+ * {@link BiomeWorker} processes.
+ * 
+ * After the worker has connected, it sends the magic number, the token it
+ * was started with and the name of the recognised version. Afterwards, the
+ * parent sends requests and the worker answers them in the same order. The
+ * parent does not need to wait for the response before sending the next
+ * request.
+ * 
+ * A request consists of the request id, the request type and the parameters
+ * of the request. A response consists of the request id, the status and
+ * either the biome data or an error message. The response to a request to
+ * create a world contains empty biome data. Biome data is sent as one byte
+ * per biome, if possible.
+ */
+@Immutable
+public enum BiomeWorkerProtocol {
+	;
+
+	public static final int MAGIC_NUMBER = 0x414D4257;
+
+	public static final byte REQUEST_CREATE_WORLD = 1;
+	public static final byte REQUEST_GET_BIOME_DATA = 2;
+
+	public static final byte STATUS_OK = 0;
+	public static final byte STATUS_ERROR = 1;
+
+	private static final byte ENCODING_BYTES = 0;
+	private static final byte ENCODING_INTS = 1;
+
+	private static final int[] EMPTY_BIOME_DATA = new int[0];
+
+	public static void writeBiomeData(DataOutputStream out, int[] biomeData, int length) throws IOException {
+		if (canEncodeAsBytes(biomeData, length)) {
+			byte[] bytes = new byte[length];
+			for (int i = 0; i < length; i++) {
+				bytes[i] = (byte) biomeData[i];
+			}
+			out.writeByte(ENCODING_BYTES);
+			out.writeInt(length);
+			out.write(bytes);
+		} else {
+			out.writeByte(ENCODING_INTS);
+			out.writeInt(length);
+			for (int i = 0; i < length; i++) {
+				out.writeInt(biomeData[i]);
+			}
+		}
+	}
+
+	private static boolean canEncodeAsBytes(int[] biomeData, int length) {
+		for (int i = 0; i < length; i++) {
+			if ((biomeData[i] & ~0xFF) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public static void writeEmptyBiomeData(DataOutputStream out) throws IOException {
+		writeBiomeData(out, EMPTY_BIOME_DATA, 0);
+	}
+
+	public static int[] readBiomeData(DataInputStream in) throws IOException {
+		byte encoding = in.readByte();
+		int length = in.readInt();
+		int[] result = new int[length];
+		if (encoding == ENCODING_BYTES) {
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			for (int i = 0; i < length; i++) {
+				result[i] = bytes[i] & 0xFF;
+			}
+		} else if (encoding == ENCODING_INTS) {
+			for (int i = 0; i < length; i++) {
+				result[i] = in.readInt();
+			}
+		} else {
+			throw new IOException("unknown biome data encoding: " + encoding);
+		}
+		return result;
+	}
+}
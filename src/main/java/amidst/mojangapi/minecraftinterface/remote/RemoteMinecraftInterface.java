@@ -0,0 +1,312 @@
+package amidst.mojangapi.minecraftinterface.remote;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterfaceCreationException;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Generates the biome data in several {@link BiomeWorker} processes, so the
+ * biome data can be generated in parallel and a crash of the Minecraft code
+ * does not affect this process. Each request is sent to the worker with the
+ * fewest pending requests. The requests of a batch are sent without waiting
+ * for the responses. When a worker terminates, its pending requests are sent
+ * to the remaining workers and a new worker is started in the background to
+ * replace it. The new worker creates the current world before it receives any
+ * requests. To avoid an endless loop of crashing workers, each worker is only
+ * replaced a limited number of times on average. A worker that does not answer
+ * a request in time is treated like a terminated worker, so a hanging worker
+ * cannot block the calling thread forever.
+ */
+@ThreadSafe
+public class RemoteMinecraftInterface implements MinecraftInterface {
+	public static RemoteMinecraftInterface start(LauncherProfile launcherProfile, int numberOfWorkers)
+			throws LocalMinecraftInterfaceCreationException {
+		BiomeWorkerProcessLauncher launcher = new BiomeWorkerProcessLauncher(launcherProfile);
+		try {
+			return start(launcher, numberOfWorkers);
+		} catch (IOException e) {
+			launcher.close();
+			throw new LocalMinecraftInterfaceCreationException("unable to start the biome workers", e);
+		}
+	}
+
+	public static RemoteMinecraftInterface start(BiomeWorkerLauncher launcher, int numberOfWorkers)
+			throws IOException {
+		return start(launcher, numberOfWorkers, RESPONSE_TIMEOUT_IN_MILLISECONDS);
+	}
+
+	public static RemoteMinecraftInterface start(
+			BiomeWorkerLauncher launcher,
+			int numberOfWorkers,
+			long responseTimeoutInMillis) throws IOException {
+		List<BiomeWorkerConnection> connections = launchWorkers(launcher, numberOfWorkers);
+		AmidstLogger.info("started " + numberOfWorkers + " biome workers");
+		return new RemoteMinecraftInterface(launcher, connections, responseTimeoutInMillis);
+	}
+
+	private static List<BiomeWorkerConnection> launchWorkers(BiomeWorkerLauncher launcher, int numberOfWorkers)
+			throws IOException {
+		long token = new SecureRandom().nextLong();
+		List<BiomeWorkerConnection> connections = new ArrayList<>(numberOfWorkers);
+		try (ServerSocket serverSocket = new ServerSocket(0, numberOfWorkers, InetAddress.getLoopbackAddress())) {
+			serverSocket.setSoTimeout(CONNECT_TIMEOUT_IN_MILLISECONDS);
+			for (int i = 0; i < numberOfWorkers; i++) {
+				launcher.launch(serverSocket.getLocalPort(), token);
+			}
+			for (int i = 0; i < numberOfWorkers; i++) {
+				connections.add(BiomeWorkerConnection.accept(serverSocket, token));
+			}
+			return connections;
+		} catch (IOException e) {
+			for (BiomeWorkerConnection connection : connections) {
+				connection.close();
+			}
+			throw e;
+		}
+	}
+
+	private static final int CONNECT_TIMEOUT_IN_MILLISECONDS = 60000;
+	private static final long RESPONSE_TIMEOUT_IN_MILLISECONDS = 60000;
+	private static final int MAX_RESTARTS_PER_WORKER = 3;
+
+	private final BiomeWorkerLauncher launcher;
+	private final List<BiomeWorkerConnection> connections;
+	private final RecognisedVersion recognisedVersion;
+	private final AtomicInteger nextConnection = new AtomicInteger();
+	private final Set<BiomeWorkerConnection> replacedConnections = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger remainingRestarts;
+	private final long responseTimeoutInMillis;
+	private long seed;
+	private WorldType worldType;
+	private String generatorOptions;
+	private boolean isClosed = false;
+
+	public RemoteMinecraftInterface(BiomeWorkerLauncher launcher, List<BiomeWorkerConnection> connections) {
+		this(launcher, connections, RESPONSE_TIMEOUT_IN_MILLISECONDS);
+	}
+
+	public RemoteMinecraftInterface(
+			BiomeWorkerLauncher launcher,
+			List<BiomeWorkerConnection> connections,
+			long responseTimeoutInMillis) {
+		if (connections.isEmpty()) {
+			throw new IllegalArgumentException("at least one biome worker is needed");
+		}
+		this.launcher = launcher;
+		this.connections = new CopyOnWriteArrayList<>(connections);
+		this.recognisedVersion = connections.get(0).getRecognisedVersion();
+		this.remainingRestarts = new AtomicInteger(connections.size() * MAX_RESTARTS_PER_WORKER);
+		this.responseTimeoutInMillis = responseTimeoutInMillis;
+	}
+
+	public int getNumberOfRunningWorkers() {
+		int result = 0;
+		for (BiomeWorkerConnection connection : connections) {
+			if (!connection.isClosed()) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		while (true) {
+			BiomeWorkerConnection connection = selectConnection();
+			try {
+				return await(connection, connection.getBiomeData(x, y, width, height, useQuarterResolution, true));
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "biome worker terminated, retrying the request");
+			}
+		}
+	}
+
+	@Override
+	public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		List<BiomeWorkerConnection> selectedConnections = new ArrayList<>(requests.size());
+		List<CompletableFuture<int[]>> futures = new ArrayList<>(requests.size());
+		for (BiomeDataRequest request : requests) {
+			BiomeWorkerConnection connection = selectConnection();
+			selectedConnections.add(connection);
+			futures.add(
+					connection.getBiomeData(
+							request.getX(),
+							request.getY(),
+							request.getWidth(),
+							request.getHeight(),
+							useQuarterResolution,
+							false));
+		}
+		for (BiomeWorkerConnection connection : connections) {
+			connection.flush();
+		}
+		List<int[]> result = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			try {
+				result.add(await(selectedConnections.get(i), futures.get(i)));
+			} catch (IOException e) {
+				BiomeDataRequest request = requests.get(i);
+				result.add(
+						getBiomeData(
+								request.getX(),
+								request.getY(),
+								request.getWidth(),
+								request.getHeight(),
+								useQuarterResolution));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Workers that terminate while creating the world are ignored.
+	 */
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		this.seed = seed;
+		this.worldType = worldType;
+		this.generatorOptions = generatorOptions;
+		List<BiomeWorkerConnection> runningConnections = new ArrayList<>(connections.size());
+		List<CompletableFuture<int[]>> futures = new ArrayList<>(connections.size());
+		for (int i = 0; i < connections.size(); i++) {
+			BiomeWorkerConnection connection = connections.get(i);
+			if (!connection.isClosed()) {
+				runningConnections.add(connection);
+				futures.add(connection.createWorld(seed, worldType, generatorOptions));
+			} else {
+				replaceInBackground(i, connection);
+			}
+		}
+		for (int i = 0; i < futures.size(); i++) {
+			try {
+				await(runningConnections.get(i), futures.get(i));
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "biome worker terminated while creating the world");
+			}
+		}
+		if (getNumberOfRunningWorkers() == 0) {
+			throw new MinecraftInterfaceException("all biome workers have terminated");
+		}
+	}
+
+	private BiomeWorkerConnection selectConnection() throws MinecraftInterfaceException {
+		int size = connections.size();
+		int start = Math.floorMod(nextConnection.getAndIncrement(), size);
+		BiomeWorkerConnection result = null;
+		for (int i = 0; i < size; i++) {
+			int index = (start + i) % size;
+			BiomeWorkerConnection connection = connections.get(index);
+			if (connection.isClosed()) {
+				replaceInBackground(index, connection);
+			} else if (result == null
+					|| connection.getNumberOfPendingRequests() < result.getNumberOfPendingRequests()) {
+				result = connection;
+			}
+		}
+		if (result == null) {
+			throw new MinecraftInterfaceException("all biome workers have terminated");
+		}
+		return result;
+	}
+
+	private void replaceInBackground(int index, BiomeWorkerConnection connection) {
+		if (replacedConnections.add(connection) && remainingRestarts.getAndDecrement() > 0) {
+			Thread thread = new Thread(() -> replace(index));
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	private void replace(int index) {
+		BiomeWorkerConnection connection = null;
+		try {
+			connection = launchWorkers(launcher, 1).get(0);
+			synchronized (this) {
+				if (!isClosed) {
+					if (worldType != null) {
+						await(connection, connection.createWorld(seed, worldType, generatorOptions));
+					}
+					connections.set(index, connection);
+					AmidstLogger.info("replaced a terminated biome worker");
+					return;
+				}
+			}
+		} catch (IOException | MinecraftInterfaceException e) {
+			AmidstLogger.warn(e, "unable to replace a terminated biome worker");
+		}
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	/**
+	 * If the worker does not answer in time, the connection is closed. This
+	 * fails all pending requests of the worker, so they are sent to the
+	 * remaining workers, and the worker is replaced.
+	 */
+	private int[] await(BiomeWorkerConnection connection, CompletableFuture<int[]> future)
+			throws IOException,
+			MinecraftInterfaceException {
+		try {
+			return future.get(responseTimeoutInMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			connection.close();
+			throw new IOException("the biome worker did not answer within " + responseTimeoutInMillis + " ms", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MinecraftInterfaceException("interrupted while waiting for a biome worker", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof MinecraftInterfaceException) {
+				throw new MinecraftInterfaceException("biome worker is unable to answer the request", cause);
+			} else {
+				throw new MinecraftInterfaceException("unexpected error in biome worker connection", cause);
+			}
+		}
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+
+	/**
+	 * Terminates all workers and closes the launcher. Workers that are
+	 * started afterwards to replace a terminated worker are terminated
+	 * immediately.
+	 */
+	@Override
+	public synchronized void close() {
+		isClosed = true;
+		for (BiomeWorkerConnection connection : connections) {
+			connection.close();
+		}
+		launcher.close();
+	}
+}
@@ -0,0 +1,56 @@
+package amidst.mojangapi.world.biome;
+
+import java.util.Arrays;
+
+import amidst.documentation.Immutable;
+
+/**
+ * A set of biomes that can be tested with the raw biome index that is returned
+ * by the minecraft interface. Every biome index is represented by one bit of a
+ * 256 bit mask, so no biome lookup is needed and unknown biome indexes are
+ * simply not contained.
+ */
+@Immutable
+public class BiomeSet {
+	private static final int NUMBER_OF_WORDS = 4;
+
+	public static BiomeSet of(Biome... biomes) {
+		return from(Arrays.asList(biomes));
+	}
+
+	public static BiomeSet from(Iterable<Biome> biomes) {
+		long[] words = new long[NUMBER_OF_WORDS];
+		for (Biome biome : biomes) {
+			int index = biome.getIndex();
+			words[index >> 6] |= 1L << index;
+		}
+		return new BiomeSet(words);
+	}
+
+	private final long[] words;
+
+	private BiomeSet(long[] words) {
+		this.words = words;
+	}
+
+	public boolean contains(int biomeIndex) {
+		return (biomeIndex & ~0xFF) == 0 && (words[biomeIndex >> 6] & 1L << biomeIndex) != 0;
+	}
+
+	public boolean contains(Biome biome) {
+		return contains(biome.getIndex());
+	}
+
+	/**
+	 * Only the first length entries of the biome data are checked, because the
+	 * array might be longer than the requested area.
+	 */
+	public boolean containsAll(int[] biomeData, int length) {
+		for (int i = 0; i < length; i++) {
+			if (!contains(biomeData[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -19,4 +19,26 @@ public class AllValidLocationChecker implements LocationChecker {
 		}
 		return true;
 	}
+
+	/**
+	 * A location is only valid if it is valid for all checkers, so the
+	 * candidates of the first checker are sufficient.
+	 */
+	@Override
+	public int candidatesIn(int left, int top, int width, int height, int[] x, int[] y) {
+		if (checkers.length == 0) {
+			return LocationChecker.super.candidatesIn(left, top, width, height, x, y);
+		} else {
+			return checkers[0].candidatesIn(left, top, width, height, x, y);
+		}
+	}
+
+	@Override
+	public int retainValidLocations(int[] x, int[] y, int count) {
+		int result = count;
+		for (LocationChecker checker : checkers) {
+			result = checker.retainValidLocations(x, y, result);
+		}
+		return result;
+	}
 }
@@ -1,17 +1,15 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
 public class BiomeLocationChecker implements LocationChecker {
 	private final BiomeDataOracle biomeDataOracle;
-	private final List<Biome> validBiomes;
+	private final BiomeSet validBiomes;
 
-	public BiomeLocationChecker(BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public BiomeLocationChecker(BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		this.biomeDataOracle = biomeDataOracle;
 		this.validBiomes = validBiomes;
 	}
@@ -20,4 +18,13 @@ public class BiomeLocationChecker implements LocationChecker {
 	public boolean isValidLocation(int x, int y) {
 		return biomeDataOracle.isValidBiomeAtMiddleOfChunk(x, y, validBiomes);
 	}
+
+	@Override
+	public int retainValidLocations(int[] x, int[] y, int count) {
+		return LocationChecker.retainValidLocations(
+				x,
+				y,
+				count,
+				biomeDataOracle.isValidBiomeAtMiddleOfChunk(x, y, count, validBiomes));
+	}
 }
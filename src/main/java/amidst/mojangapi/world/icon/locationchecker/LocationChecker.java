@@ -5,4 +5,55 @@ import amidst.documentation.ThreadSafe;
 @ThreadSafe
 public interface LocationChecker {
 	boolean isValidLocation(int x, int y);
+
+	/**
+	 * Stores the locations of the given area that might be valid in the
+	 * arrays and returns their number. The arrays must be large enough to
+	 * hold all locations of the area. The candidates still need to be checked
+	 * with {@link #retainValidLocations(int[], int[], int)}. By default, all
+	 * locations of the area are candidates. Checkers that can place at most a
+	 * few structures in an area should override this, so the other locations
+	 * do not need to be checked at all.
+	 */
+	default int candidatesIn(int left, int top, int width, int height, int[] x, int[] y) {
+		int result = 0;
+		for (int xInArea = 0; xInArea < width; xInArea++) {
+			for (int yInArea = 0; yInArea < height; yInArea++) {
+				x[result] = left + xInArea;
+				y[result] = top + yInArea;
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks the first count locations at once. The valid locations are moved
+	 * to the beginning of the arrays, keeping their order. Returns the number
+	 * of valid locations. Checkers that need biome data should override this,
+	 * so the biome data of all locations can be requested with a single batch.
+	 */
+	default int retainValidLocations(int[] x, int[] y, int count) {
+		int result = 0;
+		for (int i = 0; i < count; i++) {
+			if (isValidLocation(x[i], y[i])) {
+				x[result] = x[i];
+				y[result] = y[i];
+				result++;
+			}
+		}
+		return result;
+	}
+
+	static int retainValidLocations(int[] x, int[] y, int count, boolean[] isValid) {
+		int result = 0;
+		for (int i = 0; i < count; i++) {
+			if (isValid[i]) {
+				x[result] = x[i];
+				y[result] = y[i];
+				result++;
+			}
+		}
+		return result;
+	}
 }
@@ -1,8 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
+import amidst.mojangapi.world.oracle.JavaRandom;
 
 @Immutable
 public abstract class MineshaftAlgorithm_Base implements LocationChecker {
@@ -14,7 +13,7 @@ public abstract class MineshaftAlgorithm_Base implements LocationChecker {
 
 	@Override
 	public boolean isValidLocation(int chunkX, int chunkY) {
-		Random random = new Random(seed);
+		JavaRandom random = new JavaRandom(seed);
 
 		long var13 = (long) chunkX * random.nextLong();
 		long var15 = (long) chunkY * random.nextLong();
@@ -25,5 +24,5 @@ public abstract class MineshaftAlgorithm_Base implements LocationChecker {
 		return getResult(chunkX, chunkY, random) && random.nextInt(80) < Math.max(Math.abs(chunkX), Math.abs(chunkY));
 	}
 
-	protected abstract boolean getResult(int chunkX, int chunkY, Random random);
+	protected abstract boolean getResult(int chunkX, int chunkY, JavaRandom random);
 }
@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 /**
@@ -57,8 +55,8 @@ public class OceanMonumentLocationChecker_Fixed extends AllValidLocationChecker
 	public OceanMonumentLocationChecker_Fixed(
 			long seed,
 			BiomeDataOracle biomeDataOracle,
-			List<Biome> validBiomesAtMiddleOfChunk,
-			List<Biome> validBiomesForStructure) {
+			BiomeSet validBiomesAtMiddleOfChunk,
+			BiomeSet validBiomesForStructure) {
 		super(
 				new StructureAlgorithm(
 						seed,
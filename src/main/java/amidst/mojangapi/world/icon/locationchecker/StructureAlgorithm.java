@@ -1,9 +1,13 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
+import amidst.mojangapi.world.oracle.JavaRandom;
 
+/**
+ * The world is divided into square regions of maxDistanceBetweenScatteredFeatures
+ * chunks. Each region contains exactly one location that is valid for this
+ * algorithm.
+ */
 @Immutable
 public class StructureAlgorithm implements LocationChecker {
 	private final long seed;
@@ -36,12 +40,41 @@ public class StructureAlgorithm implements LocationChecker {
 	public boolean isValidLocation(int x, int y) {
 		int value1 = getInitialValue(x);
 		int value2 = getInitialValue(y);
-		Random random = new Random(getSeed(value1, value2));
+		JavaRandom random = new JavaRandom(getSeed(value1, value2));
 		value1 = updateValue(random, value1);
 		value2 = updateValue(random, value2);
 		return x == value1 && y == value2;
 	}
 
+	/**
+	 * Instead of checking each location of the area, this calculates the valid
+	 * location of each region that overlaps the area.
+	 */
+	@Override
+	public int candidatesIn(int left, int top, int width, int height, int[] x, int[] y) {
+		int right = left + width - 1;
+		int bottom = top + height - 1;
+		int firstRegionX = getInitialValue(left);
+		int lastRegionX = getInitialValue(right);
+		int firstRegionY = getInitialValue(top);
+		int lastRegionY = getInitialValue(bottom);
+		JavaRandom random = new JavaRandom(0);
+		int result = 0;
+		for (int regionX = firstRegionX; regionX <= lastRegionX; regionX++) {
+			for (int regionY = firstRegionY; regionY <= lastRegionY; regionY++) {
+				random.setSeed(getSeed(regionX, regionY));
+				int candidateX = updateValue(random, regionX);
+				int candidateY = updateValue(random, regionY);
+				if (candidateX >= left && candidateX <= right && candidateY >= top && candidateY <= bottom) {
+					x[result] = candidateX;
+					y[result] = candidateY;
+					result++;
+				}
+			}
+		}
+		return result;
+	}
+
 	private int getInitialValue(int coordinate) {
 		return getModified(coordinate) / maxDistanceBetweenScatteredFeatures;
 	}
@@ -63,7 +96,7 @@ public class StructureAlgorithm implements LocationChecker {
 		// @formatter:on
 	}
 
-	private int updateValue(Random random, int value) {
+	private int updateValue(JavaRandom random, int value) {
 		int result = value * maxDistanceBetweenScatteredFeatures;
 		if (useTwoValuesForUpdate) {
 			result += (random.nextInt(distanceBetweenScatteredFeaturesRange)
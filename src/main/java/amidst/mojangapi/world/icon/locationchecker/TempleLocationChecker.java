@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
@@ -15,7 +13,7 @@ public class TempleLocationChecker extends AllValidLocationChecker {
 	private static final byte MIN_DISTANCE_BETWEEN_SCATTERED_FEATURES = 8;
 	private static final boolean USE_TWO_VALUES_FOR_UPDATE = false;
 
-	public TempleLocationChecker(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomesAtMiddleOfChunk) {
+	public TempleLocationChecker(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomesAtMiddleOfChunk) {
 		super(
 				new StructureAlgorithm(
 						seed,
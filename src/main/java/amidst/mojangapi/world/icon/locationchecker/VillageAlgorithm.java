@@ -1,17 +1,22 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
 public class VillageAlgorithm implements LocationChecker {
+	private static final int WELL_SIZE = 6;
+	/**
+	 * See the comments in {@link #isValidLocation(int, int)}.
+	 */
+	private static final int ARBITRARY_CONSTANT = 2;
+	private static final int WELL_STRUCTURE_SIZE = (WELL_SIZE - 1) / 2 + ARBITRARY_CONSTANT;
+
 	private final BiomeDataOracle biomeDataOracle;
-	private final List<Biome> validBiomes;
+	private final BiomeSet validBiomes;
 
-	public VillageAlgorithm(BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public VillageAlgorithm(BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		this.biomeDataOracle = biomeDataOracle;
 		this.validBiomes = validBiomes;
 	}
@@ -43,16 +48,6 @@ public class VillageAlgorithm implements LocationChecker {
 		 */
 		// @formatter:on
 
-		// For some reason MapGenVillage.Start.Start() adds only 2 to the
-		// multiplied coord
-		int wellSize = 6;
-		int x1 = chunkX * 16 + 2;
-		int y1 = chunkY * 16 + 2;
-		int x2 = x1 + wellSize - 1;
-		int y2 = y1 + wellSize - 1;
-		int wellX = (x1 + x2) / 2;
-		int wellY = (y1 + y2) / 2;
-
 		// @formatter:off
 		/**
 		 * There's an arbitraryConstant of 4 in the Minecraft source that's added to bounding 
@@ -76,9 +71,6 @@ public class VillageAlgorithm implements LocationChecker {
 		 */
 		// @formatter:on
 
-		int arbitraryConstant = 2;
-		int wellStructureSize = (x2 - x1) / 2 + arbitraryConstant;
-
 		// @formatter:off
 		/**
 		 * Checking that the well is able to build eliminates most of the false positives, however
@@ -92,6 +84,33 @@ public class VillageAlgorithm implements LocationChecker {
 		 */
 		// @formatter:on
 
-		return biomeDataOracle.isValidBiomeForStructure(wellX, wellY, wellStructureSize, validBiomes);
+		return biomeDataOracle.isValidBiomeForStructure(
+				getWellCenter(chunkX),
+				getWellCenter(chunkY),
+				WELL_STRUCTURE_SIZE,
+				validBiomes);
+	}
+
+	@Override
+	public int retainValidLocations(int[] chunkX, int[] chunkY, int count) {
+		int[] wellX = new int[count];
+		int[] wellY = new int[count];
+		for (int i = 0; i < count; i++) {
+			wellX[i] = getWellCenter(chunkX[i]);
+			wellY[i] = getWellCenter(chunkY[i]);
+		}
+		return LocationChecker.retainValidLocations(
+				chunkX,
+				chunkY,
+				count,
+				biomeDataOracle.isValidBiomeForStructure(wellX, wellY, count, WELL_STRUCTURE_SIZE, validBiomes));
+	}
+
+	private static int getWellCenter(int chunkCoordinate) {
+		// For some reason MapGenVillage.Start.Start() adds only 2 to the
+		// multiplied coord
+		int start = chunkCoordinate * 16 + 2;
+		int end = start + WELL_SIZE - 1;
+		return (start + end) / 2;
 	}
 }
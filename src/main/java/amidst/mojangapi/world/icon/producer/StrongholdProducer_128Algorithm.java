@@ -1,11 +1,9 @@
 package amidst.mojangapi.world.icon.producer;
 
-import java.util.List;
-import java.util.Random;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
+import amidst.mojangapi.world.oracle.JavaRandom;
 
 /**
  * This is the fixed version of the 128 stronghold algorithm. It introduced in
@@ -15,7 +13,7 @@ import amidst.mojangapi.world.oracle.BiomeDataOracle;
  */
 @ThreadSafe
 public class StrongholdProducer_128Algorithm extends StrongholdProducer_Buggy128Algorithm {
-	public StrongholdProducer_128Algorithm(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public StrongholdProducer_128Algorithm(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		super(seed, biomeDataOracle, validBiomes);
 	}
 
@@ -25,7 +23,7 @@ public class StrongholdProducer_128Algorithm extends StrongholdProducer_Buggy128
 	}
 
 	@Override
-	protected double getNextValue_startAngle(double currentValue, Random random) {
+	protected double getNextValue_startAngle(double currentValue, JavaRandom random) {
 		// In this algorithm, the getInitialValue_startAngle() formula is used
 		// at the start of each new ring.
 		return currentValue + getInitialValue_startAngle(random);
@@ -37,7 +35,7 @@ public class StrongholdProducer_128Algorithm extends StrongholdProducer_Buggy128
 	}
 
 	@Override
-	protected double getNextValue_distance(int currentRing, Random random) {
+	protected double getNextValue_distance(int currentRing, JavaRandom random) {
 		return (4.0 * DISTANCE_IN_CHUNKS) + (6.0 * currentRing * DISTANCE_IN_CHUNKS)
 				+ (random.nextDouble() - 0.5) * (DISTANCE_IN_CHUNKS * 2.5);
 	}
@@ -47,7 +45,7 @@ public class StrongholdProducer_128Algorithm extends StrongholdProducer_Buggy128
 			int currentValue,
 			int currentRing,
 			int structuresRemaining,
-			Random random) {
+			JavaRandom random) {
 		int result = currentValue + 2 * currentValue / (currentRing + 1);
 		result = Math.min(result, structuresRemaining);
 		return result;
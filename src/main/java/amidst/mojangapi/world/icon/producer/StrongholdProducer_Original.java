@@ -1,14 +1,12 @@
 package amidst.mojangapi.world.icon.producer;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
 public class StrongholdProducer_Original extends StrongholdProducer_Base {
-	public StrongholdProducer_Original(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public StrongholdProducer_Original(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		super(seed, biomeDataOracle, validBiomes);
 	}
 }
@@ -37,12 +37,21 @@ public class StructureProducer<T> extends WorldIconProducer<T> {
 		this.displayDimension = displayDimension;
 	}
 
+	/**
+	 * Only the candidates of the location checker are checked. They are
+	 * checked at once, so the location checker can request the biome data of
+	 * all candidates with a single batch.
+	 */
 	@Override
 	public void produce(CoordinatesInWorld corner, Consumer<WorldIcon> consumer, T additionalData) {
-		for (int xRelativeToFragment = 0; xRelativeToFragment < size; xRelativeToFragment++) {
-			for (int yRelativeToFragment = 0; yRelativeToFragment < size; yRelativeToFragment++) {
-				generateAt(corner, consumer, additionalData, xRelativeToFragment, yRelativeToFragment);
-			}
+		int left = (int) corner.getXAs(resolution);
+		int top = (int) corner.getYAs(resolution);
+		int[] x = new int[size * size];
+		int[] y = new int[size * size];
+		int count = checker.candidatesIn(left, top, size, size, x, y);
+		int numberOfValidLocations = checker.retainValidLocations(x, y, count);
+		for (int i = 0; i < numberOfValidLocations; i++) {
+			generateAt(corner, consumer, additionalData, x[i], y[i], x[i] - left, y[i] - top);
 		}
 	}
 
@@ -51,22 +60,20 @@ public class StructureProducer<T> extends WorldIconProducer<T> {
 			CoordinatesInWorld corner,
 			Consumer<WorldIcon> consumer,
 			T additionalData,
+			int x,
+			int y,
 			int xRelativeToFragment,
 			int yRelativeToFragment) {
-		int x = xRelativeToFragment + (int) corner.getXAs(resolution);
-		int y = yRelativeToFragment + (int) corner.getYAs(resolution);
-		if (checker.isValidLocation(x, y)) {
-			DefaultWorldIconTypes worldIconType = provider.get(x, y, additionalData);
-			if (worldIconType != null) {
-				CoordinatesInWorld coordinates = createCoordinates(corner, xRelativeToFragment, yRelativeToFragment);
-				consumer.accept(
-						new WorldIcon(
-								coordinates,
-								worldIconType.getLabel(),
-								worldIconType.getImage(),
-								dimension,
-								displayDimension));
-			}
+		DefaultWorldIconTypes worldIconType = provider.get(x, y, additionalData);
+		if (worldIconType != null) {
+			CoordinatesInWorld coordinates = createCoordinates(corner, xRelativeToFragment, yRelativeToFragment);
+			consumer.accept(
+					new WorldIcon(
+							coordinates,
+							worldIconType.getLabel(),
+							worldIconType.getImage(),
+							dimension,
+							displayDimension));
 		}
 	}
 
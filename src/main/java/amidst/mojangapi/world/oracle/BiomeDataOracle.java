@@ -1,14 +1,18 @@
 package amidst.mojangapi.world.oracle;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import amidst.documentation.ThreadSafe;
 import amidst.logging.AmidstLogger;
 import amidst.logging.AmidstMessageBox;
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.biome.UnknownBiomeIndexException;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.coordinates.Resolution;
@@ -16,27 +20,63 @@ import amidst.mojangapi.world.coordinates.Resolution;
 @ThreadSafe
 public class BiomeDataOracle {
 	private final MinecraftInterface minecraftInterface;
+	/**
+	 * The fragments and the world filters populate their arrays very often, so
+	 * the temporary arrays for the biome data are reused.
+	 */
+	private final Queue<int[]> biomeDataBuffers = new ConcurrentLinkedQueue<>();
 
 	public BiomeDataOracle(MinecraftInterface minecraftInterface) {
 		this.minecraftInterface = minecraftInterface;
 	}
 
 	public void populateArray(CoordinatesInWorld corner, short[][] result, boolean useQuarterResolution) {
+		populateArray(corner, result, useQuarterResolution, 1);
+	}
+
+	/**
+	 * Only every stride-th biome is written to the result in both directions.
+	 * This allows to populate an area that is stride times larger in each
+	 * direction without generating the biomes in between.
+	 */
+	public void populateArray(CoordinatesInWorld corner, short[][] result, boolean useQuarterResolution, int stride) {
 		Resolution resolution = Resolution.from(useQuarterResolution);
 		int width = result.length;
 		if (width > 0) {
 			int height = result[0].length;
 			int left = (int) corner.getXAs(resolution);
 			int top = (int) corner.getYAs(resolution);
+			int[] biomeData = borrowBiomeDataBuffer(width * height);
 			try {
-				copyToResult(result, width, height, getBiomeData(left, top, width, height, useQuarterResolution));
+				if (stride == 1) {
+					minecraftInterface.getBiomeData(left, top, width, height, useQuarterResolution, biomeData);
+				} else {
+					minecraftInterface
+							.getSampledBiomeData(left, top, width, height, stride, useQuarterResolution, biomeData);
+				}
+				copyToResult(result, width, height, biomeData);
 			} catch (MinecraftInterfaceException e) {
 				AmidstLogger.error(e);
 				AmidstMessageBox.displayError("Error", e);
+			} finally {
+				biomeDataBuffers.offer(biomeData);
 			}
 		}
 	}
 
+	/**
+	 * Buffers that are too small are dropped, so they will eventually be
+	 * replaced by buffers with the new size.
+	 */
+	private int[] borrowBiomeDataBuffer(int length) {
+		int[] result = biomeDataBuffers.poll();
+		if (result != null && result.length >= length) {
+			return result;
+		} else {
+			return new int[length];
+		}
+	}
+
 	public static void copyToResult(short[][] result, int width, int height, int[] biomeData) {
 		for (int y = 0; y < height; y++) {
 			for (int x = 0; x < width; x++) {
@@ -49,17 +89,35 @@ public class BiomeDataOracle {
 		return x + y * width;
 	}
 
-	public boolean isValidBiomeAtMiddleOfChunk(int chunkX, int chunkY, List<Biome> validBiomes) {
+	public boolean isValidBiomeAtMiddleOfChunk(int chunkX, int chunkY, BiomeSet validBiomes) {
 		return isValidBiome(getMiddleOfChunk(chunkX), getMiddleOfChunk(chunkY), validBiomes);
 	}
 
-	private boolean isValidBiome(int x, int y, List<Biome> validBiomes) {
+	/**
+	 * Checks the first count chunks at once. The biome data of all chunks is
+	 * requested with a single batch.
+	 */
+	public boolean[] isValidBiomeAtMiddleOfChunk(int[] chunkX, int[] chunkY, int count, BiomeSet validBiomes) {
+		List<BiomeDataRequest> requests = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			requests.add(new BiomeDataRequest(getMiddleOfChunk(chunkX[i]), getMiddleOfChunk(chunkY[i]), 1, 1));
+		}
+		boolean[] result = new boolean[count];
 		try {
-			return validBiomes.contains(getBiomeAt(x, y));
-		} catch (UnknownBiomeIndexException e) {
+			List<int[]> biomeData = getFullResolutionBiomeData(requests);
+			for (int i = 0; i < count; i++) {
+				result[i] = validBiomes.contains(biomeData.get(i)[0]);
+			}
+		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
-			return false;
+		}
+		return result;
+	}
+
+	private boolean isValidBiome(int x, int y, BiomeSet validBiomes) {
+		try {
+			return validBiomes.contains(getFullResolutionBiomeData(x, y, 1, 1)[0]);
 		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
@@ -67,11 +125,53 @@ public class BiomeDataOracle {
 		}
 	}
 
-	public boolean isValidBiomeForStructureAtMiddleOfChunk(int chunkX, int chunkY, int size, List<Biome> validBiomes) {
+	public boolean isValidBiomeForStructureAtMiddleOfChunk(int chunkX, int chunkY, int size, BiomeSet validBiomes) {
 		return isValidBiomeForStructure(getMiddleOfChunk(chunkX), getMiddleOfChunk(chunkY), size, validBiomes);
 	}
 
-	public boolean isValidBiomeForStructure(int x, int y, int size, List<Biome> validBiomes) {
+	public boolean[] isValidBiomeForStructureAtMiddleOfChunk(
+			int[] chunkX,
+			int[] chunkY,
+			int count,
+			int size,
+			BiomeSet validBiomes) {
+		int[] x = new int[count];
+		int[] y = new int[count];
+		for (int i = 0; i < count; i++) {
+			x[i] = getMiddleOfChunk(chunkX[i]);
+			y[i] = getMiddleOfChunk(chunkY[i]);
+		}
+		return isValidBiomeForStructure(x, y, count, size, validBiomes);
+	}
+
+	/**
+	 * Checks the first count locations at once. The biome data of all
+	 * locations is requested with a single batch.
+	 */
+	public boolean[] isValidBiomeForStructure(int[] x, int[] y, int count, int size, BiomeSet validBiomes) {
+		List<BiomeDataRequest> requests = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int left = x[i] - size >> 2;
+			int top = y[i] - size >> 2;
+			int right = x[i] + size >> 2;
+			int bottom = y[i] + size >> 2;
+			requests.add(new BiomeDataRequest(left, top, right - left + 1, bottom - top + 1));
+		}
+		boolean[] result = new boolean[count];
+		try {
+			List<int[]> biomeData = getQuarterResolutionBiomeData(requests);
+			for (int i = 0; i < count; i++) {
+				BiomeDataRequest request = requests.get(i);
+				result[i] = validBiomes.containsAll(biomeData.get(i), request.getWidth() * request.getHeight());
+			}
+		} catch (MinecraftInterfaceException e) {
+			AmidstLogger.error(e);
+			AmidstMessageBox.displayError("Error", e);
+		}
+		return result;
+	}
+
+	public boolean isValidBiomeForStructure(int x, int y, int size, BiomeSet validBiomes) {
 		int left = x - size >> 2;
 		int top = y - size >> 2;
 		int right = x + size >> 2;
@@ -80,16 +180,7 @@ public class BiomeDataOracle {
 		int height = bottom - top + 1;
 		try {
 			int[] biomeData = getQuarterResolutionBiomeData(left, top, width, height);
-			for (int i = 0; i < width * height; i++) {
-				if (!validBiomes.contains(Biome.getByIndex(biomeData[i]))) {
-					return false;
-				}
-			}
-			return true;
-		} catch (UnknownBiomeIndexException e) {
-			AmidstLogger.error(e);
-			AmidstMessageBox.displayError("Error", e);
-			return false;
+			return validBiomes.containsAll(biomeData, width * height);
 		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
@@ -101,13 +192,13 @@ public class BiomeDataOracle {
 			int chunkX,
 			int chunkY,
 			int size,
-			List<Biome> validBiomes,
-			Random random) {
+			BiomeSet validBiomes,
+			JavaRandom random) {
 		return findValidLocation(getMiddleOfChunk(chunkX), getMiddleOfChunk(chunkY), size, validBiomes, random);
 	}
 
 	// TODO: Find out if we should useQuarterResolution or not
-	public CoordinatesInWorld findValidLocation(int x, int y, int size, List<Biome> validBiomes, Random random) {
+	public CoordinatesInWorld findValidLocation(int x, int y, int size, BiomeSet validBiomes, JavaRandom random) {
 		int left = x - size >> 2;
 		int top = y - size >> 2;
 		int right = x + size >> 2;
@@ -119,17 +210,13 @@ public class BiomeDataOracle {
 			CoordinatesInWorld result = null;
 			int numberOfValidLocations = 0;
 			for (int i = 0; i < width * height; i++) {
-				if (validBiomes.contains(Biome.getByIndex(biomeData[i]))
+				if (validBiomes.contains(biomeData[i])
 						&& (result == null || random.nextInt(numberOfValidLocations + 1) == 0)) {
 					result = createCoordinates(left, top, width, i);
 					numberOfValidLocations++;
 				}
 			}
 			return result;
-		} catch (UnknownBiomeIndexException e) {
-			AmidstLogger.error(e);
-			AmidstMessageBox.displayError("Error", e);
-			return null;
 		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
@@ -172,6 +259,16 @@ public class BiomeDataOracle {
 		return getBiomeData(x, y, width, height, false);
 	}
 
+	private List<int[]> getQuarterResolutionBiomeData(List<BiomeDataRequest> requests)
+			throws MinecraftInterfaceException {
+		return minecraftInterface.getBiomeData(requests, true);
+	}
+
+	private List<int[]> getFullResolutionBiomeData(List<BiomeDataRequest> requests)
+			throws MinecraftInterfaceException {
+		return minecraftInterface.getBiomeData(requests, false);
+	}
+
 	private int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
 		return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
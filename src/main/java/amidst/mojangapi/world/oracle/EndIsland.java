@@ -32,11 +32,55 @@ public class EndIsland {
 		// treats chunk coords as blockCoordinates >> 4.
 		// This function also does a floating point divide by 16 instead of
 		// shifting by 4 in order to maintain sub-chunk accuracy with x & y.
+		float adjustedX = getAdjustedX(x);
+		float adjustedY = getAdjustedY(y);
+		return getResult(adjustedX * adjustedX + adjustedY * adjustedY);
+	}
+
+	/**
+	 * Returns a value that is at least as large as influenceAtBlock() for all
+	 * blocks of the rectangle. This is exact, not just approximately correct,
+	 * because each step of influenceAtBlock() is monotonic, also when it is
+	 * rounded.
+	 */
+	public float maxInfluenceAtBlocks(int left, int top, int right, int bottom) {
+		float adjustedX = getNearestToZero(getAdjustedX(right), getAdjustedX(left));
+		float adjustedY = getNearestToZero(getAdjustedY(bottom), getAdjustedY(top));
+		return getResult(adjustedX * adjustedX + adjustedY * adjustedY);
+	}
+
+	/**
+	 * Returns a value that is at most as large as influenceAtBlock() for all
+	 * blocks of the rectangle.
+	 */
+	public float minInfluenceAtBlocks(int left, int top, int right, int bottom) {
+		float adjustedX = Math.max(Math.abs(getAdjustedX(right)), Math.abs(getAdjustedX(left)));
+		float adjustedY = Math.max(Math.abs(getAdjustedY(bottom)), Math.abs(getAdjustedY(top)));
+		return getResult(adjustedX * adjustedX + adjustedY * adjustedY);
+	}
+
+	private float getAdjustedX(int x) {
 		float chunkX = (x + 8) / 16.0f;
+		return (this.chunkX - chunkX) * 2 + X_ADJUSTMENT;
+	}
+
+	private float getAdjustedY(int y) {
 		float chunkY = (y + 8) / 16.0f;
-		float adjustedX = (this.chunkX - chunkX) * 2 + X_ADJUSTMENT;
-		float adjustedY = (this.chunkY - chunkY) * 2 + Y_ADJUSTMENT;
-		return getResult(adjustedX * adjustedX + adjustedY * adjustedY);
+		return (this.chunkY - chunkY) * 2 + Y_ADJUSTMENT;
+	}
+
+	/**
+	 * The adjusted values decrease with the block coordinate, so min is the
+	 * value of the larger block coordinate.
+	 */
+	private float getNearestToZero(float min, float max) {
+		if (min > 0) {
+			return min;
+		} else if (max < 0) {
+			return -max;
+		} else {
+			return 0;
+		}
 	}
 
 	/**
@@ -1,7 +1,10 @@
 package amidst.mojangapi.world.oracle;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import amidst.documentation.ThreadSafe;
@@ -62,7 +65,25 @@ public class EndIslandOracle {
 	 */
 	private static final float ISLAND_DENSITY_THRESHOLD = -0.9f;
 
+	/**
+	 * The islands are cached in square tiles of chunks. A tile has the size of
+	 * a fragment, so neighbouring fragments share most of their tiles.
+	 */
+	private static final int TILE_SHIFT = 5;
+	private static final int TILE_SIZE = 1 << TILE_SHIFT;
+	private static final int TILE_MASK = TILE_SIZE - 1;
+	private static final int MAX_CACHED_TILES = 1024;
+
 	private final SimplexNoise noiseFunction;
+	private final Map<Long, EndIsland[]> tiles = Collections
+			.synchronizedMap(new LinkedHashMap<Long, EndIsland[]>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, EndIsland[]> eldest) {
+					return size() > MAX_CACHED_TILES;
+				}
+			});
 
 	public EndIslandOracle(SimplexNoise noiseFunction) {
 		this.noiseFunction = noiseFunction;
@@ -78,17 +99,24 @@ public class EndIslandOracle {
 	}
 
 	/**
-	 * Returns a list of all islands that might be touching a chunk-area.
+	 * Returns a list of all islands that might be touching a chunk-area. The
+	 * islands are ordered by row and column of the chunk they grow from.
 	 */
 	private List<EndIsland> findSurroundingIslands(
 			int chunkX,
 			int chunkY,
 			int chunksPerFragmentX,
 			int chunksPerFragmentY) {
-		List<EndIsland> result = new LinkedList<>();
-		for (int y = -SURROUNDING_CHUNKS; y <= chunksPerFragmentY + SURROUNDING_CHUNKS; y++) {
-			for (int x = -SURROUNDING_CHUNKS; x <= chunksPerFragmentX + SURROUNDING_CHUNKS; x++) {
-				EndIsland island = tryCreateEndIsland(chunkX + x, chunkY + y);
+		int left = chunkX - SURROUNDING_CHUNKS;
+		int top = chunkY - SURROUNDING_CHUNKS;
+		int right = chunkX + chunksPerFragmentX + SURROUNDING_CHUNKS;
+		int bottom = chunkY + chunksPerFragmentY + SURROUNDING_CHUNKS;
+		EndIsland[][][] tilesInArea = getTiles(left, top, right, bottom);
+		List<EndIsland> result = new ArrayList<>();
+		for (int y = top; y <= bottom; y++) {
+			EndIsland[][] tileRow = tilesInArea[(y >> TILE_SHIFT) - (top >> TILE_SHIFT)];
+			for (int x = left; x <= right; x++) {
+				EndIsland island = tileRow[(x >> TILE_SHIFT) - (left >> TILE_SHIFT)][getIndexInTile(x, y)];
 				if (island != null) {
 					result.add(island);
 				}
@@ -97,15 +125,63 @@ public class EndIslandOracle {
 		return result;
 	}
 
+	private EndIsland[][][] getTiles(int left, int top, int right, int bottom) {
+		int firstTileX = left >> TILE_SHIFT;
+		int firstTileY = top >> TILE_SHIFT;
+		int lastTileX = right >> TILE_SHIFT;
+		int lastTileY = bottom >> TILE_SHIFT;
+		EndIsland[][][] result = new EndIsland[lastTileY - firstTileY + 1][lastTileX - firstTileX + 1][];
+		for (int tileY = firstTileY; tileY <= lastTileY; tileY++) {
+			for (int tileX = firstTileX; tileX <= lastTileX; tileX++) {
+				result[tileY - firstTileY][tileX - firstTileX] = getTile(tileX, tileY);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The islands only depend on the seed, so two threads that create the same
+	 * tile at the same time produce equal tiles and it does not matter which
+	 * one is kept.
+	 */
+	private EndIsland[] getTile(int tileX, int tileY) {
+		Long key = ((long) tileX << 32) | (tileY & 0xFFFFFFFFL);
+		EndIsland[] result = tiles.get(key);
+		if (result == null) {
+			result = createTile(tileX, tileY);
+			tiles.put(key, result);
+		}
+		return result;
+	}
+
+	private EndIsland[] createTile(int tileX, int tileY) {
+		int left = tileX << TILE_SHIFT;
+		int top = tileY << TILE_SHIFT;
+		double[] noise = new double[TILE_SIZE * TILE_SIZE];
+		noiseFunction.noise(left, top, TILE_SIZE, TILE_SIZE, noise);
+		EndIsland[] result = new EndIsland[TILE_SIZE * TILE_SIZE];
+		for (int y = top; y < top + TILE_SIZE; y++) {
+			for (int x = left; x < left + TILE_SIZE; x++) {
+				int index = getIndexInTile(x, y);
+				result[index] = tryCreateEndIsland(x, y, noise[index]);
+			}
+		}
+		return result;
+	}
+
+	private int getIndexInTile(int chunkX, int chunkY) {
+		return (chunkX & TILE_MASK) + (chunkY & TILE_MASK) * TILE_SIZE;
+	}
+
 	/**
 	 * Returns an EndIsland if one has 'grown out' from the chunk, otherwise
 	 * null
 	 */
-	private EndIsland tryCreateEndIsland(int chunkX, int chunkY) {
+	private EndIsland tryCreateEndIsland(int chunkX, int chunkY, double noise) {
 		if (chunkX == 0 && chunkY == 0) {
 			return createMainEndIsland(chunkX, chunkY);
 		} else if (chunkX * chunkX + chunkY * chunkY > 4096) {
-			return tryCreateEndIslandInOuterLands(chunkX, chunkY);
+			return tryCreateEndIslandInOuterLands(chunkX, chunkY, noise);
 		} else {
 			return null;
 		}
@@ -120,12 +196,11 @@ public class EndIslandOracle {
 	}
 
 	/**
-	 * The chunk is in the outer-islands band (1024 blocks from the origin)
+	 * The chunk is in the outer-islands band (1024 blocks from the origin). The
+	 * noise is the value of the noise function at the chunk.
 	 */
-	// TODO: check for threading, do we need synchonized or is the SimplexNoise
-	// class thread safe?
-	private synchronized EndIsland tryCreateEndIslandInOuterLands(int chunkX, int chunkY) {
-		if (noiseFunction.noise(chunkX, chunkY) < ISLAND_DENSITY_THRESHOLD) {
+	private EndIsland tryCreateEndIslandInOuterLands(int chunkX, int chunkY, double noise) {
+		if (noise < ISLAND_DENSITY_THRESHOLD) {
 			return new EndIsland(chunkX, chunkY, getErosionFactor(chunkX, chunkY));
 		} else {
 			return null;
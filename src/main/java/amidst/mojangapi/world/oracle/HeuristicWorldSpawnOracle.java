@@ -1,19 +1,16 @@
 package amidst.mojangapi.world.oracle;
 
-import java.util.List;
-import java.util.Random;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 
 @ThreadSafe
 public class HeuristicWorldSpawnOracle implements WorldSpawnOracle {
 	private final long seed;
 	private final BiomeDataOracle biomeDataOracle;
-	private final List<Biome> validBiomes;
+	private final BiomeSet validBiomes;
 
-	public HeuristicWorldSpawnOracle(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public HeuristicWorldSpawnOracle(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		this.seed = seed;
 		this.biomeDataOracle = biomeDataOracle;
 		this.validBiomes = validBiomes;
@@ -21,6 +18,6 @@ public class HeuristicWorldSpawnOracle implements WorldSpawnOracle {
 
 	@Override
 	public CoordinatesInWorld get() {
-		return biomeDataOracle.findValidLocation(0, 0, 256, validBiomes, new Random(seed));
+		return biomeDataOracle.findValidLocation(0, 0, 256, validBiomes, new JavaRandom(seed));
 	}
 }
@@ -0,0 +1,59 @@
+package amidst.mojangapi.world.oracle;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Produces exactly the same values as {@link java.util.Random}, but it keeps
+ * its state in a plain long instead of an AtomicLong. This makes it cheap to
+ * create and to reseed, so the oracles can use one instance per query.
+ */
+@NotThreadSafe
+public final class JavaRandom {
+	private static final long MULTIPLIER = 0x5DEECE66DL;
+	private static final long ADDEND = 0xBL;
+	private static final long MASK = (1L << 48) - 1;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	private long seed;
+
+	public JavaRandom(long seed) {
+		setSeed(seed);
+	}
+
+	public void setSeed(long seed) {
+		this.seed = (seed ^ MULTIPLIER) & MASK;
+	}
+
+	private int next(int bits) {
+		seed = (seed * MULTIPLIER + ADDEND) & MASK;
+		return (int) (seed >>> (48 - bits));
+	}
+
+	public int nextInt() {
+		return next(32);
+	}
+
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		if ((bound & -bound) == bound) {
+			return (int) ((bound * (long) next(31)) >> 31);
+		}
+		int bits;
+		int result;
+		do {
+			bits = next(31);
+			result = bits % bound;
+		} while (bits - result + (bound - 1) < 0);
+		return result;
+	}
+
+	public long nextLong() {
+		return ((long) next(32) << 32) + next(32);
+	}
+
+	public double nextDouble() {
+		return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
+	}
+}
@@ -2,6 +2,8 @@ package amidst.mojangapi.world.oracle;
 
 import java.util.Random;
 
+import amidst.documentation.Immutable;
+
 /**
  * A speed-improved simplex noise algorithm for 2D, 3D and 4D in Java.
  *
@@ -20,7 +22,11 @@ import java.util.Random;
  * compatible with the SimplexNoise generator Minecraft uses. The original
  * SimplexNoise code by Stefan and Peter, and related documents can be found at:
  * http://webstaff.itn.liu.se/~stegu/simplexnoise/
+ *
+ * The permutation tables are only written by the constructor, so instances can
+ * be used by multiple threads without synchronization.
  */
+@Immutable
 public class SimplexNoise {
 	// @formatter:off
 	private static final Grad[] GRAD_3 = {
@@ -43,8 +49,8 @@ public class SimplexNoise {
 
 	// To remove the need for index wrapping, double the permutation table
 	// length
-	private short perm[];
-	private short permMod12[];
+	private final short perm[];
+	private final short permMod12[];
 
 	// Skewing and unskewing factors for 2, 3, and 4 dimensions
 	private static final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);
@@ -166,6 +172,22 @@ public class SimplexNoise {
 		return 70.0 * (n0 + n1 + n2);
 	}
 
+	/**
+	 * Evaluates the 2D noise at the integer coordinates of the given area and
+	 * stores the values row by row in result. Each value is exactly the same as
+	 * the one returned by noise(x, y), because the expression is the same. Only
+	 * the row coordinate is converted once per row.
+	 */
+	public void noise(int x0, int y0, int width, int height, double[] result) {
+		for (int y = 0; y < height; y++) {
+			double yin = y0 + y;
+			int offset = y * width;
+			for (int x = 0; x < width; x++) {
+				result[offset + x] = noise(x0 + x, yin);
+			}
+		}
+	}
+
 	// 3D simplex noise
 	public double noise(double xin, double yin, double zin) {
 		double n0, n1, n2, n3; // Noise contributions from the four corners
@@ -462,12 +484,13 @@ public class SimplexNoise {
 	// Inner class to speed upp gradient computations
 	// (array access is a lot slower than member access)
 	private static class Grad {
-		double x, y, z, w;
+		final double x, y, z, w;
 
 		Grad(double x, double y, double z) {
 			this.x = x;
 			this.y = y;
 			this.z = z;
+			this.w = 0;
 		}
 
 		Grad(double x, double y, double z, double w) {
@@ -1,7 +1,5 @@
 package amidst.mojangapi.world.oracle;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
 
 @Immutable
@@ -13,7 +11,7 @@ public class SlimeChunkOracle {
 	}
 
 	public boolean isSlimeChunk(long chunkX, long chunkY) {
-		Random random = new Random(getSeed((int) chunkX, (int) chunkY));
+		JavaRandom random = new JavaRandom(getSeed((int) chunkX, (int) chunkY));
 		return isSlimeChunk(random);
 	}
 
@@ -26,7 +24,7 @@ public class SlimeChunkOracle {
 				^ 0x3ad8025f;
 	}
 
-	private boolean isSlimeChunk(Random random) {
+	private boolean isSlimeChunk(JavaRandom random) {
 		return random.nextInt(10) == 0;
 	}
 }
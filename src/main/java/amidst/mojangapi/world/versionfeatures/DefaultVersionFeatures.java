@@ -8,6 +8,7 @@ import amidst.documentation.Immutable;
 import amidst.fragment.layer.LayerIds;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
 import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.icon.locationchecker.LocationChecker;
 import amidst.mojangapi.world.icon.locationchecker.MineshaftAlgorithm_Base;
 import amidst.mojangapi.world.icon.locationchecker.MineshaftAlgorithm_ChanceBased;
@@ -27,25 +28,25 @@ public enum DefaultVersionFeatures {
 	public static VersionFeatures create(RecognisedVersion version) {
 		return new VersionFeatures(
 				INSTANCE.enabledLayers.getValue(version),
-				INSTANCE.validBiomesForStructure_Spawn.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_Stronghold.getValue(version),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_Spawn.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_Stronghold.getValue(version)),
 				INSTANCE.strongholdProducerFactory.getValue(version),
-				INSTANCE.validBiomesForStructure_Village.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_Temple.getValue(version),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_Village.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_Temple.getValue(version)),
 				INSTANCE.mineshaftAlgorithmFactory.getValue(version),
 				INSTANCE.oceanMonumentLocationCheckerFactory.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_OceanMonument.getValue(version),
-				INSTANCE.validBiomesForStructure_OceanMonument.getValue(version));
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_OceanMonument.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_OceanMonument.getValue(version)));
 	}
 
 	private final VersionFeature<List<Integer>> enabledLayers;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_Spawn;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_Stronghold;
-	private final VersionFeature<TriFunction<Long, BiomeDataOracle, List<Biome>, StrongholdProducer_Base>> strongholdProducerFactory;
+	private final VersionFeature<TriFunction<Long, BiomeDataOracle, BiomeSet, StrongholdProducer_Base>> strongholdProducerFactory;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_Village;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_Temple;
 	private final VersionFeature<Function<Long, MineshaftAlgorithm_Base>> mineshaftAlgorithmFactory;
-	private final VersionFeature<QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker>> oceanMonumentLocationCheckerFactory;
+	private final VersionFeature<QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker>> oceanMonumentLocationCheckerFactory;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_OceanMonument;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_OceanMonument;
 
@@ -55,6 +56,7 @@ public enum DefaultVersionFeatures {
 				.init(
 						LayerIds.ALPHA,
 						LayerIds.BIOME_DATA,
+						LayerIds.BIOME,
 						LayerIds.BACKGROUND,
 						LayerIds.SLIME,
 						LayerIds.GRID,
@@ -106,7 +108,7 @@ public enum DefaultVersionFeatures {
 						// this includes all the biomes above, except for the swampland
 						getValidBiomesForStrongholdSinceV13w36a()
 				).construct();
-		this.strongholdProducerFactory = VersionFeature.<TriFunction<Long, BiomeDataOracle, List<Biome>, StrongholdProducer_Base>> builder()
+		this.strongholdProducerFactory = VersionFeature.<TriFunction<Long, BiomeDataOracle, BiomeSet, StrongholdProducer_Base>> builder()
 				.init(
 						(seed, biomeOracle, validBiomes) -> new StrongholdProducer_Original(seed, biomeOracle, validBiomes)
 				).since(RecognisedVersion._15w43c,
@@ -152,7 +154,7 @@ public enum DefaultVersionFeatures {
 				).since(RecognisedVersion._1_7_2,
 						seed -> new MineshaftAlgorithm_ChanceBased(seed, 0.004D)
 				).construct();
-		this.oceanMonumentLocationCheckerFactory = VersionFeature.<QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker>> builder()
+		this.oceanMonumentLocationCheckerFactory = VersionFeature.<QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker>> builder()
 				.init(
 						(seed, biomeOracle, validCenterBiomes, validBiomes) -> new OceanMonumentLocationChecker_Original(seed, biomeOracle, validCenterBiomes, validBiomes)
 				).since(RecognisedVersion._15w46a,
@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import amidst.documentation.Immutable;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.icon.locationchecker.LocationChecker;
 import amidst.mojangapi.world.icon.locationchecker.MineshaftAlgorithm_Base;
 import amidst.mojangapi.world.icon.producer.StrongholdProducer_Base;
@@ -13,27 +13,27 @@ import amidst.mojangapi.world.oracle.BiomeDataOracle;
 @Immutable
 public class VersionFeatures {
 	private final List<Integer> enabledLayers;
-	private final List<Biome> validBiomesForStructure_Spawn;
-	private final List<Biome> validBiomesAtMiddleOfChunk_Stronghold;
-	private final TriFunction<Long, BiomeDataOracle, List<Biome>, StrongholdProducer_Base> strongholdProducerFactory;
-	private final List<Biome> validBiomesForStructure_Village;
-	private final List<Biome> validBiomesAtMiddleOfChunk_Temple;
+	private final BiomeSet validBiomesForStructure_Spawn;
+	private final BiomeSet validBiomesAtMiddleOfChunk_Stronghold;
+	private final TriFunction<Long, BiomeDataOracle, BiomeSet, StrongholdProducer_Base> strongholdProducerFactory;
+	private final BiomeSet validBiomesForStructure_Village;
+	private final BiomeSet validBiomesAtMiddleOfChunk_Temple;
 	private final Function<Long, MineshaftAlgorithm_Base> mineshaftAlgorithmFactory;
-	private final QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker> oceanMonumentLocationCheckerFactory;
-	private final List<Biome> validBiomesAtMiddleOfChunk_OceanMonument;
-	private final List<Biome> validBiomesForStructure_OceanMonument;
+	private final QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker> oceanMonumentLocationCheckerFactory;
+	private final BiomeSet validBiomesAtMiddleOfChunk_OceanMonument;
+	private final BiomeSet validBiomesForStructure_OceanMonument;
 
 	public VersionFeatures(
 			List<Integer> enabledLayers,
-			List<Biome> validBiomesForStructure_Spawn,
-			List<Biome> validBiomesAtMiddleOfChunk_Stronghold,
-			TriFunction<Long, BiomeDataOracle, List<Biome>, StrongholdProducer_Base> strongholdProducerFactory,
-			List<Biome> validBiomesForStructure_Village,
-			List<Biome> validBiomesAtMiddleOfChunk_Temple,
+			BiomeSet validBiomesForStructure_Spawn,
+			BiomeSet validBiomesAtMiddleOfChunk_Stronghold,
+			TriFunction<Long, BiomeDataOracle, BiomeSet, StrongholdProducer_Base> strongholdProducerFactory,
+			BiomeSet validBiomesForStructure_Village,
+			BiomeSet validBiomesAtMiddleOfChunk_Temple,
 			Function<Long, MineshaftAlgorithm_Base> mineshaftAlgorithmFactory,
-			QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker> oceanMonumentLocationCheckerFactory,
-			List<Biome> validBiomesAtMiddleOfChunk_OceanMonument,
-			List<Biome> validBiomesForStructure_OceanMonument) {
+			QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker> oceanMonumentLocationCheckerFactory,
+			BiomeSet validBiomesAtMiddleOfChunk_OceanMonument,
+			BiomeSet validBiomesForStructure_OceanMonument) {
 		this.enabledLayers = enabledLayers;
 		this.validBiomesForStructure_Spawn = validBiomesForStructure_Spawn;
 		this.validBiomesAtMiddleOfChunk_Stronghold = validBiomesAtMiddleOfChunk_Stronghold;
@@ -50,23 +50,23 @@ public class VersionFeatures {
 		return enabledLayers.contains(layerId);
 	}
 
-	public List<Biome> getValidBiomesForStructure_Spawn() {
+	public BiomeSet getValidBiomesForStructure_Spawn() {
 		return validBiomesForStructure_Spawn;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_Stronghold() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_Stronghold() {
 		return validBiomesAtMiddleOfChunk_Stronghold;
 	}
 
-	public TriFunction<Long, BiomeDataOracle, List<Biome>, StrongholdProducer_Base> getStrongholdProducerFactory() {
+	public TriFunction<Long, BiomeDataOracle, BiomeSet, StrongholdProducer_Base> getStrongholdProducerFactory() {
 		return strongholdProducerFactory;
 	}
 
-	public List<Biome> getValidBiomesForStructure_Village() {
+	public BiomeSet getValidBiomesForStructure_Village() {
 		return validBiomesForStructure_Village;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_Temple() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_Temple() {
 		return validBiomesAtMiddleOfChunk_Temple;
 	}
 
@@ -74,15 +74,15 @@ public class VersionFeatures {
 		return mineshaftAlgorithmFactory;
 	}
 
-	public QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker> getOceanMonumentLocationCheckerFactory() {
+	public QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker> getOceanMonumentLocationCheckerFactory() {
 		return oceanMonumentLocationCheckerFactory;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_OceanMonument() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_OceanMonument() {
 		return validBiomesAtMiddleOfChunk_OceanMonument;
 	}
 
-	public List<Biome> getValidBiomesForStructure_OceanMonument() {
+	public BiomeSet getValidBiomesForStructure_OceanMonument() {
 		return validBiomesForStructure_OceanMonument;
 	}
 }
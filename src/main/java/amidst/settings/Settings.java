@@ -28,6 +28,13 @@ public enum Settings {
 				value -> preferences.putBoolean(key, value));
 	}
 
+	public static Setting<Integer> createInteger(Preferences preferences, String key, int defaultValue) {
+		return new SettingBase<>(
+				defaultValue,
+				value -> preferences.getInt(key, value),
+				value -> preferences.putInt(key, value));
+	}
+
 	public static Setting<Dimension> createDimension(Preferences preferences, String key, Dimension defaultValue) {
 		return new SettingBase<>(
 				defaultValue,
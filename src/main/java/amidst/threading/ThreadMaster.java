@@ -5,13 +5,24 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.ThreadSafe;
 
+/**
+ * The repainter and the fragment loader only run when they are requested, so
+ * Amidst does not wake up while nothing changes. Multiple requests are merged
+ * into one run as long as the run has not started. A repaint is delayed until
+ * at least one frame passed since the previous repaint, so an animation that
+ * requests a repaint in each frame is drawn with at most 50 frames per second.
+ */
 @ThreadSafe
 public class ThreadMaster {
+	private static final long FRAME_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(20);
+
 	private static final Runnable NOOP = new Runnable() {
 		@Override
 		public void run() {
@@ -20,22 +31,33 @@ public class ThreadMaster {
 	};
 
 	private final ScheduledExecutorService repaintExecutorService;
-	private final ScheduledExecutorService fragmentLoaderExecutorService;
+	private final ExecutorService fragmentLoaderExecutorService;
+	private final int numberOfFragmentLoaderWorkers;
+	private final ExecutorService fragmentLoaderWorkerExecutorService;
 	private final ExecutorService workerExecutorService;
 	private final WorkerExecutor workerExecutor;
 
+	private final AtomicBoolean isRepaintRequested = new AtomicBoolean(false);
+	private final AtomicBoolean isFragmentLoadRequested = new AtomicBoolean(false);
+	private volatile long lastRepaintTime = System.nanoTime() - FRAME_IN_NANOSECONDS;
+
 	private volatile Runnable onRepaintTick;
 	private volatile Runnable onFragmentLoadTick;
 
-	public ThreadMaster() {
+	/**
+	 * If numberOfFragmentLoaderWorkers is greater than one, the fragment loader
+	 * thread distributes the fragments to that many worker threads and waits
+	 * for them to finish. Otherwise, it loads all fragments by itself.
+	 */
+	public ThreadMaster(int numberOfFragmentLoaderWorkers) {
 		this.repaintExecutorService = createRepaintExecutorService();
 		this.fragmentLoaderExecutorService = createFragmentLoaderExecutorService();
+		this.numberOfFragmentLoaderWorkers = Math.max(1, numberOfFragmentLoaderWorkers);
+		this.fragmentLoaderWorkerExecutorService = createFragmentLoaderWorkerExecutorService();
 		this.workerExecutorService = createWorkerExecutorService();
 		this.workerExecutor = createWorkerExecutor();
 		this.onRepaintTick = NOOP;
 		this.onFragmentLoadTick = NOOP;
-		startRepainter();
-		startFragmentLoader();
 	}
 
 	private ScheduledExecutorService createRepaintExecutorService() {
@@ -49,8 +71,25 @@ public class ThreadMaster {
 		});
 	}
 
-	private ScheduledExecutorService createFragmentLoaderExecutorService() {
-		return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+	private ExecutorService createFragmentLoaderExecutorService() {
+		return Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r);
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * The threads are only started when the first task is submitted, so no
+	 * thread is started if the fragment loader thread loads all fragments by
+	 * itself.
+	 */
+	private ExecutorService createFragmentLoaderWorkerExecutorService() {
+		return Executors.newFixedThreadPool(numberOfFragmentLoaderWorkers, new ThreadFactory() {
 			@Override
 			public Thread newThread(Runnable r) {
 				Thread thread = new Thread(r);
@@ -76,24 +115,48 @@ public class ThreadMaster {
 		return new WorkerExecutor(workerExecutorService);
 	}
 
-	private void startRepainter() {
-		repaintExecutorService.scheduleAtFixedRate(new Runnable() {
-			@CalledOnlyBy(AmidstThread.REPAINTER)
-			@Override
-			public void run() {
-				onRepaintTick.run();
-			}
-		}, 0, 20, TimeUnit.MILLISECONDS);
+	/**
+	 * Requests the repainter to run the current repaint tick.
+	 */
+	@CalledByAny
+	public void requestRepaint() {
+		if (isRepaintRequested.compareAndSet(false, true)) {
+			long delay = Math.max(0, lastRepaintTime + FRAME_IN_NANOSECONDS - System.nanoTime());
+			repaintExecutorService.schedule(this::repaint, delay, TimeUnit.NANOSECONDS);
+		}
 	}
 
-	private void startFragmentLoader() {
-		fragmentLoaderExecutorService.scheduleWithFixedDelay(new Runnable() {
-			@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-			@Override
-			public void run() {
-				onFragmentLoadTick.run();
-			}
-		}, 0, 20, TimeUnit.MILLISECONDS);
+	@CalledOnlyBy(AmidstThread.REPAINTER)
+	private void repaint() {
+		lastRepaintTime = System.nanoTime();
+		isRepaintRequested.set(false);
+		onRepaintTick.run();
+	}
+
+	/**
+	 * Requests the fragment loader to run the current fragment load tick. The
+	 * request flag is reset before the tick runs, so a request that is made
+	 * while the tick is running causes the tick to run again afterwards.
+	 */
+	@CalledByAny
+	public void requestFragmentLoad() {
+		if (isFragmentLoadRequested.compareAndSet(false, true)) {
+			fragmentLoaderExecutorService.execute(this::loadFragments);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void loadFragments() {
+		isFragmentLoadRequested.set(false);
+		onFragmentLoadTick.run();
+	}
+
+	public ExecutorService getFragmentLoaderWorkerExecutorService() {
+		return fragmentLoaderWorkerExecutorService;
+	}
+
+	public int getNumberOfFragmentLoaderWorkers() {
+		return numberOfFragmentLoaderWorkers;
 	}
 
 	public WorkerExecutor getWorkerExecutor() {
@@ -102,10 +165,12 @@ public class ThreadMaster {
 
 	public void setOnRepaintTick(Runnable onRepaintTick) {
 		this.onRepaintTick = onRepaintTick;
+		requestRepaint();
 	}
 
 	public void setOnFragmentLoadTick(Runnable onFragmentLoadTick) {
 		this.onFragmentLoadTick = onFragmentLoadTick;
+		requestFragmentLoad();
 	}
 
 	public void clearOnRepaintTick() {
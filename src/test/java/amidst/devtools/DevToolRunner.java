@@ -68,6 +68,18 @@ public class DevToolRunner {
 		new GenerateBiomeColorImages(Biome.allBiomes(), new File(biomeColorImagesDirectory())).run();
 	}
 
+	@Ignore
+	@Test
+	public void benchmarkSymbolicCalls() throws Throwable {
+		new SymbolicCallBenchmark(1_000_000, 10_000_000).run();
+	}
+
+	@Ignore
+	@Test
+	public void benchmarkSimplexNoise() throws Exception {
+		new SimplexNoiseBenchmark(10_000, 100_000).run();
+	}
+
 	private VersionList versionList() throws FormatException, IOException {
 		return VersionList.newRemoteVersionList();
 	}
@@ -0,0 +1,115 @@
+package amidst.devtools;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import amidst.mojangapi.world.oracle.SimplexNoise;
+
+/**
+ * Compares the time per point of the scalar 2D noise with the bulk evaluation
+ * of an area. It also compares multiple threads that share one lock for each
+ * scalar call, like the end island oracle did before, with multiple threads
+ * that evaluate areas without a lock. This does not require a Minecraft jar
+ * file.
+ */
+public class SimplexNoiseBenchmark {
+	private static final int AREA_SIZE = 32;
+	private static final int POINTS_PER_AREA = AREA_SIZE * AREA_SIZE;
+
+	private final SimplexNoise noiseFunction = new SimplexNoise(new Random(0));
+	private final Object lock = new Object();
+	private final int warmupAreas;
+	private final int areas;
+	private final int threads;
+
+	public SimplexNoiseBenchmark(int warmupAreas, int areas) {
+		this.warmupAreas = warmupAreas;
+		this.areas = areas;
+		this.threads = Runtime.getRuntime().availableProcessors();
+	}
+
+	public void run() throws Exception {
+		runScalar(warmupAreas, false);
+		runBulk(warmupAreas);
+		long scalar = runScalar(areas, false);
+		long bulk = runBulk(areas);
+		long lockedThreads = runThreads(() -> runScalar(areas, true));
+		long lockFreeThreads = runThreads(() -> runBulk(areas));
+		System.out.println("scalar:                            " + format(scalar, 1) + " ns/point");
+		System.out.println("bulk:                              " + format(bulk, 1) + " ns/point");
+		System.out.println("scalar with lock, " + threads + " threads: " + format(lockedThreads, threads) + " ns/point");
+		System.out.println("bulk without lock, " + threads + " threads: " + format(lockFreeThreads, threads) + " ns/point");
+	}
+
+	private long runScalar(int areas, boolean isLocked) {
+		double checksum = 0;
+		long start = System.nanoTime();
+		for (int area = 0; area < areas; area++) {
+			int x0 = area * AREA_SIZE;
+			for (int y = 0; y < AREA_SIZE; y++) {
+				for (int x = 0; x < AREA_SIZE; x++) {
+					if (isLocked) {
+						synchronized (lock) {
+							checksum += noiseFunction.noise(x0 + x, y);
+						}
+					} else {
+						checksum += noiseFunction.noise(x0 + x, y);
+					}
+				}
+			}
+		}
+		long result = System.nanoTime() - start;
+		consume(checksum);
+		return result;
+	}
+
+	private long runBulk(int areas) {
+		double[] values = new double[POINTS_PER_AREA];
+		double checksum = 0;
+		long start = System.nanoTime();
+		for (int area = 0; area < areas; area++) {
+			noiseFunction.noise(area * AREA_SIZE, 0, AREA_SIZE, AREA_SIZE, values);
+			for (int i = 0; i < POINTS_PER_AREA; i++) {
+				checksum += values[i];
+			}
+		}
+		long result = System.nanoTime() - start;
+		consume(checksum);
+		return result;
+	}
+
+	/**
+	 * Returns the wall clock time until all threads are done.
+	 */
+	private long runThreads(Callable<Long> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			long start = System.nanoTime();
+			Future<?>[] futures = new Future<?>[threads];
+			for (int i = 0; i < threads; i++) {
+				futures[i] = executor.submit(task);
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			return System.nanoTime() - start;
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+
+	private void consume(double checksum) {
+		if (checksum == 42) {
+			System.out.println();
+		}
+	}
+
+	private String format(long nanos, int threads) {
+		return String.format("%.2f", (double) nanos / ((long) areas * POINTS_PER_AREA * threads));
+	}
+}
@@ -0,0 +1,109 @@
+package amidst.devtools;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import amidst.clazz.symbolic.SymbolicClass;
+import amidst.clazz.symbolic.SymbolicClassGraphCreationException;
+import amidst.clazz.symbolic.SymbolicClasses;
+import amidst.clazz.symbolic.SymbolicObject;
+import amidst.clazz.symbolic.declaration.SymbolicClassDeclaration;
+import amidst.clazz.symbolic.declaration.SymbolicMethodDeclaration;
+import amidst.clazz.symbolic.declaration.SymbolicParameterDeclaration;
+import amidst.clazz.symbolic.declaration.SymbolicParameterDeclarationList;
+
+/**
+ * Compares the per-call overhead of the reflective call path of the symbolic
+ * classes with the method handle call path. It uses a fake GenLayer class that
+ * does almost no work, so the measured time is dominated by the call itself.
+ * This does not require a Minecraft jar file.
+ */
+public class SymbolicCallBenchmark {
+	public static class FakeGenLayer {
+		private final int[] result = new int[1];
+
+		public int[] getInts(int x, int y, int width, int height) {
+			result[0] = x + y + width + height;
+			return result;
+		}
+	}
+
+	private static final String CLASS_FAKE_GEN_LAYER = "FakeGenLayer";
+	private static final String METHOD_GET_INTS = "getInts";
+	private static final MethodType GET_INTS_TYPE = MethodType
+			.methodType(int[].class, int.class, int.class, int.class, int.class);
+
+	private final int warmupIterations;
+	private final int iterations;
+
+	public SymbolicCallBenchmark(int warmupIterations, int iterations) {
+		this.warmupIterations = warmupIterations;
+		this.iterations = iterations;
+	}
+
+	public void run() throws Throwable {
+		SymbolicObject genLayer = new SymbolicObject(createSymbolicClass(), new FakeGenLayer());
+		MethodHandle getInts = genLayer.bindMethodHandle(METHOD_GET_INTS, GET_INTS_TYPE);
+		runReflection(genLayer, warmupIterations);
+		runMethodHandle(getInts, warmupIterations);
+		long reflection = runReflection(genLayer, iterations);
+		long methodHandle = runMethodHandle(getInts, iterations);
+		System.out.println("reflection:    " + format(reflection) + " ns/call");
+		System.out.println("method handle: " + format(methodHandle) + " ns/call");
+	}
+
+	private SymbolicClass createSymbolicClass() throws SymbolicClassGraphCreationException {
+		SymbolicParameterDeclaration intParameter = new SymbolicParameterDeclaration("int", false);
+		SymbolicMethodDeclaration getInts = new SymbolicMethodDeclaration(
+				METHOD_GET_INTS,
+				"getInts",
+				false,
+				new SymbolicParameterDeclarationList(
+						Arrays.asList(intParameter, intParameter, intParameter, intParameter)));
+		SymbolicClassDeclaration declaration = new SymbolicClassDeclaration(
+				CLASS_FAKE_GEN_LAYER,
+				false,
+				Collections.emptyList(),
+				Collections.singletonList(getInts),
+				Collections.emptyList());
+		Map<SymbolicClassDeclaration, String> realClassNames = new HashMap<>();
+		realClassNames.put(declaration, FakeGenLayer.class.getName());
+		return SymbolicClasses.from(realClassNames, FakeGenLayer.class.getClassLoader()).get(CLASS_FAKE_GEN_LAYER);
+	}
+
+	private long runReflection(SymbolicObject genLayer, int iterations) throws Exception {
+		long checksum = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			checksum += ((int[]) genLayer.callMethod(METHOD_GET_INTS, i, i, 1, 1))[0];
+		}
+		long result = System.nanoTime() - start;
+		consume(checksum);
+		return result;
+	}
+
+	private long runMethodHandle(MethodHandle getInts, int iterations) throws Throwable {
+		long checksum = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			checksum += ((int[]) getInts.invokeExact(i, i, 1, 1))[0];
+		}
+		long result = System.nanoTime() - start;
+		consume(checksum);
+		return result;
+	}
+
+	private void consume(long checksum) {
+		if (checksum == 42) {
+			System.out.println();
+		}
+	}
+
+	private String format(long nanos) {
+		return String.format("%.2f", (double) nanos / iterations);
+	}
+}
@@ -0,0 +1,37 @@
+package amidst.fragment.test;
+
+import java.awt.image.IndexColorModel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.gui.main.viewer.BiomeSelection;
+import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeColor;
+import amidst.settings.biomeprofile.BiomeProfile;
+import amidst.settings.biomeprofile.BiomeProfileSelection;
+
+public class BiomePaletteTest {
+	private final BiomeSelection biomeSelection = new BiomeSelection();
+	private final BiomeProfileSelection biomeProfileSelection = new BiomeProfileSelection(
+			BiomeProfile.getDefaultProfile());
+	private final BiomePalette biomePalette = new BiomePalette(biomeSelection, biomeProfileSelection);
+
+	@Test
+	public void shouldMapBiomeIndexesToBiomeColors() throws Exception {
+		BiomeColor plains = biomeProfileSelection.getBiomeColor(Biome.plains.getIndex());
+		Assert.assertEquals(plains.getRGB(), biomePalette.getColorModel().getRGB(Biome.plains.getIndex()));
+	}
+
+	@Test
+	public void shouldUseDeselectedColorsAfterUpdate() throws Exception {
+		BiomeColor plains = biomeProfileSelection.getBiomeColor(Biome.plains.getIndex());
+		IndexColorModel previous = biomePalette.getColorModel();
+		biomeSelection.toggleHighlightMode();
+		biomePalette.update();
+		Assert.assertNotSame(previous, biomePalette.getColorModel());
+		Assert.assertEquals(plains.getRGB(), previous.getRGB(Biome.plains.getIndex()));
+		Assert.assertEquals(plains.getDeselectRGB(), biomePalette.getColorModel().getRGB(Biome.plains.getIndex()));
+	}
+}
@@ -0,0 +1,58 @@
+package amidst.fragment.test;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.Fragment;
+import amidst.fragment.FragmentCache;
+import amidst.fragment.FragmentLoadingQueue;
+import amidst.fragment.constructor.BiomeDataConstructor;
+import amidst.fragment.constructor.FragmentConstructor;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.settings.Setting;
+import amidst.settings.Settings;
+
+public class FragmentCacheTest {
+	private static final long BYTES_PER_FRAGMENT = 128 * 128 * 2;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private final ConcurrentLinkedQueue<Fragment> availableQueue = new ConcurrentLinkedQueue<>();
+	private final Setting<Integer> budgetSetting = Settings.createDummy(1);
+	private final FragmentCache cache = new FragmentCache(
+			availableQueue,
+			new FragmentLoadingQueue(),
+			Arrays.<FragmentConstructor> asList(new BiomeDataConstructor(Resolution.QUARTER)),
+			0,
+			budgetSetting);
+
+	@Test
+	public void shouldReleaseIdleFragmentsWhenOverBudget() {
+		cache.increaseSize();
+		Assert.assertEquals(64 * BYTES_PER_FRAGMENT, cache.getSizeInBytes());
+		cache.releaseIdleFragments();
+		Assert.assertEquals(BYTES_PER_MEGABYTE, cache.getSizeInBytes());
+		Assert.assertEquals(BYTES_PER_MEGABYTE / BYTES_PER_FRAGMENT, availableQueue.size());
+	}
+
+	@Test
+	public void shouldNotReleaseFragmentsThatAreInUse() {
+		cache.increaseSize();
+		Fragment fragment;
+		while ((fragment = availableQueue.poll()) != null) {
+			fragment.setInitialized();
+		}
+		cache.releaseIdleFragments();
+		Assert.assertEquals(64, cache.size());
+	}
+
+	@Test
+	public void shouldGrowByOneFragmentWhenOverBudget() {
+		cache.increaseSize();
+		availableQueue.clear();
+		cache.increaseSize();
+		Assert.assertEquals(65, cache.size());
+	}
+}
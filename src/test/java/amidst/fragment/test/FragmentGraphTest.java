@@ -0,0 +1,107 @@
+package amidst.fragment.test;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.Fragment;
+import amidst.fragment.FragmentGraph;
+import amidst.fragment.FragmentManager;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.settings.Settings;
+
+public class FragmentGraphTest {
+	private final FragmentManager manager = new FragmentManager(
+			Collections.emptyList(),
+			0,
+			Settings.createDummy(1),
+			null,
+			1,
+			() -> {
+			});
+	private final FragmentGraph graph = new FragmentGraph(Collections.emptyList(), manager);
+
+	@Test
+	public void shouldIterateRowByRow() {
+		graph.init(corner(0, 0));
+		graph.adjust(1, 1, 1, 0);
+		Assert.assertEquals(3, graph.getFragmentsPerRow());
+		Assert.assertEquals(2, graph.getFragmentsPerColumn());
+		Assert.assertEquals(corner(-1, -1), graph.getCorner());
+		assertCorners(corner(-1, -1), 3, 2);
+	}
+
+	@Test
+	public void shouldKeepOrderWhenMovingAcrossTheBufferBoundary() {
+		graph.init(corner(0, 0));
+		graph.adjust(0, 0, 2, 2);
+		for (int i = 0; i < 5; i++) {
+			graph.adjust(-1, -1, 1, 1);
+		}
+		for (int i = 0; i < 7; i++) {
+			graph.adjust(1, 0, -1, 0);
+		}
+		Assert.assertEquals(corner(-2, 5), graph.getCorner());
+		assertCorners(corner(-2, 5), 3, 3);
+	}
+
+	@Test
+	public void shouldFindFragmentAtCoordinates() {
+		graph.init(corner(0, 0));
+		graph.adjust(2, 2, 2, 2);
+		graph.adjust(-1, 1, 1, -1);
+		for (Fragment fragment : graph) {
+			CoordinatesInWorld inside = fragment.getCorner().add(Fragment.SIZE / 2, Fragment.SIZE - 1);
+			Assert.assertSame(fragment, graph.getFragmentAt(inside));
+		}
+		Assert.assertNull(graph.getFragmentAt(graph.getCorner().add(-1, 0)));
+		Assert.assertNull(graph.getFragmentAt(graph.getCorner().add(0, 5 * Fragment.SIZE)));
+	}
+
+	@Test
+	public void shouldRecycleRemovedFragments() {
+		graph.init(corner(0, 0));
+		graph.adjust(1, 1, 1, 1);
+		graph.adjust(-1, -1, -1, -1);
+		Assert.assertEquals(8, manager.getRecycleQueueSize());
+		assertCorners(corner(0, 0), 1, 1);
+	}
+
+	@Test
+	public void shouldUseSuperFragmentsForLevelOfDetail() {
+		graph.init(corner(5, -3));
+		graph.setLevelOfDetail(2);
+		Assert.assertEquals(4 * Fragment.SIZE, graph.getFragmentSize());
+		Assert.assertEquals(corner(4, -4), graph.getCorner());
+		graph.adjust(1, 0, 1, 1);
+		assertCorners(corner(0, -4), 3, 2, 4);
+		for (Fragment fragment : graph) {
+			Assert.assertEquals(2, fragment.getLevelOfDetail());
+			Assert.assertSame(fragment, graph.getFragmentAt(fragment.getCorner().add(3 * Fragment.SIZE, 1)));
+		}
+		graph.setLevelOfDetail(0);
+		Assert.assertEquals(corner(0, -4), graph.getCorner());
+		Assert.assertEquals(0, graph.iterator().next().getLevelOfDetail());
+	}
+
+	private void assertCorners(CoordinatesInWorld topLeft, int columns, int rows) {
+		assertCorners(topLeft, columns, rows, 1);
+	}
+
+	private void assertCorners(CoordinatesInWorld topLeft, int columns, int rows, int fragmentsPerFragment) {
+		int size = Fragment.SIZE * fragmentsPerFragment;
+		Iterator<Fragment> iterator = graph.iterator();
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++) {
+				Assert.assertEquals(topLeft.add(column * size, row * size), iterator.next().getCorner());
+			}
+		}
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	private static CoordinatesInWorld corner(int fragmentX, int fragmentY) {
+		return CoordinatesInWorld.from(fragmentX * Fragment.SIZE, fragmentY * Fragment.SIZE);
+	}
+}
@@ -0,0 +1,72 @@
+package amidst.fragment.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.Fragment;
+import amidst.fragment.FragmentLoadingQueue;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+
+public class FragmentLoadingQueueTest {
+	@Test
+	public void shouldPollFragmentsClosestToTheFocusFirst() {
+		FragmentLoadingQueue queue = new FragmentLoadingQueue();
+		Fragment far = createFragment(-4, 0);
+		Fragment near = createFragment(3, 3);
+		Fragment nearest = createFragment(2, 3);
+		queue.offer(far);
+		queue.offer(near);
+		queue.offer(nearest);
+		queue.setFocus(CoordinatesInWorld.from(2 * Fragment.SIZE, 3 * Fragment.SIZE));
+		Assert.assertSame(nearest, queue.poll());
+		Assert.assertSame(near, queue.poll());
+		Assert.assertSame(far, queue.poll());
+		Assert.assertNull(queue.poll());
+	}
+
+	@Test
+	public void shouldReprioritizeWhenTheFocusMoves() {
+		FragmentLoadingQueue queue = new FragmentLoadingQueue();
+		Fragment left = createFragment(-2, 0);
+		Fragment right = createFragment(2, 0);
+		queue.offer(left);
+		queue.offer(right);
+		queue.setFocus(CoordinatesInWorld.from(-2 * Fragment.SIZE, 0));
+		queue.offer(createFragment(-5, 0));
+		Assert.assertSame(left, queue.poll());
+		queue.setFocus(CoordinatesInWorld.from(2 * Fragment.SIZE, 0));
+		Assert.assertSame(right, queue.poll());
+	}
+
+	@Test
+	public void shouldSkipRecycledFragments() {
+		FragmentLoadingQueue queue = new FragmentLoadingQueue();
+		Fragment recycled = createFragment(0, 0);
+		Fragment other = createFragment(5, 5);
+		queue.offer(recycled);
+		queue.offer(other);
+		recycled.recycle();
+		Assert.assertSame(other, queue.poll());
+		Assert.assertNull(queue.poll());
+	}
+
+	@Test
+	public void shouldSkipEntriesThatWereOfferedBeforeTheFragmentWasRecycled() {
+		FragmentLoadingQueue queue = new FragmentLoadingQueue();
+		Fragment fragment = createFragment(0, 0);
+		queue.offer(fragment);
+		fragment.recycle();
+		fragment.setInitialized();
+		Assert.assertNull(queue.poll());
+		queue.offer(fragment);
+		Assert.assertSame(fragment, queue.poll());
+		Assert.assertNull(queue.poll());
+	}
+
+	private Fragment createFragment(int fragmentX, int fragmentY) {
+		Fragment result = new Fragment(0);
+		result.setCorner(CoordinatesInWorld.from(fragmentX * Fragment.SIZE, fragmentY * Fragment.SIZE));
+		result.setInitialized();
+		return result;
+	}
+}
@@ -0,0 +1,95 @@
+package amidst.fragment.test;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.Fragment;
+import amidst.fragment.FragmentManager;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.settings.Settings;
+
+public class FragmentManagerTest {
+	private int fragmentLoadRequests = 0;
+	private final FragmentManager manager = new FragmentManager(
+			Collections.emptyList(),
+			0,
+			Settings.createDummy(1),
+			null,
+			1,
+			() -> fragmentLoadRequests++);
+
+	@Test
+	public void shouldRequestFragmentLoadOnlyWhenQueuesChanged() {
+		CoordinatesInWorld corner = CoordinatesInWorld.from(Fragment.SIZE, 0);
+		Fragment fragment = manager.requestFragment(corner, 0);
+		Assert.assertEquals(1, fragmentLoadRequests);
+		fragment.setLoaded();
+		manager.recycleFragment(fragment);
+		manager.requestFragment(corner, 0);
+		Assert.assertEquals(1, fragmentLoadRequests);
+		manager.recycleFragment(manager.requestFragment(CoordinatesInWorld.origin(), 0));
+		Assert.assertEquals(3, fragmentLoadRequests);
+	}
+
+	@Test
+	public void shouldReturnRetainedFragmentWithoutLoadingItAgain() {
+		CoordinatesInWorld corner = CoordinatesInWorld.from(Fragment.SIZE, 0);
+		Fragment fragment = manager.requestFragment(corner, 0);
+		fragment.setLoaded();
+		manager.recycleFragment(fragment);
+		int loadingQueueSize = manager.getLoadingQueueSize();
+		Assert.assertSame(fragment, manager.requestFragment(corner, 0));
+		Assert.assertEquals(loadingQueueSize, manager.getLoadingQueueSize());
+		Assert.assertEquals(0, manager.getRecycleQueueSize());
+	}
+
+	@Test
+	public void shouldRetainFragmentsOfEachLevelOfDetailAtTheSameCorner() {
+		CoordinatesInWorld corner = CoordinatesInWorld.origin();
+		Fragment fragment = manager.requestFragment(corner, 0);
+		Fragment superFragment = manager.requestFragment(corner, 1);
+		fragment.setLoaded();
+		superFragment.setLoaded();
+		manager.recycleFragment(fragment);
+		manager.recycleFragment(superFragment);
+		Assert.assertEquals(2, manager.getRetainedFragmentsSize());
+		int loadingQueueSize = manager.getLoadingQueueSize();
+		manager.prefetchFragments(Collections.singletonList(corner), 2);
+		Assert.assertEquals(loadingQueueSize + 1, manager.getLoadingQueueSize());
+		Assert.assertSame(fragment, manager.requestFragment(corner, 0));
+		Assert.assertSame(superFragment, manager.requestFragment(corner, 1));
+	}
+
+	@Test
+	public void shouldRecycleStaleRetainedFragment() {
+		CoordinatesInWorld corner = CoordinatesInWorld.from(Fragment.SIZE, 0);
+		Fragment fragment = manager.requestFragment(corner, 0);
+		fragment.setLoaded();
+		manager.recycleFragment(fragment);
+		Assert.assertTrue(fragment.markStaleIfRetained());
+		Assert.assertNotSame(fragment, manager.requestFragment(corner, 0));
+		Assert.assertEquals(0, manager.getRetainedFragmentsSize());
+		Assert.assertEquals(1, manager.getRecycleQueueSize());
+	}
+
+	@Test
+	public void shouldRecycleFragmentsThatAreNotLoaded() {
+		CoordinatesInWorld corner = CoordinatesInWorld.from(Fragment.SIZE, 0);
+		Fragment fragment = manager.requestFragment(corner, 0);
+		manager.recycleFragment(fragment);
+		Assert.assertEquals(0, manager.getRetainedFragmentsSize());
+		Assert.assertEquals(1, manager.getRecycleQueueSize());
+	}
+
+	@Test
+	public void shouldRecycleRetainedFragments() {
+		Fragment fragment = manager.requestFragment(CoordinatesInWorld.origin(), 0);
+		fragment.setLoaded();
+		manager.recycleFragment(fragment);
+		manager.recycleRetainedFragments();
+		Assert.assertEquals(0, manager.getRetainedFragmentsSize());
+		Assert.assertEquals(1, manager.getRecycleQueueSize());
+	}
+}
@@ -0,0 +1,61 @@
+package amidst.fragment.test;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.ColorProvider;
+import amidst.fragment.colorprovider.TheEndColorProvider;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.mojangapi.world.oracle.EndIsland;
+import amidst.mojangapi.world.oracle.EndIslandOracle;
+
+public class TheEndColorProviderTest {
+	private static final int SIZE = Resolution.QUARTER.getStepsPerFragment();
+
+	private final EndIslandOracle endIslandOracle = EndIslandOracle.from(-1364077613L);
+	private final TheEndColorProvider colorProvider = new TheEndColorProvider();
+	private final ColorProvider perPixelColorProvider = colorProvider::getColorAt;
+
+	@Test
+	public void shouldFillRegionLikeThePerPixelFallback() {
+		// @formatter:off
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from(     0,      0));
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from(  -512,   -512));
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from(  1024,    512));
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from( 20480, -12288));
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from(-40960,  40960));
+		// @formatter:on
+	}
+
+	@Test
+	public void shouldFillRegionWithoutIslandsLikeThePerPixelFallback() {
+		// @formatter:off
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from(     0,      0), Collections.emptyList());
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from(   512,    512), Collections.emptyList());
+		assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld.from( 20480, -12288), Collections.emptyList());
+		// @formatter:on
+	}
+
+	private void assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld corner) {
+		assertFillRegionEqualsPerPixelFallback(corner, endIslandOracle.getAt(corner));
+	}
+
+	private void assertFillRegionEqualsPerPixelFallback(CoordinatesInWorld corner, List<EndIsland> endIslands) {
+		Fragment fragment = new Fragment(0);
+		fragment.setCorner(corner);
+		fragment.setEndIslands(endIslands);
+		long cornerX = corner.getXAs(Resolution.QUARTER);
+		long cornerY = corner.getYAs(Resolution.QUARTER);
+		int[] expected = new int[SIZE * SIZE];
+		int[] actual = new int[SIZE * SIZE];
+		perPixelColorProvider.fillRegion(Dimension.END, fragment, cornerX, cornerY, SIZE, expected);
+		colorProvider.fillRegion(Dimension.END, fragment, cornerX, cornerY, SIZE, actual);
+		Assert.assertArrayEquals(expected, actual);
+	}
+}
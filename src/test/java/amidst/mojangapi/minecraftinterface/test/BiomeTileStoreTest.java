@@ -0,0 +1,164 @@
+package amidst.mojangapi.minecraftinterface.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import amidst.mojangapi.minecraftinterface.BiomeTileStore;
+import amidst.mojangapi.minecraftinterface.BiomeTileStoreDirectory;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+public class BiomeTileStoreTest {
+	private static final int TILE_SIZE = 16;
+	private static final long MAX_SIZE = 16 * 1024 * 1024;
+	private static final int SLOTS_PER_SEGMENT = 1024;
+	private static final long SEGMENT_SIZE = 16 + SLOTS_PER_SEGMENT * (20 + TILE_SIZE * TILE_SIZE);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+	@After
+	public void shutdownWriter() {
+		writer.shutdownNow();
+	}
+
+	@Test
+	public void shouldReadTilesAfterReopening() throws Exception {
+		File directory = folder.newFolder();
+		short[] tile = createTile(7);
+		BiomeTileStore store = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> true, writer);
+		store.putAsync(true, -3, 5, tile);
+		awaitWrites();
+		Assert.assertArrayEquals(tile, store.get(true, -3, 5));
+		Assert.assertNull(store.get(false, -3, 5));
+		store.close();
+		BiomeTileStore reopened = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> true, writer);
+		Assert.assertArrayEquals(tile, reopened.get(true, -3, 5));
+		reopened.close();
+	}
+
+	@Test
+	public void shouldIgnoreCorruptTiles() throws Exception {
+		File directory = folder.newFolder();
+		BiomeTileStore store = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> true, writer);
+		store.putAsync(true, 1, 2, createTile(1));
+		store.putAsync(true, 3, 4, createTile(2));
+		awaitWrites();
+		store.close();
+		corruptLastByteOfFirstTile(new File(directory, "quarter-0.bin"));
+		BiomeTileStore reopened = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> true, writer);
+		Assert.assertNull(reopened.get(true, 1, 2));
+		Assert.assertArrayEquals(createTile(2), reopened.get(true, 3, 4));
+		reopened.close();
+	}
+
+	@Test
+	public void shouldEvictOldestTilesWhenFull() throws Exception {
+		File directory = folder.newFolder();
+		BiomeTileStore store = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, 0, bytes -> true, writer);
+		for (int i = 0; i <= SLOTS_PER_SEGMENT; i++) {
+			store.putAsync(true, i, 0, createTile(i));
+		}
+		awaitWrites();
+		Assert.assertNull(store.get(true, 0, 0));
+		Assert.assertArrayEquals(createTile(1), store.get(true, 1, 0));
+		Assert.assertArrayEquals(createTile(SLOTS_PER_SEGMENT), store.get(true, SLOTS_PER_SEGMENT, 0));
+		store.close();
+		ExecutorService otherWriter = Executors.newSingleThreadExecutor();
+		BiomeTileStore reopened = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, 0, bytes -> true, otherWriter);
+		reopened.putAsync(true, -1, 0, createTile(-1));
+		otherWriter.shutdown();
+		otherWriter.awaitTermination(10, TimeUnit.SECONDS);
+		Assert.assertNull(reopened.get(true, 1, 0));
+		Assert.assertArrayEquals(createTile(2), reopened.get(true, 2, 0));
+		Assert.assertArrayEquals(createTile(-1), reopened.get(true, -1, 0));
+		reopened.close();
+	}
+
+	@Test
+	public void shouldNotCreateSegmentWithoutSpace() throws Exception {
+		File directory = folder.newFolder();
+		BiomeTileStore store = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> false, writer);
+		store.putAsync(true, 0, 0, createTile(0));
+		awaitWrites();
+		Assert.assertNull(store.get(true, 0, 0));
+		Assert.assertFalse(new File(directory, "quarter-0.bin").exists());
+		store.close();
+	}
+
+	@Test
+	public void shouldDeleteClosedStoresWhenDirectoryIsFull() throws Exception {
+		File root = folder.newFolder();
+		BiomeTileStoreDirectory storeDirectory = new BiomeTileStoreDirectory(root, SEGMENT_SIZE * 3 / 2, true);
+		BiomeTileStore first = storeDirectory.open(RecognisedVersion._1_12_pre7, 1, WorldType.DEFAULT, "", TILE_SIZE, TILE_SIZE);
+		putAndAwait(first, createTile(1));
+		first.close();
+		BiomeTileStore second = storeDirectory.open(RecognisedVersion._1_12_pre7, 2, WorldType.DEFAULT, "", TILE_SIZE, TILE_SIZE);
+		putAndAwait(second, createTile(2));
+		Assert.assertEquals(1, root.listFiles(File::isDirectory).length);
+		second.close();
+	}
+
+	@Test
+	public void shouldDisableStoreThatIsAlreadyOpen() throws Exception {
+		File directory = folder.newFolder();
+		BiomeTileStore store = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> true, writer);
+		BiomeTileStore other = BiomeTileStore.open(directory, TILE_SIZE, TILE_SIZE, MAX_SIZE, bytes -> true, writer);
+		other.putAsync(true, 0, 0, createTile(3));
+		awaitWrites();
+		Assert.assertNull(other.get(true, 0, 0));
+		other.close();
+		store.close();
+	}
+
+	private short[] createTile(int offset) {
+		short[] result = new short[TILE_SIZE * TILE_SIZE];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = (short) ((i + offset) & 0xFF);
+		}
+		return result;
+	}
+
+	/**
+	 * The directory uses its own writer, so we wait until the tile can be read.
+	 */
+	private void putAndAwait(BiomeTileStore store, short[] tile) throws InterruptedException {
+		store.putAsync(true, 0, 0, tile);
+		for (int i = 0; i < 1000 && store.get(true, 0, 0) == null; i++) {
+			Thread.sleep(10);
+		}
+		Assert.assertArrayEquals(tile, store.get(true, 0, 0));
+	}
+
+	private void awaitWrites() throws InterruptedException {
+		writer.submit(() -> {
+		});
+		writer.shutdown();
+		writer.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * The file header has 16 bytes and the slot header has 20 bytes.
+	 */
+	private void corruptLastByteOfFirstTile(File file) throws IOException {
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+			long position = 16 + 20 + TILE_SIZE * TILE_SIZE - 1;
+			randomAccessFile.seek(position);
+			int value = randomAccessFile.read();
+			randomAccessFile.seek(position);
+			randomAccessFile.write(value ^ 0xFF);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package amidst.mojangapi.minecraftinterface.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.CachingMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.mocking.HashingMinecraftInterface;
+import amidst.mojangapi.world.WorldType;
+
+public class CachingMinecraftInterfaceTest {
+	@Test
+	public void shouldReturnSameBiomeDataForUnalignedAreas() throws MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		CachingMinecraftInterface actual = new CachingMinecraftInterface(new HashingMinecraftInterface());
+		expected.createWorld(1234, WorldType.DEFAULT, "");
+		actual.createWorld(1234, WorldType.DEFAULT, "");
+		int[][] areas = { { 0, 0, 128, 128 }, { -70, -3, 1, 1 }, { -5, 60, 140, 9 }, { 31, 33, 2, 65 } };
+		for (int[] area : areas) {
+			for (boolean useQuarterResolution : new boolean[] { true, false }) {
+				Assert.assertArrayEquals(
+						expected.getBiomeData(area[0], area[1], area[2], area[3], useQuarterResolution),
+						actual.getBiomeData(area[0], area[1], area[2], area[3], useQuarterResolution));
+			}
+		}
+	}
+
+	@Test
+	public void shouldWriteBiomeDataToGivenArray() throws MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		CachingMinecraftInterface actual = new CachingMinecraftInterface(new HashingMinecraftInterface());
+		expected.createWorld(1234, WorldType.DEFAULT, "");
+		actual.createWorld(1234, WorldType.DEFAULT, "");
+		int[][] areas = { { 0, 0, 128, 128 }, { -5, 60, 140, 9 }, { 0, 0, 2000, 2000 } };
+		for (int[] area : areas) {
+			int[] result = new int[area[2] * area[3]];
+			actual.getBiomeData(area[0], area[1], area[2], area[3], true, result);
+			Assert.assertArrayEquals(expected.getBiomeData(area[0], area[1], area[2], area[3], true), result);
+		}
+	}
+
+	@Test
+	public void shouldReturnSameBiomeDataForBatches() throws MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		CachingMinecraftInterface actual = new CachingMinecraftInterface(new HashingMinecraftInterface());
+		expected.createWorld(1234, WorldType.DEFAULT, "");
+		actual.createWorld(1234, WorldType.DEFAULT, "");
+		actual.getBiomeData(0, 0, 64, 64, false);
+		List<BiomeDataRequest> requests = new ArrayList<>();
+		requests.add(new BiomeDataRequest(8, 8, 1, 1));
+		requests.add(new BiomeDataRequest(-100, 40, 3, 70));
+		requests.add(new BiomeDataRequest(0, 0, 2000, 2000));
+		requests.add(new BiomeDataRequest(50, -20, 1, 1));
+		List<int[]> biomeData = actual.getBiomeData(requests, false);
+		Assert.assertEquals(requests.size(), biomeData.size());
+		for (int i = 0; i < requests.size(); i++) {
+			BiomeDataRequest request = requests.get(i);
+			Assert.assertArrayEquals(
+					expected.getBiomeData(
+							request.getX(),
+							request.getY(),
+							request.getWidth(),
+							request.getHeight(),
+							false),
+					biomeData.get(i));
+		}
+	}
+
+	@Test
+	public void shouldRequestTilesSharedWithinBatchOnlyOnce() throws MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		List<BiomeDataRequest> forwardedRequests = new ArrayList<>();
+		CachingMinecraftInterface actual = new CachingMinecraftInterface(new HashingMinecraftInterface() {
+			@Override
+			public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+					throws MinecraftInterfaceException {
+				forwardedRequests.addAll(requests);
+				return super.getBiomeData(requests, useQuarterResolution);
+			}
+		});
+		expected.createWorld(1234, WorldType.DEFAULT, "");
+		actual.createWorld(1234, WorldType.DEFAULT, "");
+		List<BiomeDataRequest> requests = new ArrayList<>();
+		requests.add(new BiomeDataRequest(0, 0, 64, 64));
+		requests.add(new BiomeDataRequest(32, 0, 64, 64));
+		requests.add(new BiomeDataRequest(10, 10, 20, 20));
+		List<int[]> biomeData = actual.getBiomeData(requests, false);
+		for (int i = 0; i < requests.size(); i++) {
+			BiomeDataRequest request = requests.get(i);
+			Assert.assertArrayEquals(
+					expected.getBiomeData(
+							request.getX(),
+							request.getY(),
+							request.getWidth(),
+							request.getHeight(),
+							false),
+					biomeData.get(i));
+		}
+		int forwardedArea = 0;
+		for (BiomeDataRequest request : forwardedRequests) {
+			forwardedArea += request.getWidth() * request.getHeight();
+		}
+		Assert.assertEquals(96 * 64, forwardedArea);
+		Assert.assertEquals(6, actual.getMisses());
+	}
+
+	@Test
+	public void shouldReturnSampledBiomeDataWithoutUsingTheCache() throws MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		CachingMinecraftInterface actual = new CachingMinecraftInterface(new HashingMinecraftInterface());
+		expected.createWorld(1234, WorldType.DEFAULT, "");
+		actual.createWorld(1234, WorldType.DEFAULT, "");
+		int[] result = new int[6 * 5];
+		actual.getSampledBiomeData(-40, 17, 6, 5, 8, true, result);
+		for (int y = 0; y < 5; y++) {
+			for (int x = 0; x < 6; x++) {
+				Assert.assertEquals(expected.getBiomeData(-40 + x * 8, 17 + y * 8, 1, 1, true)[0], result[x + y * 6]);
+			}
+		}
+		Assert.assertEquals(0, actual.getMisses());
+	}
+
+	@Test
+	public void shouldServeRepeatedRequestsFromCache() throws MinecraftInterfaceException {
+		CachingMinecraftInterface minecraftInterface = new CachingMinecraftInterface(new HashingMinecraftInterface());
+		minecraftInterface.createWorld(1234, WorldType.DEFAULT, "");
+		minecraftInterface.getBiomeData(0, 0, 128, 128, true);
+		long misses = minecraftInterface.getMisses();
+		minecraftInterface.getBiomeData(10, 10, 100, 100, true);
+		Assert.assertEquals(misses, minecraftInterface.getMisses());
+		Assert.assertTrue(minecraftInterface.getHits() > 0);
+	}
+
+	@Test
+	public void shouldFlushCacheOnCreateWorld() throws MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		CachingMinecraftInterface actual = new CachingMinecraftInterface(new HashingMinecraftInterface());
+		actual.createWorld(1, WorldType.DEFAULT, "");
+		actual.getBiomeData(0, 0, 64, 64, true);
+		expected.createWorld(2, WorldType.DEFAULT, "");
+		actual.createWorld(2, WorldType.DEFAULT, "");
+		Assert.assertArrayEquals(expected.getBiomeData(0, 0, 64, 64, true), actual.getBiomeData(0, 0, 64, 64, true));
+	}
+}
@@ -0,0 +1,157 @@
+package amidst.mojangapi.minecraftinterface.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
+import amidst.mojangapi.mocking.FakeMinecraftInterface;
+import amidst.mojangapi.mocking.HashingMinecraftInterface;
+import amidst.mojangapi.world.WorldType;
+import amidst.mojangapi.world.testworld.TestWorld;
+import amidst.mojangapi.world.testworld.TestWorldCache;
+import amidst.mojangapi.world.testworld.TestWorldDeclaration;
+import amidst.mojangapi.world.testworld.TestWorldEntryNames;
+import amidst.mojangapi.world.testworld.storage.json.AreaJson;
+import amidst.mojangapi.world.testworld.storage.json.BiomeDataJson;
+import amidst.mojangapi.world.testworld.storage.json.WorldMetadataJson;
+
+public class GenLayerMinecraftInterfaceTest {
+	@Test
+	public void shouldGenerateSameBiomeDataAsMinecraft() throws MinecraftInterfaceException {
+		for (TestWorldDeclaration declaration : TestWorldDeclaration.values()) {
+			if (GenLayerMinecraftInterface.isSupported(declaration.getRecognisedVersion())) {
+				TestWorld testWorld = TestWorldCache.get(declaration);
+				BiomeDataJson quarterBiomeData = testWorld
+						.getEntryValue(TestWorldEntryNames.QUARTER_RESOLUTION_BIOME_DATA, BiomeDataJson.class);
+				BiomeDataJson fullBiomeData = testWorld
+						.getEntryValue(TestWorldEntryNames.FULL_RESOLUTION_BIOME_DATA, BiomeDataJson.class);
+				WorldMetadataJson metadata = testWorld
+						.getEntryValue(TestWorldEntryNames.METADATA, WorldMetadataJson.class);
+				MinecraftInterface minecraftInterface = new GenLayerMinecraftInterface(
+						new FakeMinecraftInterface(metadata, quarterBiomeData, fullBiomeData));
+				minecraftInterface.createWorld(metadata.getSeed(), metadata.getWorldType(), "");
+				assertSameBiomeData(declaration, minecraftInterface, quarterBiomeData, true);
+				assertSameBiomeData(declaration, minecraftInterface, fullBiomeData, false);
+			}
+		}
+	}
+
+	@Test
+	public void shouldSampleSameBiomeDataAsSingleBiomeAreas() throws MinecraftInterfaceException {
+		MinecraftInterface minecraftInterface = createSupportedMinecraftInterface();
+		for (boolean useQuarterResolution : new boolean[] { true, false }) {
+			assertSameSampledBiomeData(minecraftInterface, minecraftInterface, useQuarterResolution);
+		}
+	}
+
+	@Test
+	public void shouldSampleOneRowPerBatchByDefault() throws MinecraftInterfaceException {
+		MinecraftInterface minecraftInterface = createSupportedMinecraftInterface();
+		List<Integer> batchSizes = new ArrayList<>();
+		MinecraftInterface defaultSampling = new MinecraftInterface() {
+			@Override
+			public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+					throws MinecraftInterfaceException {
+				return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+			}
+
+			@Override
+			public List<int[]> getBiomeData(List<BiomeDataRequest> requests, boolean useQuarterResolution)
+					throws MinecraftInterfaceException {
+				batchSizes.add(requests.size());
+				return minecraftInterface.getBiomeData(requests, useQuarterResolution);
+			}
+
+			@Override
+			public void createWorld(long seed, WorldType worldType, String generatorOptions)
+					throws MinecraftInterfaceException {
+				minecraftInterface.createWorld(seed, worldType, generatorOptions);
+			}
+
+			@Override
+			public RecognisedVersion getRecognisedVersion() {
+				return minecraftInterface.getRecognisedVersion();
+			}
+		};
+		assertSameSampledBiomeData(minecraftInterface, defaultSampling, true);
+		Assert.assertEquals(Arrays.asList(7, 7, 7, 7, 7), batchSizes);
+	}
+
+	@Test
+	public void shouldOnlyCreateFallbackWhenNeeded() throws MinecraftInterfaceException {
+		List<MinecraftInterface> fallbacks = new ArrayList<>();
+		MinecraftInterface minecraftInterface = new GenLayerMinecraftInterface(RecognisedVersion._1_8_9, () -> {
+			MinecraftInterface fallback = new HashingMinecraftInterface();
+			fallbacks.add(fallback);
+			return fallback;
+		});
+		minecraftInterface.createWorld(1234, WorldType.DEFAULT, "");
+		minecraftInterface.getBiomeData(0, 0, 16, 16, true);
+		Assert.assertEquals(0, fallbacks.size());
+		minecraftInterface.createWorld(1234, WorldType.CUSTOMIZED, "{\"biomeSize\":6}");
+		minecraftInterface.createWorld(1234, WorldType.CUSTOMIZED, "{\"biomeSize\":2}");
+		Assert.assertArrayEquals(
+				fallbacks.get(0).getBiomeData(0, 0, 16, 16, true),
+				minecraftInterface.getBiomeData(0, 0, 16, 16, true));
+		Assert.assertEquals(1, fallbacks.size());
+	}
+
+	private MinecraftInterface createSupportedMinecraftInterface() throws MinecraftInterfaceException {
+		for (TestWorldDeclaration declaration : TestWorldDeclaration.values()) {
+			if (GenLayerMinecraftInterface.isSupported(declaration.getRecognisedVersion())) {
+				TestWorld testWorld = TestWorldCache.get(declaration);
+				BiomeDataJson quarterBiomeData = testWorld
+						.getEntryValue(TestWorldEntryNames.QUARTER_RESOLUTION_BIOME_DATA, BiomeDataJson.class);
+				BiomeDataJson fullBiomeData = testWorld
+						.getEntryValue(TestWorldEntryNames.FULL_RESOLUTION_BIOME_DATA, BiomeDataJson.class);
+				WorldMetadataJson metadata = testWorld
+						.getEntryValue(TestWorldEntryNames.METADATA, WorldMetadataJson.class);
+				MinecraftInterface minecraftInterface = new GenLayerMinecraftInterface(
+						new FakeMinecraftInterface(metadata, quarterBiomeData, fullBiomeData));
+				minecraftInterface.createWorld(metadata.getSeed(), metadata.getWorldType(), "");
+				return minecraftInterface;
+			}
+		}
+		throw new AssertionError("there is no test world that is supported by the built-in biome generator");
+	}
+
+	private void assertSameSampledBiomeData(
+			MinecraftInterface expected,
+			MinecraftInterface actual,
+			boolean useQuarterResolution) throws MinecraftInterfaceException {
+		int[] result = new int[7 * 5];
+		actual.getSampledBiomeData(-300, 170, 7, 5, 64, useQuarterResolution, result);
+		for (int y = 0; y < 5; y++) {
+			for (int x = 0; x < 7; x++) {
+				Assert.assertEquals(
+						expected.getBiomeData(-300 + x * 64, 170 + y * 64, 1, 1, useQuarterResolution)[0],
+						result[x + y * 7]);
+			}
+		}
+	}
+
+	private void assertSameBiomeData(
+			TestWorldDeclaration declaration,
+			MinecraftInterface minecraftInterface,
+			BiomeDataJson biomeData,
+			boolean useQuarterResolution) throws MinecraftInterfaceException {
+		for (AreaJson area : biomeData.getAreas()) {
+			int x = (int) area.getX();
+			int y = (int) area.getY();
+			int width = (int) area.getWidth();
+			int height = (int) area.getHeight();
+			Assert.assertArrayEquals(
+					"world: " + declaration + ", area: " + x + ", " + y + ", " + width + ", " + height,
+					Arrays.copyOf(biomeData.get(x, y, width, height), width * height),
+					minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution));
+		}
+	}
+}
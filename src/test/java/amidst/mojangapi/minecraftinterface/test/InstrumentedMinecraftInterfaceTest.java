@@ -0,0 +1,77 @@
+package amidst.mojangapi.minecraftinterface.test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.InstrumentedMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.metrics.MinecraftInterfaceMetrics;
+import amidst.mojangapi.minecraftinterface.metrics.RequestArea;
+import amidst.mojangapi.mocking.HashingMinecraftInterface;
+import amidst.mojangapi.world.WorldType;
+
+public class InstrumentedMinecraftInterfaceTest {
+	@Test
+	public void shouldRecordCallsByResolutionAndArea() throws MinecraftInterfaceException {
+		MinecraftInterface original = new HashingMinecraftInterface();
+		MinecraftInterfaceMetrics metrics = new MinecraftInterfaceMetrics();
+		MinecraftInterface instrumented = new InstrumentedMinecraftInterface(original, metrics);
+		original.createWorld(3, WorldType.DEFAULT, "");
+		instrumented.createWorld(3, WorldType.DEFAULT, "");
+
+		Assert.assertArrayEquals(
+				original.getBiomeData(5, 7, 64, 64, true),
+				instrumented.getBiomeData(5, 7, 64, 64, true));
+		instrumented.getBiomeData(0, 0, 1, 1, false, new int[1]);
+		instrumented.getBiomeData(
+				Arrays.asList(new BiomeDataRequest(0, 0, 100, 100), new BiomeDataRequest(0, 0, 1, 1)),
+				false);
+
+		Assert.assertEquals(3, metrics.getNumberOfCalls());
+		Assert.assertEquals(64 * 64 + 1 + 100 * 100 + 1, metrics.getNumberOfCells());
+		Assert.assertEquals(1, metrics.getHistogram(true, RequestArea.MEDIUM).getCount());
+		Assert.assertEquals(1, metrics.getHistogram(false, RequestArea.SMALL).getCount());
+		Assert.assertEquals(1, metrics.getHistogram(false, RequestArea.LARGE).getCount());
+		Assert.assertEquals(Long.valueOf(1), metrics.getCallsByRequest().get("quarter/medium"));
+		metrics.reset();
+		Assert.assertEquals(0, metrics.getNumberOfCalls());
+	}
+
+	@Test
+	public void shouldOnlyRecordWaitWhenRequested() throws MinecraftInterfaceException {
+		MinecraftInterfaceMetrics metrics = new MinecraftInterfaceMetrics();
+		MinecraftInterface instrumented = new InstrumentedMinecraftInterface(new HashingMinecraftInterface() {
+			@Override
+			public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution) {
+				awaitQuietly(new CountDownLatch(1), 50);
+				return super.getBiomeData(x, y, width, height, useQuarterResolution);
+			}
+		}, metrics);
+		instrumented.getBiomeData(0, 0, 1, 1, true);
+		Assert.assertEquals(0, metrics.getWaitMillis());
+		metrics.setWaitMeasured(true);
+		try {
+			Assume.assumeTrue(metrics.isWaitMeasured());
+			instrumented.getBiomeData(0, 0, 1, 1, true);
+			Assert.assertTrue(metrics.getWaitMillis() > 0);
+		} finally {
+			metrics.setWaitMeasured(false);
+		}
+		Assert.assertFalse(metrics.isWaitMeasured());
+	}
+
+	private static void awaitQuietly(CountDownLatch latch, long millis) {
+		try {
+			latch.await(millis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package amidst.mojangapi.minecraftinterface.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.BiomeDataRequest;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.remote.RemoteMinecraftInterface;
+import amidst.mojangapi.mocking.HashingMinecraftInterface;
+import amidst.mojangapi.mocking.InProcessBiomeWorkerLauncher;
+import amidst.mojangapi.world.WorldType;
+
+public class RemoteMinecraftInterfaceTest {
+	@Test
+	public void shouldReturnSameBiomeData() throws IOException, MinecraftInterfaceException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		RemoteMinecraftInterface actual = RemoteMinecraftInterface
+				.start(new InProcessBiomeWorkerLauncher(HashingMinecraftInterface::new), 3);
+		try {
+			expected.createWorld(1234, WorldType.DEFAULT, "");
+			actual.createWorld(1234, WorldType.DEFAULT, "");
+			Assert.assertEquals(expected.getRecognisedVersion(), actual.getRecognisedVersion());
+			Assert.assertArrayEquals(
+					expected.getBiomeData(-5, 7, 100, 30, true),
+					actual.getBiomeData(-5, 7, 100, 30, true));
+			List<BiomeDataRequest> requests = createRequests();
+			List<int[]> biomeData = actual.getBiomeData(requests, false);
+			for (int i = 0; i < requests.size(); i++) {
+				BiomeDataRequest request = requests.get(i);
+				Assert.assertArrayEquals(
+						expected.getBiomeData(
+								request.getX(),
+								request.getY(),
+								request.getWidth(),
+								request.getHeight(),
+								false),
+						biomeData.get(i));
+			}
+		} finally {
+			actual.close();
+		}
+	}
+
+	@Test
+	public void shouldContinueWhenWorkerTerminates()
+			throws IOException,
+			MinecraftInterfaceException,
+			InterruptedException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		InProcessBiomeWorkerLauncher launcher = new InProcessBiomeWorkerLauncher(HashingMinecraftInterface::new);
+		RemoteMinecraftInterface actual = RemoteMinecraftInterface.start(launcher, 2);
+		try {
+			expected.createWorld(42, WorldType.DEFAULT, "");
+			actual.createWorld(42, WorldType.DEFAULT, "");
+			launcher.terminate(0);
+			assertSameBiomeData(expected, actual);
+			awaitRunningWorkers(actual, 2);
+			assertSameBiomeData(expected, actual);
+		} finally {
+			actual.close();
+		}
+	}
+
+	@Test
+	public void shouldContinueWhenWorkerHangs() throws IOException, MinecraftInterfaceException, InterruptedException {
+		HashingMinecraftInterface expected = new HashingMinecraftInterface();
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean isFirstWorker = new AtomicBoolean(true);
+		InProcessBiomeWorkerLauncher launcher = new InProcessBiomeWorkerLauncher(() -> {
+			if (isFirstWorker.getAndSet(false)) {
+				return createHangingMinecraftInterface(release);
+			} else {
+				return new HashingMinecraftInterface();
+			}
+		});
+		RemoteMinecraftInterface actual = RemoteMinecraftInterface.start(launcher, 2, 200);
+		try {
+			expected.createWorld(42, WorldType.DEFAULT, "");
+			actual.createWorld(42, WorldType.DEFAULT, "");
+			List<BiomeDataRequest> requests = createRequests();
+			List<int[]> biomeData = actual.getBiomeData(requests, true);
+			for (int i = 0; i < requests.size(); i++) {
+				BiomeDataRequest request = requests.get(i);
+				Assert.assertArrayEquals(
+						expected.getBiomeData(
+								request.getX(),
+								request.getY(),
+								request.getWidth(),
+								request.getHeight(),
+								true),
+						biomeData.get(i));
+			}
+			awaitRunningWorkers(actual, 2);
+			assertSameBiomeData(expected, actual);
+		} finally {
+			release.countDown();
+			actual.close();
+		}
+	}
+
+	private MinecraftInterface createHangingMinecraftInterface(CountDownLatch release) {
+		return new HashingMinecraftInterface() {
+			@Override
+			public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.getBiomeData(x, y, width, height, useQuarterResolution);
+			}
+		};
+	}
+
+	private void assertSameBiomeData(HashingMinecraftInterface expected, RemoteMinecraftInterface actual)
+			throws MinecraftInterfaceException {
+		for (BiomeDataRequest request : createRequests()) {
+			Assert.assertArrayEquals(
+					expected.getBiomeData(
+							request.getX(),
+							request.getY(),
+							request.getWidth(),
+							request.getHeight(),
+							true),
+					actual.getBiomeData(
+							request.getX(),
+							request.getY(),
+							request.getWidth(),
+							request.getHeight(),
+							true));
+		}
+	}
+
+	/**
+	 * The terminated worker is replaced in the background.
+	 */
+	private void awaitRunningWorkers(RemoteMinecraftInterface actual, int expected) throws InterruptedException {
+		for (int i = 0; i < 1000 && actual.getNumberOfRunningWorkers() != expected; i++) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(expected, actual.getNumberOfRunningWorkers());
+	}
+
+	private List<BiomeDataRequest> createRequests() {
+		List<BiomeDataRequest> result = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			result.add(new BiomeDataRequest(i * 37 - 300, i * 11, 1 + i, 20 - i));
+		}
+		return result;
+	}
+}
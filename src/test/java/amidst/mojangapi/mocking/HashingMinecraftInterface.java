@@ -0,0 +1,43 @@
+package amidst.mojangapi.mocking;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Generates a pseudo random biome index for each coordinate, which only
+ * depends on the seed, the resolution and the coordinate itself.
+ */
+@ThreadSafe
+public class HashingMinecraftInterface implements MinecraftInterface {
+	private volatile long seed;
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution) {
+		int[] result = new int[width * height];
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				result[i + j * width] = getBiome(x + i, y + j, useQuarterResolution);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int x, int y, boolean useQuarterResolution) {
+		long hash = seed * 31 + x;
+		hash = hash * 31 + y;
+		hash = hash * 31 + (useQuarterResolution ? 1 : 0);
+		return (int) ((hash ^ hash >>> 17) & 0xFF);
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions) {
+		this.seed = seed;
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return RecognisedVersion.UNKNOWN;
+	}
+}
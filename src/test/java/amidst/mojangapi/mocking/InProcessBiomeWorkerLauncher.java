@@ -0,0 +1,61 @@
+package amidst.mojangapi.mocking;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.remote.BiomeWorker;
+import amidst.mojangapi.minecraftinterface.remote.BiomeWorkerLauncher;
+
+/**
+ * Runs each biome worker in a thread of this process instead of a separate
+ * process, so the workers can use a minecraft interface that does not need
+ * Minecraft.
+ */
+@ThreadSafe
+public class InProcessBiomeWorkerLauncher implements BiomeWorkerLauncher {
+	private final Supplier<MinecraftInterface> minecraftInterfaceFactory;
+	private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+
+	public InProcessBiomeWorkerLauncher(Supplier<MinecraftInterface> minecraftInterfaceFactory) {
+		this.minecraftInterfaceFactory = minecraftInterfaceFactory;
+	}
+
+	@Override
+	public void launch(int port, long token) throws IOException {
+		Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+		sockets.add(socket);
+		BiomeWorker worker = new BiomeWorker(minecraftInterfaceFactory.get(), socket, token);
+		Thread thread = new Thread(() -> {
+			try {
+				worker.run();
+			} catch (IOException e) {
+				// the worker was terminated
+			} finally {
+				terminate(socket);
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Simulates a crash of the worker.
+	 */
+	public void terminate(int index) {
+		terminate(sockets.get(index));
+	}
+
+	private void terminate(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package amidst.mojangapi.world.test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
+
+public class BiomeSetTest {
+	@Test
+	public void shouldContainExactlyTheGivenBiomes() {
+		Set<Biome> expected = new HashSet<>();
+		for (Biome biome : Biome.allBiomes()) {
+			if (biome.getIndex() % 3 == 0) {
+				expected.add(biome);
+			}
+		}
+		BiomeSet biomeSet = BiomeSet.from(expected);
+		for (Biome biome : Biome.allBiomes()) {
+			Assert.assertEquals(expected.contains(biome), biomeSet.contains(biome.getIndex()));
+		}
+	}
+
+	@Test
+	public void shouldNotContainUnknownBiomeIndexes() {
+		BiomeSet biomeSet = BiomeSet.from(Biome.allBiomes());
+		Assert.assertFalse(biomeSet.contains(-1));
+		Assert.assertFalse(biomeSet.contains(256));
+		Assert.assertFalse(biomeSet.contains(127));
+	}
+
+	@Test
+	public void shouldOnlyCheckTheRequestedLength() {
+		BiomeSet biomeSet = BiomeSet.of(Biome.plains, Biome.desert);
+		int[] biomeData = { Biome.plains.getIndex(), Biome.desert.getIndex(), Biome.ocean.getIndex() };
+		Assert.assertTrue(biomeSet.containsAll(biomeData, 2));
+		Assert.assertFalse(biomeSet.containsAll(biomeData, 3));
+	}
+}
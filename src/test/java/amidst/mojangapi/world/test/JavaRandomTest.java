@@ -0,0 +1,48 @@
+package amidst.mojangapi.world.test;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.world.oracle.JavaRandom;
+
+public class JavaRandomTest {
+	private static final long[] SEEDS = { 0L, 1L, -1L, 42L, -1364077613L, Long.MIN_VALUE, Long.MAX_VALUE };
+	private static final int[] BOUNDS = { 1, 2, 3, 8, 10, 80, 100, 1 << 30, Integer.MAX_VALUE };
+	private static final int VALUES_PER_SEED = 1000;
+
+	@Test
+	public void shouldProduceTheSameValuesAsJavaUtilRandom() {
+		for (long seed : SEEDS) {
+			Random expected = new Random(seed);
+			JavaRandom actual = new JavaRandom(seed);
+			for (int i = 0; i < VALUES_PER_SEED; i++) {
+				Assert.assertEquals(expected.nextInt(), actual.nextInt());
+				Assert.assertEquals(expected.nextInt(BOUNDS[i % BOUNDS.length]), actual.nextInt(BOUNDS[i % BOUNDS.length]));
+				Assert.assertEquals(expected.nextLong(), actual.nextLong());
+				Assert.assertEquals(
+						Double.doubleToRawLongBits(expected.nextDouble()),
+						Double.doubleToRawLongBits(actual.nextDouble()));
+			}
+		}
+	}
+
+	@Test
+	public void shouldProduceTheSameValuesAfterSetSeed() {
+		Random expected = new Random();
+		JavaRandom actual = new JavaRandom(0L);
+		for (long seed : SEEDS) {
+			expected.setSeed(seed);
+			actual.setSeed(seed);
+			for (int i = 0; i < VALUES_PER_SEED; i++) {
+				Assert.assertEquals(expected.nextInt(10), actual.nextInt(10));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveBound() {
+		new JavaRandom(0L).nextInt(0);
+	}
+}
@@ -0,0 +1,37 @@
+package amidst.mojangapi.world.test;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.world.oracle.SimplexNoise;
+
+public class SimplexNoiseTest {
+	private static final int WIDTH = 57;
+	private static final int HEIGHT = 43;
+
+	private final SimplexNoise noiseFunction = new SimplexNoise(new Random(-1364077613L));
+
+	@Test
+	public void shouldEvaluateAreaLikeSinglePoints() {
+		// @formatter:off
+		assertAreaEqualsSinglePoints(      0,       0);
+		assertAreaEqualsSinglePoints(    -70,     -20);
+		assertAreaEqualsSinglePoints(   1280,   -768);
+		assertAreaEqualsSinglePoints(-187500,  187500);
+		// @formatter:on
+	}
+
+	private void assertAreaEqualsSinglePoints(int x0, int y0) {
+		double[] result = new double[WIDTH * HEIGHT];
+		noiseFunction.noise(x0, y0, WIDTH, HEIGHT, result);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				Assert.assertEquals(
+						Double.doubleToRawLongBits(noiseFunction.noise(x0 + x, y0 + y)),
+						Double.doubleToRawLongBits(result[x + y * WIDTH]));
+			}
+		}
+	}
+}
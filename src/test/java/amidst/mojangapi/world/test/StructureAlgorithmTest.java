@@ -0,0 +1,46 @@
+package amidst.mojangapi.world.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.world.icon.locationchecker.StructureAlgorithm;
+
+public class StructureAlgorithmTest {
+	private static final int SIZE = 32;
+
+	private final StructureAlgorithm algorithm = new StructureAlgorithm(
+			-1364077613L,
+			341873128712L,
+			132897987541L,
+			10387313L,
+			(byte) 20,
+			(byte) 11,
+			true);
+
+	@Test
+	public void shouldReturnExactlyTheValidLocationsAsCandidates() {
+		for (int left = -2 * SIZE; left <= SIZE; left += SIZE) {
+			for (int top = -2 * SIZE; top <= SIZE; top += SIZE) {
+				int[] x = new int[SIZE * SIZE];
+				int[] y = new int[SIZE * SIZE];
+				int count = algorithm.candidatesIn(left, top, SIZE, SIZE, x, y);
+				for (int i = 0; i < count; i++) {
+					Assert.assertTrue(algorithm.isValidLocation(x[i], y[i]));
+				}
+				Assert.assertEquals(countValidLocations(left, top), count);
+			}
+		}
+	}
+
+	private int countValidLocations(int left, int top) {
+		int result = 0;
+		for (int x = left; x < left + SIZE; x++) {
+			for (int y = top; y < top + SIZE; y++) {
+				if (algorithm.isValidLocation(x, y)) {
+					result++;
+				}
+			}
+		}
+		return result;
+	}
+}